@@ -104,6 +104,7 @@ public class Export extends AbstractAction {
         public static final ExportExtensionFileFilter[] EXT_FILE_FILTERS = {
             new ExportExtensionFileFilter("csv", LocalisationHelper.getString("fileexport_dialog_csv"), DataWriterType.CSV),
             new ExportExtensionFileFilter("csv", LocalisationHelper.getString("fileexport_dialog_csv_ts"), DataWriterType.CSV_TS),
+            new ExportExtensionFileFilter("csv", LocalisationHelper.getString("fileexport_dialog_csv_percentiles"), DataWriterType.CSV_PERCENTILES),
             new ExportExtensionFileFilter("txt", LocalisationHelper.getString("fileexport_dialog_txt"), DataWriterType.PLAIN),
             new ExportExtensionFileFilter("simple.log", LocalisationHelper.getString("fileexport_dialog_simplelog"), DataWriterType.SIMPLE),
             new ExportExtensionFileFilter("csv", LocalisationHelper.getString("fileexport_dialog_summarylog"), DataWriterType.SUMMARY),
@@ -1,13 +1,16 @@
 package com.tagtraum.perf.gcviewer.ctrl.impl;
 
 import com.tagtraum.perf.gcviewer.ctrl.GCModelLoader;
+import com.tagtraum.perf.gcviewer.imp.AbstractDataReader;
 import com.tagtraum.perf.gcviewer.imp.DataReaderException;
 import com.tagtraum.perf.gcviewer.imp.MonitoredBufferedInputStream;
 import com.tagtraum.perf.gcviewer.model.GCModel;
 
 import javax.swing.*;
 import java.beans.PropertyChangeEvent;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -16,12 +19,66 @@ import java.util.logging.Logger;
  *
  * @author martin.geldmacher (refactored)
  */
-public abstract class AbstractGCModelLoaderImpl extends SwingWorker<GCModel, Object> implements GCModelLoader {
+public abstract class AbstractGCModelLoaderImpl extends SwingWorker<GCModel, GCModel> implements GCModelLoader {
+    /** minimum time between two snapshots displayed while loading */
+    private static final long MIN_SNAPSHOT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    /** time between two snapshots relative to the time it took to display the last one */
+    private static final int SNAPSHOT_INTERVAL_FACTOR = 10;
+
+    /** model being filled by the reader (only accessed through snapshots while loading) */
+    private volatile GCModel modelInProgress;
+    private volatile long snapshotIntervalNanos = MIN_SNAPSHOT_INTERVAL_NANOS;
+    private long lastSnapshotNanos = System.nanoTime();
+
     @Override
     public void propertyChange(PropertyChangeEvent evt) {
         if (evt.getPropertyName() == MonitoredBufferedInputStream.PROGRESS) {
             setProgress((int) evt.getNewValue());
+            publishSnapshot();
+        }
+        else if (AbstractDataReader.PROPERTY_MODEL.equals(evt.getPropertyName())) {
+            modelInProgress = (GCModel) evt.getNewValue();
+        }
+    }
+
+    /**
+     * Returns <code>true</code>, if this loader should display the events read so far while loading.
+     *
+     * @return <code>true</code>, if snapshots of the model should be displayed while loading
+     */
+    protected boolean isProgressiveDisplay() {
+        return false;
+    }
+
+    /**
+     * Publishes a snapshot of the model being read, if enough time has passed since the last one.
+     * The interval adapts to the time the views need to display a snapshot, so that the display
+     * never takes a relevant share of the time needed for parsing. Called in the reading thread.
+     */
+    private void publishSnapshot() {
+        GCModel model = modelInProgress;
+        if (!isProgressiveDisplay() || model == null || getGcResource().isReload()) {
+            // a reload keeps displaying the previous model until it is complete
+            return;
         }
+
+        long now = System.nanoTime();
+        if (now - lastSnapshotNanos >= snapshotIntervalNanos) {
+            lastSnapshotNanos = now;
+            publish(model.snapshot());
+        }
+    }
+
+    @Override
+    protected void process(List<GCModel> snapshots) {
+        GCModel snapshot = snapshots.get(snapshots.size() - 1);
+        if (isDone() || snapshot.size() == 0) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        getGcResource().setModel(snapshot);
+        snapshotIntervalNanos = Math.max(MIN_SNAPSHOT_INTERVAL_NANOS, SNAPSHOT_INTERVAL_FACTOR * (System.nanoTime() - start));
     }
 
     protected void done() {
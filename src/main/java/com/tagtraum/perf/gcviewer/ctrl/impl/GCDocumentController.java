@@ -45,7 +45,8 @@ public class GCDocumentController implements PropertyChangeListener {
     public void propertyChange(PropertyChangeEvent evt) {
         if ("state".equals(evt.getPropertyName()) && SwingWorker.StateValue.DONE == evt.getNewValue()) {
             // for every model that has finished loading, the document must be laid out again
-            gcDocument.relayout();
+            // (models finishing at about the same time are laid out together)
+            gcDocument.scheduleRelayout();
 
             GCModelLoader modelLoader = (GCModelLoader) evt.getSource();
             modelLoader.removePropertyChangeListener(this);
@@ -24,6 +24,11 @@ public class GCModelLoaderImpl extends AbstractGCModelLoaderImpl {
         this.dataReaderFacade.addPropertyChangeListener(this); // receive progress updates from loading
     }
 
+    @Override
+    protected boolean isProgressiveDisplay() {
+        return true;
+    }
+
     @Override
     protected GCModel loadGcModel() throws DataReaderException {
         return dataReaderFacade.loadModel(gcResource);
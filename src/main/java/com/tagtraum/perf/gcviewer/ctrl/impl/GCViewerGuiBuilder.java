@@ -173,6 +173,14 @@ public class GCViewerGuiBuilder {
         menuItemGcTimesRectangle.addActionListener(viewMenuController);
         menuBar.addToViewMenu(GCPreferences.GC_TIMES_RECTANGLES, menuItemGcTimesRectangle);
 
+        StayOpenCheckBoxMenuItem menuItemPausePercentileLine = new StayOpenCheckBoxMenuItem(LocalisationHelper.getString("main_frame_menuitem_pause_percentile_line"), true);
+        menuItemPausePercentileLine.setMnemonic(LocalisationHelper.getString("main_frame_menuitem_mnemonic_pause_percentile_line").charAt(0));
+        menuItemPausePercentileLine.setToolTipText(LocalisationHelper.getString("main_frame_menuitem_hint_pause_percentile_line"));
+        menuItemPausePercentileLine.setIcon(ImageHelper.createMonoColoredImageIcon(PausePercentileRenderer.DEFAULT_LINEPAINT, 20, 20));
+        menuItemPausePercentileLine.setActionCommand(GCPreferences.PAUSE_PERCENTILE_LINE);
+        menuItemPausePercentileLine.addActionListener(viewMenuController);
+        menuBar.addToViewMenu(GCPreferences.PAUSE_PERCENTILE_LINE, menuItemPausePercentileLine);
+
         StayOpenCheckBoxMenuItem menuItemTotalMemory = new StayOpenCheckBoxMenuItem(LocalisationHelper.getString("main_frame_menuitem_total_memory"), true);
         menuItemTotalMemory.setMnemonic(LocalisationHelper.getString("main_frame_menuitem_mnemonic_total_memory").charAt(0));
         menuItemTotalMemory.setToolTipText(LocalisationHelper.getString("main_frame_menuitem_hint_total_memory"));
@@ -221,6 +229,14 @@ public class GCViewerGuiBuilder {
         menuItemUsedYoungMemory.addActionListener(viewMenuController);
         menuBar.addToViewMenu(GCPreferences.USED_YOUNG_MEMORY, menuItemUsedYoungMemory);
 
+        StayOpenCheckBoxMenuItem menuItemAllocationRateLine = new StayOpenCheckBoxMenuItem(LocalisationHelper.getString("main_frame_menuitem_allocation_rate_line"), true);
+        menuItemAllocationRateLine.setMnemonic(LocalisationHelper.getString("main_frame_menuitem_mnemonic_allocation_rate_line").charAt(0));
+        menuItemAllocationRateLine.setToolTipText(LocalisationHelper.getString("main_frame_menuitem_hint_allocation_rate_line"));
+        menuItemAllocationRateLine.setIcon(ImageHelper.createMonoColoredImageIcon(AllocationRateRenderer.DEFAULT_LINEPAINT, 20, 20));
+        menuItemAllocationRateLine.setActionCommand(GCPreferences.ALLOCATION_RATE_LINE);
+        menuItemAllocationRateLine.addActionListener(viewMenuController);
+        menuBar.addToViewMenu(GCPreferences.ALLOCATION_RATE_LINE, menuItemAllocationRateLine);
+
         StayOpenCheckBoxMenuItem menuItemInitialMarkLevel = new StayOpenCheckBoxMenuItem(LocalisationHelper.getString("main_frame_menuitem_initial_mark_level"), true);
         menuItemInitialMarkLevel.setMnemonic(LocalisationHelper.getString("main_frame_menuitem_mnemonic_initial_mark_level").charAt(0));
         menuItemInitialMarkLevel.setToolTipText(LocalisationHelper.getString("main_frame_menuitem_hint_initial_mark_level"));
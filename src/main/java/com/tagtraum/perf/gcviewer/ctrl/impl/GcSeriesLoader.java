@@ -110,7 +110,8 @@ public class GcSeriesLoader {
 
     private Optional<GCModel> loadGcModel(GCResource resource) {
         try {
-            return Optional.of(dataReaderFacade.loadModel(resource));
+            // the models are merged afterwards -> must not be frozen yet
+            return Optional.of(dataReaderFacade.loadMutableModel(resource));
         }
         catch (DataReaderException ex) {
             logger.log(Level.WARNING, "Failed to read " + resource + ". Reason: " + ex.getMessage());
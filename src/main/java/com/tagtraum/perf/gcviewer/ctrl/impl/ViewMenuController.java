@@ -59,6 +59,12 @@ public class ViewMenuController implements ActionListener, PropertyChangeListene
         else if (GCPreferences.GC_TIMES_RECTANGLES.equals(e.getActionCommand())) {
             gui.getSelectedGCDocument().getModelChart().setShowGCTimesRectangles(state);
         }
+        else if (GCPreferences.PAUSE_PERCENTILE_LINE.equals(e.getActionCommand())) {
+            gui.getSelectedGCDocument().getModelChart().setShowPausePercentileLine(state);
+        }
+        else if (GCPreferences.ALLOCATION_RATE_LINE.equals(e.getActionCommand())) {
+            gui.getSelectedGCDocument().getModelChart().setShowAllocationRateLine(state);
+        }
         else if (GCPreferences.TOTAL_MEMORY.equals(e.getActionCommand())) {
             gui.getSelectedGCDocument().getModelChart().setShowTotalMemoryLine(state);
         }
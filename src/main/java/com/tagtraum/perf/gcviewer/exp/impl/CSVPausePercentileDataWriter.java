@@ -0,0 +1,66 @@
+package com.tagtraum.perf.gcviewer.exp.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+import com.tagtraum.perf.gcviewer.exp.AbstractDataWriter;
+import com.tagtraum.perf.gcviewer.math.RollingPercentiles;
+import com.tagtraum.perf.gcviewer.model.GCModel;
+
+/**
+ * Exports percentiles of the stop the world pauses per time window with comma separated values.
+ * <p>
+ * It uses the {@literal "Timestamp(sec),Count,P50(sec),P90(sec),P99(sec),Max(sec)"} format; the
+ * timestamp is the start of the window. Windows without pauses are omitted.
+ */
+public class CSVPausePercentileDataWriter extends AbstractDataWriter {
+    /** key of the window size in seconds (<code>Number</code>) in the configuration */
+    public static final String WINDOW_SIZE = "pausePercentileWindowSize";
+    private static final double DEFAULT_WINDOW_SIZE = 3600;
+
+    public CSVPausePercentileDataWriter(OutputStream out) {
+        this(out, null);
+    }
+
+    /**
+     * @param out where to write the output to
+     * @param configuration may contain the window size as <code>Number</code> under {@link #WINDOW_SIZE}
+     * (default: one hour)
+     */
+    public CSVPausePercentileDataWriter(OutputStream out, Map<String, Object> configuration) {
+        super(out, configuration);
+    }
+
+    private void writeHeader() {
+        out.println("Timestamp(sec),Count,P50(sec),P90(sec),P99(sec),Max(sec)");
+    }
+
+    /**
+     * Writes the model and flushes the internal PrintWriter.
+     */
+    public void write(GCModel model) throws IOException {
+        writeHeader();
+
+        Object windowSize = getConfiguration().get(WINDOW_SIZE);
+        RollingPercentiles pausePercentiles = model.getPausePercentiles();
+        pausePercentiles.forEachWindow(
+                windowSize instanceof Number ? ((Number) windowSize).doubleValue() : DEFAULT_WINDOW_SIZE,
+                (pauses, start) -> {
+                    out.print(start);
+                    out.print(',');
+                    out.print(pauses.getN());
+                    out.print(',');
+                    out.print(pauses.getPercentile(50));
+                    out.print(',');
+                    out.print(pauses.getPercentile(90));
+                    out.print(',');
+                    out.print(pauses.getPercentile(99));
+                    out.print(',');
+                    out.println(pauses.getMax());
+                });
+
+        out.flush();
+    }
+
+}
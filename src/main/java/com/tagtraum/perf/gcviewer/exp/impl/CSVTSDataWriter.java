@@ -42,7 +42,7 @@ public class CSVTSDataWriter extends AbstractDataWriter {
 
                 // If the true timestamp is present, output the unix timestamp
                 if (model.hasDateStamp()) {
-                    out.print(event.getDatestamp().toInstant().getEpochSecond());
+                    out.print(Math.floorDiv(event.getDatestampMillis(), 1000));
                 } else if (model.hasCorrectTimestamp()) {
                     // we have the timestamps therefore we can correct it with the pause time
                     out.print((event.getTimestamp() - event.getPause()));
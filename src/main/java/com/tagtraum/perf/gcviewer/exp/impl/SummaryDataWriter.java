@@ -13,6 +13,8 @@ import java.util.Map.Entry;
 import com.tagtraum.perf.gcviewer.exp.AbstractDataWriter;
 import com.tagtraum.perf.gcviewer.math.DoubleData;
 import com.tagtraum.perf.gcviewer.math.DoubleDataPercentile;
+import com.tagtraum.perf.gcviewer.math.MutatorUtilization;
+import com.tagtraum.perf.gcviewer.math.RateSeries;
 import com.tagtraum.perf.gcviewer.model.GCModel;
 import com.tagtraum.perf.gcviewer.util.FormattedValue;
 import com.tagtraum.perf.gcviewer.util.MemoryFormat;
@@ -29,6 +31,12 @@ import com.tagtraum.perf.gcviewer.util.TimeFormat;
  */
 public class SummaryDataWriter extends AbstractDataWriter {
 
+    // window sizes (in seconds) of the exported mutator utilisation
+    private static final double[] UTILIZATION_WINDOWS = {0.01, 0.1, 1, 10, 60};
+    private static final String[] UTILIZATION_WINDOW_NAMES = {"10ms", "100ms", "1s", "10s", "60s"};
+    // window size (in seconds) of the peak allocation / promotion rates
+    private static final double PEAK_RATE_WINDOW = 60;
+
     private ISummaryExportFormatter formatter;
 
     /*
@@ -152,11 +160,21 @@ public class SummaryDataWriter extends AbstractDataWriter {
 
             formed = freedMemoryPerMinFormatter.formatToFormatted(model.getFreedMemory()/model.getRunningTime()*60.0);
             exportValue(out, "freedMemoryPerMin", formed.getValue(), formed.getUnits() + "/min");
+
+            MutatorUtilization utilization = model.getMutatorUtilization(UTILIZATION_WINDOWS);
+            for (int i = 0; i < UTILIZATION_WINDOWS.length; i++) {
+                exportValue(out, "mmu" + UTILIZATION_WINDOW_NAMES[i], throughputFormatter.format(utilization.getMinimumUtilization(i) * 100), "%");
+                exportValue(out, "bmu" + UTILIZATION_WINDOW_NAMES[i], throughputFormatter.format(utilization.getBoundedMinimumUtilization(i) * 100), "%");
+            }
         }
         else {
             exportValue(out, "throughput", "n.a.", "%");
             exportValue(out, "totalTime", "n.a.", "s");
             exportValue(out, "freedMemoryPerMin", "n.a.", "M/min");
+            for (String windowName : UTILIZATION_WINDOW_NAMES) {
+                exportValue(out, "mmu" + windowName, "n.a.", "%");
+                exportValue(out, "bmu" + windowName, "n.a.", "%");
+            }
         }
 
         final boolean gcDataAvailable = model.getGCPause().getN() > 0;
@@ -446,6 +464,22 @@ public class SummaryDataWriter extends AbstractDataWriter {
             formed = footprintFormatter.formatToFormatted(model.getPromotion().getSum());
             exportValue(out, "promotionTotal", formed.getValue(), formed.getUnits());
         }
+
+        exportRate(out, "AllocationRate", model.getAllocationRate());
+        exportRate(out, "PromotionRate", model.getPromotionRate());
+    }
+
+    private void exportRate(PrintWriter out, String name, RateSeries rate) {
+        if (rate.size() == 0) {
+            exportValue(out, "avg" + name, "n.a.", "M/s");
+            exportValue(out, "peak" + name, "n.a.", "M/s");
+        }
+        else {
+            FormattedValue formed = footprintSlopeFormatter.formatToFormatted(rate.getAverageRate());
+            exportValue(out, "avg" + name, formed.getValue(), formed.getUnits() + "/s");
+            formed = footprintSlopeFormatter.formatToFormatted(rate.getMaxAverageRate(PEAK_RATE_WINDOW));
+            exportValue(out, "peak" + name, formed.getValue(), formed.getUnits() + "/s");
+        }
     }
 
     private FormattedValue sigmaMemoryFormat(double value) {
@@ -1,5 +1,7 @@
 package com.tagtraum.perf.gcviewer.imp;
 
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -20,6 +22,9 @@ import com.tagtraum.perf.gcviewer.model.GCResource;
  */
 public abstract class AbstractDataReader implements DataReader {
 
+    /** property fired by {@link #createModel()}; new value is the model this reader is going to fill */
+    public static final String PROPERTY_MODEL = "model";
+
     /** the resource being read */
     protected GCResource gcResource;
     /** the reader accessing the log file */
@@ -44,6 +49,7 @@ public abstract class AbstractDataReader implements DataReader {
     }
 
     private DataReaderTools dataReaderTools;
+    private PropertyChangeSupport propertyChangeSupport = new PropertyChangeSupport(this);
 
     protected DataReaderTools getDataReaderTools() {
         if (dataReaderTools == null) {
@@ -56,6 +62,28 @@ public abstract class AbstractDataReader implements DataReader {
     @Override
     public abstract GCModel read() throws IOException;
 
+    /**
+     * Add listener to be informed about the model created by this reader (see {@link #PROPERTY_MODEL}).
+     * It is informed in the thread reading the model; the model may only be accessed through
+     * {@link GCModel#snapshot()}, as long as it is being read.
+     *
+     * @param listener listener to be informed about the model being read
+     */
+    public void addPropertyChangeListener(PropertyChangeListener listener) {
+        propertyChangeSupport.addPropertyChangeListener(listener);
+    }
+
+    /**
+     * Creates the model this reader fills and informs the listeners about it.
+     *
+     * @return new empty model
+     */
+    protected GCModel createModel() {
+        GCModel model = new GCModel();
+        propertyChangeSupport.firePropertyChange(PROPERTY_MODEL, null, model);
+        return model;
+    }
+
     /**
      * Returns <code>true</code> as long as read was not cancelled.
      * @return <code>true</code> as long as read was not cancelled
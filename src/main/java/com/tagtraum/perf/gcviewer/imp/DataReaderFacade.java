@@ -32,7 +32,8 @@ public class DataReaderFacade {
     private List<PropertyChangeListener> propertyChangeListeners = new ArrayList<PropertyChangeListener>();
 
     /**
-     * Add propertyChangeListener for underlying MonitoredBufferedInputStreams property "progress".
+     * Add propertyChangeListener for underlying MonitoredBufferedInputStreams property "progress"
+     * and the readers' property {@link AbstractDataReader#PROPERTY_MODEL}.
      *
      * @param listener component requiring to listen to progress changes
      */
@@ -41,7 +42,8 @@ public class DataReaderFacade {
     }
 
     /**
-     * Loads a model from a given <code>gcResource</code> logging all exceptions that occur.
+     * Loads a model from a given <code>gcResource</code> logging all exceptions that occur. The model
+     * is frozen (see {@link GCModel#freeze()}).
      *
      * @param gcResource where to find data to be parsed
      * @return instance of GCModel containing all information that was parsed
@@ -49,6 +51,21 @@ public class DataReaderFacade {
      * to this exception
      */
     public GCModel loadModel(GCResource gcResource) throws DataReaderException {
+        GCModel model = loadMutableModel(gcResource);
+        model.freeze();
+        return model;
+    }
+
+    /**
+     * Like {@link #loadModel(GCResource)}, but the model is not frozen, so that more events can be
+     * added to it (used to merge a series of files).
+     *
+     * @param gcResource where to find data to be parsed
+     * @return instance of GCModel containing all information that was parsed
+     * @throws DataReaderException if any exception occurred, it is logged and added as the cause
+     * to this exception
+     */
+    public GCModel loadMutableModel(GCResource gcResource) throws DataReaderException {
         if (gcResource == null) {
             throw new NullPointerException("gcResource must never be null");
         }
@@ -130,6 +147,11 @@ public class DataReaderFacade {
             }
 
             DataReader reader = factory.getDataReader(gcResource, in);
+            if (reader instanceof AbstractDataReader) {
+                for (PropertyChangeListener listener : propertyChangeListeners) {
+                    ((AbstractDataReader) reader).addPropertyChangeListener(listener);
+                }
+            }
             GCModel model = reader.read();
             model.setURL(url);
 
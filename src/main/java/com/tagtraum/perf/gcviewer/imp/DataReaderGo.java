@@ -48,7 +48,7 @@ public class DataReaderGo extends AbstractDataReader {
         if (getLogger().isLoggable(Level.INFO)) getLogger().info("Reading Go format...");
 
         try (LineNumberReader in = this.in) {
-            GCModel model = new GCModel();
+            GCModel model = createModel();
             model.setFormat(GCModel.Format.GO);
             ParseInformation parsePosition = new ParseInformation(0);
 
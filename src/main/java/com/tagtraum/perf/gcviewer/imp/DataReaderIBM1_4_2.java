@@ -39,7 +39,7 @@ public class DataReaderIBM1_4_2 extends AbstractDataReader {
     public GCModel read() throws IOException {
         if (getLogger().isLoggable(Level.INFO)) getLogger().info("Reading IBM 1.4.2 format...");
         try {
-            final GCModel model = new GCModel();
+            final GCModel model = createModel();
             model.setFormat(GCModel.Format.IBM_VERBOSE_GC);
             int state = 0;
             String line = null;
@@ -46,7 +46,7 @@ public class DataReaderIBM_J9_5_0 extends AbstractDataReader {
     public GCModel read() throws IOException {
         if (getLogger().isLoggable(Level.INFO)) getLogger().info("Reading IBM J9 5.0 format...");
         try (InputStream inStream = this.inputStream){
-            final GCModel model = new GCModel();
+            final GCModel model = createModel();
             model.setFormat(GCModel.Format.IBM_VERBOSE_GC);
             DefaultHandler handler = new IBMJ9SAXHandler(gcResource, model);
 
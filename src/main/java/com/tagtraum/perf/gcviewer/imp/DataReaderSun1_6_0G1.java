@@ -181,7 +181,7 @@ public class DataReaderSun1_6_0G1 extends AbstractDataReaderSun {
         if (getLogger().isLoggable(Level.INFO)) getLogger().info("Reading Sun 1.6.x .. 1.8.x G1 format...");
 
         try (LineNumberReader in = this.in) {
-            GCModel model = new GCModel();
+            GCModel model = createModel();
             // TODO what is this for?
             model.setFormat(GCModel.Format.SUN_X_LOG_GC);
             String line;
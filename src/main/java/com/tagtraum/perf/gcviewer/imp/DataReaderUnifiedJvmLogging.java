@@ -218,7 +218,7 @@ public class DataReaderUnifiedJvmLogging extends AbstractDataReader {
             Map<String, AbstractGCEvent<?>> partialEventsMap = new HashMap<>();
             Map<String, Object> infoMap = new HashMap<>();
 
-            GCModel model = new GCModel();
+            GCModel model = createModel();
             model.setFormat(GCModel.Format.UNIFIED_JVM_LOGGING);
 
             Stream<String> lines = in.lines();
@@ -33,6 +33,21 @@ public class DoubleData implements Serializable {
         max = Math.max(max, x);
     }
 
+    /**
+     * Adds all values of <code>other</code> (as if they had been added to this instance).
+     */
+    public void merge(DoubleData other) {
+        if (other.n == 0) {
+            return;
+        }
+
+        sum += other.sum;
+        sumSquares += other.sumSquares;
+        n += other.n;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
     public int getN() {
         return n;
     }
@@ -77,13 +92,11 @@ public class DoubleData implements Serializable {
     }
 
     public static double weightedAverage(double[] n, int[] weight) {
-        double sum = 0;
         int m = 0;
-        for (int i=0; i<n.length; i++) {
-            sum += n[i]*weight[i];
+        for (int i=0; i<weight.length; i++) {
             m += weight[i];
         }
-        return sum / m;
+        return Sum.sumOfWeighted(n, weight) / m;
     }
 
     @Override
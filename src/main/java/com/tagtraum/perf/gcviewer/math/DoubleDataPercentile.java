@@ -8,7 +8,7 @@ import java.util.List;
  * Extends {@link DoubleData} with the functionality to calculate percentiles.
  */
 public class DoubleDataPercentile extends DoubleData {
-    private List<Double> doubleSet = new ArrayList<>();
+    private ArrayList<Double> doubleSet = new ArrayList<>();
     private boolean isSorted = false;
 
     @Override
@@ -18,6 +18,15 @@ public class DoubleDataPercentile extends DoubleData {
         isSorted = false;
     }
 
+    @Override
+    public void merge(DoubleData other) {
+        super.merge(other);
+        if (other instanceof DoubleDataPercentile) {
+            doubleSet.addAll(((DoubleDataPercentile) other).doubleSet);
+            isSorted = false;
+        }
+    }
+
     /**
      * return the n-th percentile of the list.
      * @param percentile percentile as floating point number (median = 50.0)
@@ -25,9 +34,7 @@ public class DoubleDataPercentile extends DoubleData {
      */
     public double getPercentile(double percentile) {
         // https://matheguru.com/stochastik/quantil-perzentil.html
-        if (!isSorted) {
-            Collections.sort(doubleSet);
-        }
+        sort();
 
         if (percentile < 10) {
             percentile = 10;
@@ -45,6 +52,22 @@ public class DoubleDataPercentile extends DoubleData {
         return doubleSet.get((int)position-1);
     }
 
+    /**
+     * Sorts the values and releases unused capacity. Afterwards, reading percentiles does not
+     * modify this instance any more (until more values are added).
+     */
+    public void compact() {
+        sort();
+        doubleSet.trimToSize();
+    }
+
+    private void sort() {
+        if (!isSorted) {
+            Collections.sort(doubleSet);
+            isSorted = true;
+        }
+    }
+
     /**
      * return all double data.
      * @return list of double data
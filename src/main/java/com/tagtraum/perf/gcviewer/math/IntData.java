@@ -33,6 +33,21 @@ public class IntData implements Serializable  {
         max = Math.max(max, x);
     }
 
+    /**
+     * Adds all values of <code>other</code> (as if they had been added to this instance).
+     */
+    public void merge(IntData other) {
+        if (other.n == 0) {
+            return;
+        }
+
+        sum += other.sum;
+        sumSquares += other.sumSquares;
+        n += other.n;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
     public int getN() {
         return n;
     }
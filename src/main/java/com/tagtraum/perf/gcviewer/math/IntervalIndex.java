@@ -0,0 +1,219 @@
+package com.tagtraum.perf.gcviewer.math;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Index over closed intervals [start, end] to find all intervals overlapping a range in
+ * O(log n + k). The intervals are kept in primitive arrays sorted by their start; the array
+ * is the in-order layout of an implicit balanced binary tree, each node of which holds the
+ * maximum end of its subtree. Subtrees ending before the range are skipped.
+ *
+ * <p>Intervals are identified by their position in the arrays passed to the constructor. The
+ * index can't be changed after construction and may be read by several threads.</p>
+ */
+public class IntervalIndex {
+    // subtrees of this level or lower are scanned linearly
+    private static final int LINEAR_SCAN_LEVEL = 3;
+
+    private final double[] starts;
+    private final double[] ends;
+    private final int[] ids;
+    // maximum end of the subtree below each node of the implicit tree
+    private final double[] maxEnds;
+    private final int maxLevel;
+
+    /**
+     * @param starts start of each interval
+     * @param ends end of each interval (&gt;= start); same length as <code>starts</code>
+     */
+    public IntervalIndex(double[] starts, double[] ends) {
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException("starts and ends must have the same length (" + starts.length + " != " + ends.length + ")");
+        }
+
+        int[] order = sortedOrder(starts);
+        this.starts = new double[order.length];
+        this.ends = new double[order.length];
+        this.ids = order;
+        for (int i = 0; i < order.length; i++) {
+            this.starts[i] = starts[order[i]];
+            this.ends[i] = ends[order[i]];
+        }
+        this.maxEnds = new double[order.length];
+        this.maxLevel = buildTree();
+    }
+
+    /**
+     * Returns the order of the positions of <code>values</code> sorted by value (stable merge sort;
+     * values, that are already sorted, are only compared once).
+     */
+    private static int[] sortedOrder(double[] values) {
+        int[] order = new int[values.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+
+        int[] buffer = new int[values.length];
+        for (int width = 1; width < order.length; width *= 2) {
+            for (int left = 0; left < order.length - width; left += 2 * width) {
+                int middle = left + width;
+                int right = Math.min(left + 2 * width, order.length);
+                if (values[order[middle - 1]] <= values[order[middle]]) {
+                    // already in order
+                    continue;
+                }
+
+                int i = left;
+                int j = middle;
+                int k = left;
+                while (i < middle && j < right) {
+                    buffer[k++] = values[order[j]] < values[order[i]] ? order[j++] : order[i++];
+                }
+                while (i < middle) buffer[k++] = order[i++];
+                while (j < right) buffer[k++] = order[j++];
+                System.arraycopy(buffer, left, order, left, right - left);
+            }
+        }
+
+        return order;
+    }
+
+    /**
+     * Computes the maximum ends of all nodes of the implicit tree. Leaves are at even positions; the
+     * nodes of level k are at positions, whose lowest k bits are set. Nodes missing at the end of the
+     * array are represented by the maximum end of their last existing descendant.
+     *
+     * @return level of the root
+     */
+    private int buildTree() {
+        int n = starts.length;
+        if (n == 0) {
+            return -1;
+        }
+
+        int lastIndex = 0;
+        double lastMaxEnd = 0;
+        for (int i = 0; i < n; i += 2) {
+            lastIndex = i;
+            lastMaxEnd = maxEnds[i] = ends[i];
+        }
+
+        int level = 1;
+        for (; 1L << level <= n; level++) {
+            int halfWidth = 1 << (level - 1);
+            long step = (long) halfWidth << 2;
+            for (long i = ((long) halfWidth << 1) - 1; i < n; i += step) {
+                int node = (int) i;
+                double leftMaxEnd = maxEnds[node - halfWidth];
+                double rightMaxEnd = node + halfWidth < n ? maxEnds[node + halfWidth] : lastMaxEnd;
+                maxEnds[node] = Math.max(ends[node], Math.max(leftMaxEnd, rightMaxEnd));
+            }
+            // parent of the last node of the previous level
+            lastIndex = ((lastIndex >> level) & 1) != 0 ? lastIndex - halfWidth : lastIndex + halfWidth;
+            if (lastIndex < n && maxEnds[lastIndex] > lastMaxEnd) {
+                lastMaxEnd = maxEnds[lastIndex];
+            }
+        }
+
+        return level - 1;
+    }
+
+    /**
+     * @return number of intervals
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Calls <code>consumer</code> with the position (in the arrays passed to the constructor) of all
+     * intervals overlapping [from, to] in ascending order of their start.
+     *
+     * @param from start of the range
+     * @param to end of the range
+     * @param consumer receives the positions of the overlapping intervals
+     */
+    public void forEachOverlapping(double from, double to, IntConsumer consumer) {
+        forEachOverlappingIndex(from, to, i -> consumer.accept(ids[i]));
+    }
+
+    /**
+     * Like {@link #forEachOverlapping(double, double, IntConsumer)}, but passes the positions in
+     * the sorted arrays of this index.
+     */
+    private void forEachOverlappingIndex(double from, double to, IntConsumer consumer) {
+        int n = starts.length;
+        if (n == 0) {
+            return;
+        }
+
+        // nodes to visit: position, level and if their left subtree was visited already
+        int[] stackNodes = new int[64];
+        int[] stackLevels = new int[64];
+        boolean[] stackLeftDone = new boolean[64];
+        int top = 0;
+        stackNodes[top] = (1 << maxLevel) - 1;
+        stackLevels[top] = maxLevel;
+        stackLeftDone[top++] = false;
+        while (top > 0) {
+            int node = stackNodes[--top];
+            int level = stackLevels[top];
+            boolean leftDone = stackLeftDone[top];
+            if (level <= LINEAR_SCAN_LEVEL) {
+                int first = node >> level << level;
+                int last = Math.min(first + (1 << (level + 1)) - 1, n);
+                for (int i = first; i < last && starts[i] <= to; i++) {
+                    if (ends[i] >= from) {
+                        consumer.accept(i);
+                    }
+                }
+            }
+            else if (!leftDone) {
+                int left = node - (1 << (level - 1));
+                stackNodes[top] = node;
+                stackLevels[top] = level;
+                stackLeftDone[top++] = true;
+                if (left >= n || maxEnds[left] >= from) {
+                    stackNodes[top] = left;
+                    stackLevels[top] = level - 1;
+                    stackLeftDone[top++] = false;
+                }
+            }
+            else if (node < n && starts[node] <= to) {
+                if (ends[node] >= from) {
+                    consumer.accept(node);
+                }
+                stackNodes[top] = node + (1 << (level - 1));
+                stackLevels[top] = level - 1;
+                stackLeftDone[top++] = false;
+            }
+        }
+    }
+
+    /**
+     * Returns the interval closest to <code>value</code> within <code>tolerance</code>; an interval
+     * containing <code>value</code> has distance 0. Of several intervals with the same distance, the
+     * shortest one is returned.
+     *
+     * @param value value to search the closest interval for
+     * @param tolerance maximum distance of the interval from <code>value</code>
+     * @return position of the interval (in the arrays passed to the constructor) or -1, if there is
+     * no interval within <code>tolerance</code>
+     */
+    public int findClosest(double value, double tolerance) {
+        int[] closest = {-1};
+        double[] closestDistance = {Double.MAX_VALUE};
+        double[] closestLength = {Double.MAX_VALUE};
+        forEachOverlappingIndex(value - tolerance, value + tolerance, i -> {
+            double distance = Math.max(0, Math.max(starts[i] - value, value - ends[i]));
+            double length = ends[i] - starts[i];
+            if (distance < closestDistance[0] || (distance == closestDistance[0] && length < closestLength[0])) {
+                closest[0] = ids[i];
+                closestDistance[0] = distance;
+                closestLength[0] = length;
+            }
+        });
+
+        return closest[0];
+    }
+}
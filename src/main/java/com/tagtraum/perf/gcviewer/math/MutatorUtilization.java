@@ -0,0 +1,236 @@
+package com.tagtraum.perf.gcviewer.math;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Minimum mutator utilisation (MMU) and bounded minimum mutator utilisation (BMU) of a run for a
+ * set of window sizes. The MMU for a window size w is the smallest fraction of time, that is not
+ * spent in pauses, in any interval of length w within the run. The BMU for w is the smallest MMU
+ * of all window sizes &gt;= w, which makes the curve monotonic.
+ *
+ * <p>For a given window size, the pause time within the window is at its maximum, when the window
+ * starts at the beginning of a pause or ends at the end of a pause. After the pauses have been
+ * sorted and merged (O(n log n)), these candidate windows are evaluated in one sweep with
+ * pointers into the prefix sums of the pauses, which takes O(n) per window size instead of
+ * scanning every window position.</p>
+ */
+public class MutatorUtilization implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final double[] windows;
+    private final double[] minimumUtilizations;
+    private final double[] boundedMinimumUtilizations;
+
+    private MutatorUtilization(double[] windows, double[] minimumUtilizations, double[] boundedMinimumUtilizations) {
+        this.windows = windows;
+        this.minimumUtilizations = minimumUtilizations;
+        this.boundedMinimumUtilizations = boundedMinimumUtilizations;
+    }
+
+    /**
+     * Computes MMU and BMU for all <code>windows</code>. Pauses outside of the run are ignored;
+     * windows larger than the run are treated like a window covering the whole run.
+     *
+     * @param pauseStarts start of every pause
+     * @param pauseDurations duration of every pause (same order as <code>pauseStarts</code>)
+     * @param runStart start of the run
+     * @param runEnd end of the run
+     * @param windows window sizes (&gt; 0; in any order)
+     * @return utilisation per window size; window sizes in ascending order
+     */
+    public static MutatorUtilization compute(double[] pauseStarts, double[] pauseDurations, double runStart, double runEnd, double[] windows) {
+        if (pauseStarts.length != pauseDurations.length) {
+            throw new IllegalArgumentException("pauseStarts.length (" + pauseStarts.length + ") != pauseDurations.length (" + pauseDurations.length + ")");
+        }
+
+        double[] sortedWindows = windows.clone();
+        Arrays.sort(sortedWindows);
+        double runLength = runEnd - runStart;
+        Pauses pauses = new Pauses(pauseStarts, pauseDurations, runStart, runEnd);
+
+        double[] minimumUtilizations = new double[sortedWindows.length];
+        for (int i = 0; i < sortedWindows.length; i++) {
+            double window = Math.min(sortedWindows[i], runLength);
+            // rounding errors must not lead to negative utilisation
+            minimumUtilizations[i] = window > 0
+                    ? Math.max(0, 1 - pauses.getMaxPauseTime(window) / window)
+                    : 1;
+        }
+
+        double[] boundedMinimumUtilizations = new double[sortedWindows.length];
+        double minimum = 1;
+        for (int i = sortedWindows.length - 1; i >= 0; i--) {
+            minimum = Math.min(minimum, minimumUtilizations[i]);
+            boundedMinimumUtilizations[i] = minimum;
+        }
+
+        return new MutatorUtilization(sortedWindows, minimumUtilizations, boundedMinimumUtilizations);
+    }
+
+    /**
+     * Returns window sizes evenly spaced on a logarithmic scale.
+     *
+     * @param from smallest window size (&gt; 0)
+     * @param to largest window size
+     * @param stepsPerDecade number of window sizes per power of ten
+     * @return window sizes from <code>from</code> up to <code>to</code> (both inclusive)
+     */
+    public static double[] logarithmicWindows(double from, double to, int stepsPerDecade) {
+        if (to <= from) {
+            return new double[] {from};
+        }
+
+        int steps = (int) Math.ceil(Math.log10(to / from) * stepsPerDecade - 0.000001);
+        double[] windows = new double[steps + 1];
+        for (int i = 0; i < steps; i++) {
+            windows[i] = from * Math.pow(10, i / (double) stepsPerDecade);
+        }
+        windows[steps] = to;
+
+        return windows;
+    }
+
+    /**
+     * @return number of window sizes
+     */
+    public int getWindowCount() {
+        return windows.length;
+    }
+
+    /**
+     * @param index index of the window size (window sizes are in ascending order)
+     * @return window size
+     */
+    public double getWindow(int index) {
+        return windows[index];
+    }
+
+    /**
+     * @param index index of the window size
+     * @return minimum mutator utilisation (0..1) for the window size
+     */
+    public double getMinimumUtilization(int index) {
+        return minimumUtilizations[index];
+    }
+
+    /**
+     * @param index index of the window size
+     * @return bounded minimum mutator utilisation (0..1) for the window size
+     */
+    public double getBoundedMinimumUtilization(int index) {
+        return boundedMinimumUtilizations[index];
+    }
+
+    /**
+     * Pauses of the run sorted by start, overlapping pauses merged; with prefix sums of the pause
+     * time.
+     */
+    private static final class Pauses {
+        private final double runStart;
+        private final double runEnd;
+        private final double[] starts;
+        private final double[] ends;
+        // pause time of all pauses before index i
+        private final double[] pauseTimeBefore;
+        private final int size;
+
+        Pauses(double[] pauseStarts, double[] pauseDurations, double runStart, double runEnd) {
+            this.runStart = runStart;
+            this.runEnd = runEnd;
+
+            int[] order = IntStream.range(0, pauseStarts.length).toArray();
+            if (!isSorted(pauseStarts)) {
+                order = IntStream.range(0, pauseStarts.length)
+                        .boxed()
+                        .sorted((i, j) -> Double.compare(pauseStarts[i], pauseStarts[j]))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+
+            double[] mergedStarts = new double[order.length];
+            double[] mergedEnds = new double[order.length];
+            int count = 0;
+            for (int index : order) {
+                double start = Math.max(pauseStarts[index], runStart);
+                double end = Math.min(pauseStarts[index] + pauseDurations[index], runEnd);
+                if (end <= start) {
+                    continue;
+                }
+
+                if (count > 0 && start <= mergedEnds[count - 1]) {
+                    mergedEnds[count - 1] = Math.max(mergedEnds[count - 1], end);
+                }
+                else {
+                    mergedStarts[count] = start;
+                    mergedEnds[count] = end;
+                    count++;
+                }
+            }
+
+            this.starts = mergedStarts;
+            this.ends = mergedEnds;
+            this.size = count;
+            this.pauseTimeBefore = new double[count + 1];
+            for (int i = 0; i < count; i++) {
+                pauseTimeBefore[i + 1] = pauseTimeBefore[i] + ends[i] - starts[i];
+            }
+        }
+
+        private static boolean isSorted(double[] values) {
+            for (int i = 1; i < values.length; i++) {
+                if (values[i] < values[i - 1]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * @param window window size (0 &lt; window &lt;= length of the run)
+         * @return maximum pause time within any window of size <code>window</code>
+         */
+        double getMaxPauseTime(double window) {
+            double maxPauseTime = 0;
+
+            // windows starting at the start of a pause
+            Cursor windowStart = new Cursor();
+            Cursor windowEnd = new Cursor();
+            for (int i = 0; i < size; i++) {
+                double start = Math.min(starts[i], runEnd - window);
+                maxPauseTime = Math.max(maxPauseTime, windowEnd.pauseTimeUntil(start + window) - windowStart.pauseTimeUntil(start));
+            }
+
+            // windows ending at the end of a pause
+            windowStart = new Cursor();
+            windowEnd = new Cursor();
+            for (int i = 0; i < size; i++) {
+                double start = Math.max(ends[i] - window, runStart);
+                maxPauseTime = Math.max(maxPauseTime, windowEnd.pauseTimeUntil(start + window) - windowStart.pauseTimeUntil(start));
+            }
+
+            return maxPauseTime;
+        }
+
+        /**
+         * Calculates the pause time from the start of the run; the arguments of consecutive calls
+         * must not decrease.
+         */
+        private final class Cursor {
+            // number of pauses starting before or at the last argument
+            private int index;
+
+            double pauseTimeUntil(double time) {
+                while (index < size && starts[index] <= time) {
+                    index++;
+                }
+
+                return index == 0
+                        ? 0
+                        : pauseTimeBefore[index - 1] + Math.min(time, ends[index - 1]) - starts[index - 1];
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.tagtraum.perf.gcviewer.math;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Mergeable approximation of the distribution of values (e.g. pauses), that needs constant memory
+ * regardless of the number of values added. Values are counted in buckets growing exponentially
+ * in size; a percentile is returned with a relative error of at most {@link #RELATIVE_ACCURACY}.
+ * Two sketches are merged by adding the counts of their buckets.
+ *
+ * <p>Values smaller than {@link #MIN_VALUE} share a single bucket.</p>
+ */
+public class QuantileSketch implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** maximum relative error of {@link #getPercentile(double)} */
+    public static final double RELATIVE_ACCURACY = 0.01;
+    /** smallest value, that is distinguished from 0 */
+    public static final double MIN_VALUE = 0.000001;
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    // counts[i] is the number of values in bucket (offset + i); bucket b holds values in (GAMMA^(b-1), GAMMA^b]
+    private int[] counts = new int[0];
+    private int offset;
+    private long zeroCount;
+    private long n;
+    private double min = Double.MAX_VALUE;
+    private double max = -Double.MAX_VALUE;
+
+    public void add(double x) {
+        if (x < MIN_VALUE) {
+            zeroCount++;
+        }
+        else {
+            int bucket = (int) Math.ceil(Math.log(x) / LOG_GAMMA);
+            ensureBucket(bucket);
+            counts[bucket - offset]++;
+        }
+
+        n++;
+        min = Math.min(min, x);
+        max = Math.max(max, x);
+    }
+
+    /**
+     * Adds all values of <code>other</code> to this sketch.
+     */
+    public void merge(QuantileSketch other) {
+        if (other.n == 0) {
+            return;
+        }
+
+        if (other.counts.length > 0) {
+            ensureBucket(other.offset);
+            ensureBucket(other.offset + other.counts.length - 1);
+            for (int i = 0; i < other.counts.length; i++) {
+                counts[other.offset + i - offset] += other.counts[i];
+            }
+        }
+
+        zeroCount += other.zeroCount;
+        n += other.n;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    private void ensureBucket(int bucket) {
+        if (counts.length == 0) {
+            counts = new int[1];
+            offset = bucket;
+        }
+        else if (bucket < offset) {
+            int[] newCounts = new int[counts.length + offset - bucket];
+            System.arraycopy(counts, 0, newCounts, offset - bucket, counts.length);
+            counts = newCounts;
+            offset = bucket;
+        }
+        else if (bucket >= offset + counts.length) {
+            counts = Arrays.copyOf(counts, bucket - offset + 1);
+        }
+    }
+
+    /**
+     * @return number of values added
+     */
+    public long getN() {
+        return n;
+    }
+
+    /**
+     * @return smallest value added
+     * @throws IllegalStateException if no values were added
+     */
+    public double getMin() {
+        checkNotEmpty();
+        return min;
+    }
+
+    /**
+     * @return largest value added
+     * @throws IllegalStateException if no values were added
+     */
+    public double getMax() {
+        checkNotEmpty();
+        return max;
+    }
+
+    /**
+     * Returns the value, that is greater or equal to <code>percentile</code> percent of all values
+     * (nearest rank).
+     *
+     * @param percentile percentile as floating point number (median = 50.0)
+     * @return approximate value at the n-th percentile
+     * @throws IllegalStateException if no values were added
+     */
+    public double getPercentile(double percentile) {
+        checkNotEmpty();
+
+        long rank = (long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * n);
+        if (rank <= zeroCount) {
+            // all values in this bucket are smaller than MIN_VALUE
+            return min;
+        }
+
+        long count = zeroCount;
+        for (int i = 0; i < counts.length; i++) {
+            count += counts[i];
+            if (count >= rank) {
+                // middle of the bucket relative to its bounds, but never outside of the values added
+                double value = 2 * Math.pow(GAMMA, offset + i) / (GAMMA + 1);
+                return Math.min(Math.max(value, min), max);
+            }
+        }
+
+        return max;
+    }
+
+    private void checkNotEmpty() {
+        if (n == 0) {
+            throw new IllegalStateException("no values added");
+        }
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.tagtraum.perf.gcviewer.math;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Series of rates over time (e.g. allocated memory per second between two collections). Each
+ * sample consists of an amount and the time it took; samples are kept in primitive arrays and
+ * must be added in ascending order of their timestamps.
+ *
+ * <p>Averages over several samples are weighted by time (total amount / total time), so that
+ * short intervals between collections don't distort them.</p>
+ */
+public class RateSeries implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private double[] timestamps = new double[16];
+    private double[] amounts = new double[16];
+    private double[] durations = new double[16];
+    private int size;
+    private double totalAmount;
+    private double totalDuration;
+    private double maxRate;
+
+    /**
+     * Functional interface to receive windows of a series.
+     */
+    public interface WindowConsumer {
+        /**
+         * @param start start of the window
+         * @param averageRate average rate within the window (weighted by time)
+         * @param peakRate highest rate of a single sample within the window
+         */
+        void accept(double start, double averageRate, double peakRate);
+    }
+
+    /**
+     * @param timestamp end of the interval
+     * @param amount amount within the interval
+     * @param duration length of the interval (&gt; 0)
+     */
+    public void add(double timestamp, double amount, double duration) {
+        if (duration <= 0) {
+            throw new IllegalArgumentException("duration must be > 0 (was " + duration + ")");
+        }
+
+        if (size == timestamps.length) {
+            timestamps = Arrays.copyOf(timestamps, size * 2);
+            amounts = Arrays.copyOf(amounts, size * 2);
+            durations = Arrays.copyOf(durations, size * 2);
+        }
+        timestamps[size] = timestamp;
+        amounts[size] = amount;
+        durations[size] = duration;
+        size++;
+
+        totalAmount += amount;
+        totalDuration += duration;
+        maxRate = size == 1 ? amount / duration : Math.max(maxRate, amount / duration);
+    }
+
+    /**
+     * Adds all samples of <code>other</code>, which must follow the samples of this series.
+     */
+    public void merge(RateSeries other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.timestamps[i], other.amounts[i], other.durations[i]);
+        }
+    }
+
+    /**
+     * @return number of samples
+     */
+    public int size() {
+        return size;
+    }
+
+    public double getTimestamp(int index) {
+        checkIndex(index);
+        return timestamps[index];
+    }
+
+    public double getRate(int index) {
+        checkIndex(index);
+        return amounts[index] / durations[index];
+    }
+
+    /**
+     * @return average rate of all samples (weighted by time)
+     * @throws IllegalStateException if the series is empty
+     */
+    public double getAverageRate() {
+        checkNotEmpty();
+        return totalAmount / totalDuration;
+    }
+
+    /**
+     * @return highest rate of a single sample
+     * @throws IllegalStateException if the series is empty
+     */
+    public double getMaxRate() {
+        checkNotEmpty();
+        return maxRate;
+    }
+
+    /**
+     * Returns the highest average rate of all windows of size <code>windowSize</code> (see
+     * {@link #forEachWindow(double, WindowConsumer)}); less sensitive to single short intervals
+     * than {@link #getMaxRate()}.
+     *
+     * @param windowSize width of the windows
+     * @return highest average rate of a window
+     * @throws IllegalStateException if the series is empty
+     */
+    public double getMaxAverageRate(double windowSize) {
+        checkNotEmpty();
+        double[] max = {-Double.MAX_VALUE};
+        forEachWindow(windowSize, (start, averageRate, peakRate) -> max[0] = Math.max(max[0], averageRate));
+        return max[0];
+    }
+
+    /**
+     * Calls <code>consumer</code> with the average and peak rate of every window of size
+     * <code>windowSize</code> in ascending order. Samples belong to the window containing their
+     * timestamp; windows are aligned to multiples of their size, windows without samples are
+     * skipped.
+     *
+     * @param windowSize width of the windows (&gt; 0)
+     * @param consumer receives the rates of each window
+     */
+    public void forEachWindow(double windowSize, WindowConsumer consumer) {
+        int i = 0;
+        while (i < size) {
+            long window = (long) Math.floor(timestamps[i] / windowSize);
+            double windowEnd = (window + 1) * windowSize;
+            double amount = 0;
+            double duration = 0;
+            double peakRate = -Double.MAX_VALUE;
+            // the first sample always belongs to the window (even if rounding says otherwise)
+            do {
+                amount += amounts[i];
+                duration += durations[i];
+                peakRate = Math.max(peakRate, amounts[i] / durations[i]);
+                i++;
+            } while (i < size && timestamps[i] < windowEnd);
+
+            consumer.accept(window * windowSize, amount / duration, peakRate);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " (size " + size + ")");
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new IllegalStateException("no samples added");
+        }
+    }
+
+}
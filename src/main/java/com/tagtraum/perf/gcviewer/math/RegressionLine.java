@@ -25,6 +25,27 @@ public class RegressionLine implements Serializable {
         n++;
     }
 
+    /**
+     * Adds all points of <code>other</code> (as if they had been added to this instance).
+     */
+    public void merge(RegressionLine other) {
+        merge(other, 0);
+    }
+
+    /**
+     * Adds all points of <code>other</code> moved by <code>xOffset</code> along the x axis.
+     * Used for lines, where x is the number of the point: the points of <code>other</code> follow
+     * the points of this line.
+     */
+    public void merge(RegressionLine other, double xOffset) {
+        // sum((x + c)^2) = sum(x^2) + 2c * sum(x) + n * c^2; sum((x + c) * y) = sum(x * y) + c * sum(y)
+        sumXSquare += other.sumXSquare + 2 * xOffset * other.sumX + other.n * xOffset * xOffset;
+        sumXY += other.sumXY + xOffset * other.sumY;
+        sumX += other.sumX + other.n * xOffset;
+        sumY += other.sumY;
+        n += other.n;
+    }
+
     public int getPointCount() {
         return n;
     }
@@ -50,12 +71,8 @@ public class RegressionLine implements Serializable {
     }
 
     public static double slope(double[] x, double[] y) {
-        double n = x.length;
-        double sumX = Sum.sum(x);
-        double sumY = Sum.sum(y);
-        double sumXY = Sum.sumOfProducts(x, y);
-        double sumXSquare = Sum.sumOfSquares(x);
-        return slope(n, sumX, sumY, sumXY, sumXSquare);
+        double[] sums = Sum.regressionSums(x, y);
+        return slope(x.length, sums[0], sums[1], sums[2], sums[3]);
     }
 
     private static double slope(double n, double sumX, double sumY, double sumXY, double sumXSquare) {
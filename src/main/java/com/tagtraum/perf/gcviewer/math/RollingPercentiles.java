@@ -0,0 +1,119 @@
+package com.tagtraum.perf.gcviewer.math;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Distribution of values over time: one {@link QuantileSketch} per time bucket (e.g. per minute).
+ * Percentiles for windows of any multiple of the bucket size are calculated by merging the
+ * sketches of the buckets in the window. Memory grows with the number of buckets, that contain
+ * values, not with the number of values, so that even weeks of gc logs can be kept.
+ */
+public class RollingPercentiles implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final double bucketSize;
+    private final TreeMap<Long, QuantileSketch> buckets = new TreeMap<>();
+
+    /**
+     * @param bucketSize width of a bucket on the time axis (&gt; 0)
+     */
+    public RollingPercentiles(double bucketSize) {
+        if (bucketSize <= 0) {
+            throw new IllegalArgumentException("bucketSize must be > 0 (was " + bucketSize + ")");
+        }
+
+        this.bucketSize = bucketSize;
+    }
+
+    /**
+     * @param timestamp time of the value
+     * @param x value
+     */
+    public void add(double timestamp, double x) {
+        buckets.computeIfAbsent((long) Math.floor(timestamp / bucketSize), bucket -> new QuantileSketch()).add(x);
+    }
+
+    /**
+     * Adds all values of <code>other</code>, which must have the same bucket size.
+     */
+    public void merge(RollingPercentiles other) {
+        if (other.bucketSize != bucketSize) {
+            throw new IllegalArgumentException("bucket sizes differ: " + bucketSize + " != " + other.bucketSize);
+        }
+
+        for (Map.Entry<Long, QuantileSketch> entry : other.buckets.entrySet()) {
+            buckets.computeIfAbsent(entry.getKey(), bucket -> new QuantileSketch()).merge(entry.getValue());
+        }
+    }
+
+    public double getBucketSize() {
+        return bucketSize;
+    }
+
+    public boolean isEmpty() {
+        return buckets.isEmpty();
+    }
+
+    /**
+     * Returns the distribution of all values within <code>[from, to)</code>; as only whole buckets
+     * are merged, <code>from</code> and <code>to</code> are rounded down to the start of their buckets.
+     *
+     * @param from start of the time range
+     * @param to end of the time range
+     * @return distribution of the values in the range (may be empty)
+     */
+    public QuantileSketch get(double from, double to) {
+        QuantileSketch sketch = new QuantileSketch();
+        for (QuantileSketch bucket : buckets.subMap((long) Math.floor(from / bucketSize), (long) Math.floor(to / bucketSize)).values()) {
+            sketch.merge(bucket);
+        }
+
+        return sketch;
+    }
+
+    /**
+     * Calls <code>consumer</code> with the distribution and the start of every window of size
+     * <code>windowSize</code> in ascending order. Windows are aligned to multiples of their size;
+     * windows without values are skipped.
+     *
+     * @param windowSize width of the windows; rounded to a multiple of the bucket size (at least one bucket)
+     * @param consumer receives the distribution of the values and the start of each window
+     */
+    public void forEachWindow(double windowSize, ObjDoubleConsumer<QuantileSketch> consumer) {
+        long bucketsPerWindow = getBucketsPerWindow(windowSize);
+        QuantileSketch window = null;
+        long windowIndex = 0;
+        for (Map.Entry<Long, QuantileSketch> entry : buckets.entrySet()) {
+            long index = Math.floorDiv(entry.getKey(), bucketsPerWindow);
+            if (window != null && index != windowIndex) {
+                consumer.accept(window, windowIndex * bucketsPerWindow * bucketSize);
+                window = null;
+            }
+            if (window == null) {
+                window = new QuantileSketch();
+                windowIndex = index;
+            }
+            window.merge(entry.getValue());
+        }
+
+        if (window != null) {
+            consumer.accept(window, windowIndex * bucketsPerWindow * bucketSize);
+        }
+    }
+
+    /**
+     * @param windowSize width of a window
+     * @return the actual width of a window of <code>windowSize</code> (see {@link #forEachWindow(double, ObjDoubleConsumer)})
+     */
+    public double getWindowSize(double windowSize) {
+        return getBucketsPerWindow(windowSize) * bucketSize;
+    }
+
+    private long getBucketsPerWindow(double windowSize) {
+        return Math.max(1, Math.round(windowSize / bucketSize));
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.tagtraum.perf.gcviewer.math;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Regression line over the points of a sliding window along the x axis (e.g. the last hour of a
+ * gc log). Points must be added in ascending order of x; adding a point evicts all points, that
+ * have fallen out of the window. Adding and evicting take amortised constant time.
+ *
+ * <p>The sums are kept relative to the oldest point in the window and are recalculated from the
+ * points in the window from time to time, so that rounding errors of removing points don't add up.</p>
+ */
+public class SlidingRegressionLine implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final double windowSize;
+
+    // ring buffer of the points in the window
+    private double[] xs = new double[16];
+    private double[] ys = new double[16];
+    private int head;
+    private int n;
+
+    private double origin;
+    private double sumX;
+    private double sumY;
+    private double sumXSquare;
+    private double sumXY;
+    private int evictedSinceRecalculation;
+
+    /**
+     * @param windowSize width of the window along the x axis
+     */
+    public SlidingRegressionLine(double windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public void addPoint(double x, double y) {
+        evictBefore(x - windowSize);
+
+        if (n == xs.length) {
+            grow();
+        }
+        int tail = (head + n) % xs.length;
+        xs[tail] = x;
+        ys[tail] = y;
+        n++;
+
+        if (n == 1) {
+            origin = x;
+        }
+        double relativeX = x - origin;
+        sumX += relativeX;
+        sumY += y;
+        sumXSquare += relativeX * relativeX;
+        sumXY += relativeX * y;
+    }
+
+    /**
+     * Adds all points of <code>other</code>, which must follow the points of this line.
+     */
+    public void merge(SlidingRegressionLine other) {
+        for (int i = 0; i < other.n; i++) {
+            int index = (other.head + i) % other.xs.length;
+            addPoint(other.xs[index], other.ys[index]);
+        }
+    }
+
+    private void evictBefore(double minX) {
+        while (n > 0 && xs[head] < minX) {
+            double relativeX = xs[head] - origin;
+            sumX -= relativeX;
+            sumY -= ys[head];
+            sumXSquare -= relativeX * relativeX;
+            sumXY -= relativeX * ys[head];
+            head = (head + 1) % xs.length;
+            n--;
+            evictedSinceRecalculation++;
+        }
+
+        if (evictedSinceRecalculation > n) {
+            recalculate();
+        }
+    }
+
+    private void recalculate() {
+        sumX = 0;
+        sumY = 0;
+        sumXSquare = 0;
+        sumXY = 0;
+        origin = n > 0 ? xs[head] : 0;
+        for (int i = 0; i < n; i++) {
+            int index = (head + i) % xs.length;
+            double relativeX = xs[index] - origin;
+            sumX += relativeX;
+            sumY += ys[index];
+            sumXSquare += relativeX * relativeX;
+            sumXY += relativeX * ys[index];
+        }
+        evictedSinceRecalculation = 0;
+    }
+
+    private void grow() {
+        double[] newXs = new double[xs.length * 2];
+        double[] newYs = new double[ys.length * 2];
+        for (int i = 0; i < n; i++) {
+            int index = (head + i) % xs.length;
+            newXs[i] = xs[index];
+            newYs[i] = ys[index];
+        }
+        xs = newXs;
+        ys = newYs;
+        head = 0;
+    }
+
+    public double getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * @return number of points in the window
+     */
+    public int getPointCount() {
+        return n;
+    }
+
+    public boolean isLine() {
+        return n > 1;
+    }
+
+    public boolean hasPoints() {
+        return n != 0;
+    }
+
+    /**
+     * @return slope of the regression line over the points in the window
+     */
+    public double slope() {
+        return (n * sumXY - sumX * sumY) / (n * sumXSquare - sumX * sumX);
+    }
+
+    public void reset() {
+        head = 0;
+        n = 0;
+        Arrays.fill(xs, 0);
+        Arrays.fill(ys, 0);
+        recalculate();
+    }
+
+}
@@ -13,27 +13,116 @@ public class Sum implements Serializable {
     private Sum(){}
 
 
+    /*
+     * The loops below keep four independent partial sums: a single accumulator makes every addition
+     * wait for the previous one, while independent ones can be added in parallel by the cpu. The order
+     * of the additions differs from a plain loop, so the results can differ in the last bits.
+     */
+
     public static double sum(double[] n) {
-        double sum = 0;
-        for (int i=0; i<n.length; i++) {
-            sum += n[i];
+        double sum0 = 0;
+        double sum1 = 0;
+        double sum2 = 0;
+        double sum3 = 0;
+        int i = 0;
+        for (; i < n.length - 3; i += 4) {
+            sum0 += n[i];
+            sum1 += n[i + 1];
+            sum2 += n[i + 2];
+            sum3 += n[i + 3];
+        }
+        for (; i < n.length; i++) {
+            sum0 += n[i];
         }
-        return sum;
+        return (sum0 + sum1) + (sum2 + sum3);
     }
 
     public static double sumOfSquares(double[] n) {
-        double sumXSquare = 0;
-        for (int i=0; i<n.length; i++) {
-            sumXSquare += n[i]*n[i];
+        double sum0 = 0;
+        double sum1 = 0;
+        double sum2 = 0;
+        double sum3 = 0;
+        int i = 0;
+        for (; i < n.length - 3; i += 4) {
+            sum0 += n[i] * n[i];
+            sum1 += n[i + 1] * n[i + 1];
+            sum2 += n[i + 2] * n[i + 2];
+            sum3 += n[i + 3] * n[i + 3];
+        }
+        for (; i < n.length; i++) {
+            sum0 += n[i] * n[i];
         }
-        return sumXSquare;
+        return (sum0 + sum1) + (sum2 + sum3);
     }
 
     public static double sumOfProducts(double[] x, double[] y) {
-        double sumXY = 0;
-        for (int i=0; i<x.length; i++) {
-            sumXY += x[i]*y[i];
+        double sum0 = 0;
+        double sum1 = 0;
+        double sum2 = 0;
+        double sum3 = 0;
+        int i = 0;
+        for (; i < x.length - 3; i += 4) {
+            sum0 += x[i] * y[i];
+            sum1 += x[i + 1] * y[i + 1];
+            sum2 += x[i + 2] * y[i + 2];
+            sum3 += x[i + 3] * y[i + 3];
+        }
+        for (; i < x.length; i++) {
+            sum0 += x[i] * y[i];
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * Sums x, y, x*y and x*x in one pass over the arrays.
+     *
+     * @return <code>{sum(x), sum(y), sumOfProducts(x, y), sumOfSquares(x)}</code>
+     */
+    public static double[] regressionSums(double[] x, double[] y) {
+        double sumX0 = 0, sumX1 = 0;
+        double sumY0 = 0, sumY1 = 0;
+        double sumXY0 = 0, sumXY1 = 0;
+        double sumXSquare0 = 0, sumXSquare1 = 0;
+        int i = 0;
+        for (; i < x.length - 1; i += 2) {
+            double x0 = x[i];
+            double x1 = x[i + 1];
+            sumX0 += x0;
+            sumX1 += x1;
+            sumY0 += y[i];
+            sumY1 += y[i + 1];
+            sumXY0 += x0 * y[i];
+            sumXY1 += x1 * y[i + 1];
+            sumXSquare0 += x0 * x0;
+            sumXSquare1 += x1 * x1;
+        }
+        if (i < x.length) {
+            sumX0 += x[i];
+            sumY0 += y[i];
+            sumXY0 += x[i] * y[i];
+            sumXSquare0 += x[i] * x[i];
+        }
+        return new double[] {sumX0 + sumX1, sumY0 + sumY1, sumXY0 + sumXY1, sumXSquare0 + sumXSquare1};
+    }
+
+    /**
+     * @return sum of <code>n[i] * weight[i]</code>
+     */
+    public static double sumOfWeighted(double[] n, int[] weight) {
+        double sum0 = 0;
+        double sum1 = 0;
+        double sum2 = 0;
+        double sum3 = 0;
+        int i = 0;
+        for (; i < n.length - 3; i += 4) {
+            sum0 += n[i] * weight[i];
+            sum1 += n[i + 1] * weight[i + 1];
+            sum2 += n[i + 2] * weight[i + 2];
+            sum3 += n[i + 3] * weight[i + 3];
+        }
+        for (; i < n.length; i++) {
+            sum0 += n[i] * weight[i];
         }
-        return sumXY;
+        return (sum0 + sum1) + (sum2 + sum3);
     }
 }
@@ -1,6 +1,8 @@
 package com.tagtraum.perf.gcviewer.model;
 
 import java.io.Serializable;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -11,6 +13,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The abstract gc event is the base class for all types of events. All sorts of general
@@ -20,18 +25,25 @@ import java.util.TreeSet;
  * @author <a href="mailto:gcviewer@gmx.ch">Joerg Wuethrich</a>
  */
 public abstract class AbstractGCEvent<T extends AbstractGCEvent<T>> implements Serializable, Cloneable {
+    /** value of <code>datestampMillis</code> if the event has no datestamp */
+    private static final long NO_DATESTAMP = Long.MIN_VALUE;
+    /** a log almost always uses one zone; all events share the same instance */
+    private static final ConcurrentMap<ZoneId, ZoneId> DATESTAMP_ZONES = new ConcurrentHashMap<>();
+
     /** Used before GC in KB */
     private int preUsed;
     /** Used after GC in KB */
     private int postUsed;
     /** Capacity in KB */
     private int total;
-    /** end of gc event (after pause) */
-    private ZonedDateTime datestamp;
+    /** end of gc event (after pause) in milliseconds since the epoch (see {@link #getDatestamp()}) */
+    private long datestampMillis = NO_DATESTAMP;
+    /** zone of the datestamp */
+    private ZoneId datestampZone;
     /** end of gc event (after pause) */
     private double timestamp;
     private ExtendedType extendedType = ExtendedType.UNDEFINED;
-    private String typeAsString;
+    private TypeName typeName = ExtendedType.UNDEFINED.getTypeName();
     protected Generation generation;
     protected List<T> details;
     private double pause;
@@ -49,7 +61,7 @@ public abstract class AbstractGCEvent<T extends AbstractGCEvent<T>> implements S
         	details = new ArrayList<T>(2);
         }
         details.add(detail);
-        typeAsString += "; " + detail.getExtendedType().getName();
+        typeName = typeName.withDetail(detail.getExtendedType());
 
         // reset cached value, which will be recalculated upon call to "getGeneration()"
         generation = null;
@@ -78,12 +90,32 @@ public abstract class AbstractGCEvent<T extends AbstractGCEvent<T>> implements S
         phases.add(phase);
     }
 
+    /**
+     * Releases unused capacity of the detail and phase lists (see {@link GCModel#freeze()}).
+     */
+    @SuppressWarnings("unchecked")
+    void compact() {
+        if (details != null) {
+            if (details instanceof ArrayList) {
+                ((ArrayList<T>) details).trimToSize();
+            }
+            for (T detail : details) {
+                detail.compact();
+            }
+        }
+        if (phases != null) {
+            if (phases instanceof ArrayList) {
+                ((ArrayList<AbstractGCEvent<?>>) phases).trimToSize();
+            }
+            for (AbstractGCEvent<?> phase : phases) {
+                phase.compact();
+            }
+        }
+    }
+
     @Override
     protected Object clone() throws CloneNotSupportedException {
         AbstractGCEvent<T> clonedEvent = (AbstractGCEvent<T>)super.clone();
-        if (getDatestamp() != null) {
-            clonedEvent.setDateStamp(ZonedDateTime.from(this.getDatestamp()));
-        }
         if (getExtendedType() != null) {
             clonedEvent.setExtendedType(new ExtendedType(getExtendedType().getType(), getExtendedType().fullName));
         }
@@ -115,7 +147,24 @@ public abstract class AbstractGCEvent<T extends AbstractGCEvent<T>> implements S
     }
 
     public void setDateStamp(ZonedDateTime datestamp) {
-    	this.datestamp = datestamp;
+        if (datestamp == null) {
+            this.datestampMillis = NO_DATESTAMP;
+            this.datestampZone = null;
+        }
+        else {
+            setDateStamp(datestamp.toInstant().toEpochMilli(), datestamp.getZone());
+        }
+    }
+
+    /**
+     * Sets the datestamp without creating a {@link ZonedDateTime}.
+     *
+     * @param epochMillis end of gc event in milliseconds since the epoch
+     * @param zone zone of the datestamp
+     */
+    public void setDateStamp(long epochMillis, ZoneId zone) {
+        this.datestampMillis = epochMillis;
+        this.datestampZone = DATESTAMP_ZONES.computeIfAbsent(zone, key -> key);
     }
 
     public void setNumber(int number) {
@@ -132,21 +181,13 @@ public abstract class AbstractGCEvent<T extends AbstractGCEvent<T>> implements S
 
     public void setExtendedType(ExtendedType extendedType) {
         this.extendedType = extendedType;
-        this.typeAsString = extendedType.getName();
-        if (details != null && details.size() > 0) {
-            this.typeAsString = buildTypeAsString();
-        }
-    }
-
-    private String buildTypeAsString() {
-        StringBuilder sb = new StringBuilder(getExtendedType().getName());
+        TypeName name = extendedType.getTypeName();
         if (details != null) {
             for (T event : details) {
-                sb.append("; ").append(event.getExtendedType().getName());
+                name = name.withDetail(event.getExtendedType());
             }
         }
-
-        return sb.toString();
+        this.typeName = name;
     }
 
     public ExtendedType getExtendedType() {
@@ -158,7 +199,17 @@ public abstract class AbstractGCEvent<T extends AbstractGCEvent<T>> implements S
     }
 
     public String getTypeAsString() {
-    	return typeAsString;
+    	return typeName.getName();
+    }
+
+    /**
+     * Returns the shared name of the type of this event including its details
+     * (see {@link #getTypeAsString()}).
+     *
+     * @return type name of this event
+     */
+    public TypeName getTypeName() {
+        return typeName;
     }
 
     public boolean isStopTheWorld() {
@@ -210,8 +261,36 @@ public abstract class AbstractGCEvent<T extends AbstractGCEvent<T>> implements S
         return timestamp;
     }
 
+    /**
+     * Returns the datestamp of this event. A new instance is created on every call; use
+     * {@link #getDatestampMillis()} for calculations.
+     *
+     * @return datestamp or <code>null</code> if this event has none
+     */
     public ZonedDateTime getDatestamp() {
-        return datestamp;
+        if (!hasDatestamp()) {
+            return null;
+        }
+
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(datestampMillis), datestampZone);
+    }
+
+    public boolean hasDatestamp() {
+        return datestampMillis != NO_DATESTAMP;
+    }
+
+    /**
+     * @return datestamp in milliseconds since the epoch (only valid if {@link #hasDatestamp()})
+     */
+    public long getDatestampMillis() {
+        return datestampMillis;
+    }
+
+    /**
+     * @return zone of the datestamp or <code>null</code> if this event has none
+     */
+    public ZoneId getDatestampZone() {
+        return datestampZone;
     }
 
     public boolean hasMemoryInformation() {
@@ -344,16 +423,25 @@ public abstract class AbstractGCEvent<T extends AbstractGCEvent<T>> implements S
         AbstractGCEvent<?> that = (AbstractGCEvent<?>) o;
         return Double.compare(that.timestamp, timestamp) == 0 &&
                 Double.compare(that.pause, pause) == 0 &&
-                Objects.equals(datestamp, that.datestamp) &&
+                datestampMillis == that.datestampMillis &&
+                Objects.equals(datestampZone, that.datestampZone) &&
                 Objects.equals(extendedType, that.extendedType) &&
-                Objects.equals(typeAsString, that.typeAsString) &&
-                generation == that.generation &&
+                Objects.equals(typeName, that.typeName) &&
+                getComparableGeneration() == that.getComparableGeneration() &&
                 Objects.equals(details, that.details);
     }
 
+    /**
+     * The generation is determined lazily (see {@link #getGeneration()}); compare the derived value,
+     * so that equality does not depend on whether it has already been queried.
+     */
+    private Generation getComparableGeneration() {
+        return extendedType != null ? getGeneration() : generation;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(datestamp, timestamp, extendedType, typeAsString, generation, details);
+        return Objects.hash(datestampMillis, datestampZone, timestamp, extendedType, typeName, getComparableGeneration(), details);
     }
 
     /**
@@ -372,6 +460,7 @@ public abstract class AbstractGCEvent<T extends AbstractGCEvent<T>> implements S
 
         private String fullName;
         private Type type;
+        private transient TypeName typeName;
 
         private ExtendedType(Type type) {
             this(type, type.getName());
@@ -380,6 +469,7 @@ public abstract class AbstractGCEvent<T extends AbstractGCEvent<T>> implements S
         private ExtendedType(Type type, String fullName) {
             this.type = type;
             this.fullName = fullName.intern();
+            this.typeName = TypeName.of(this.fullName);
         }
 
         public static ExtendedType lookup(Type type) {
@@ -401,6 +491,17 @@ public abstract class AbstractGCEvent<T extends AbstractGCEvent<T>> implements S
             return fullName;
         }
 
+        /**
+         * @return shared type name of events of this type without details
+         */
+        public TypeName getTypeName() {
+            if (typeName == null) {
+                // deserialized
+                typeName = TypeName.of(fullName);
+            }
+            return typeName;
+        }
+
         public Type getType() {
             return type;
         }
@@ -445,6 +546,63 @@ public abstract class AbstractGCEvent<T extends AbstractGCEvent<T>> implements S
         }
 	}
 
+    /**
+     * Name of the type of an event including the types of its details (like "GC; DefNew"). There is
+     * only one instance per distinct name, each of which has a unique id; statistics per type can
+     * therefore be kept in arrays indexed by id instead of maps keyed by name. The instances are
+     * cached on {@link ExtendedType} and on the type names they extend.
+     */
+    public static final class TypeName implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private static final ConcurrentMap<String, TypeName> NAMES = new ConcurrentHashMap<>();
+        private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+        private final String name;
+        private final transient int id;
+        private final transient ConcurrentMap<ExtendedType, TypeName> withDetails = new ConcurrentHashMap<>();
+
+        private TypeName(String name) {
+            this.name = name;
+            this.id = NEXT_ID.getAndIncrement();
+        }
+
+        static TypeName of(String name) {
+            return NAMES.computeIfAbsent(name, TypeName::new);
+        }
+
+        /**
+         * Returns the type name of an event of this type with one more detail event of type
+         * <code>detailType</code>.
+         *
+         * @param detailType type of the detail event
+         * @return "&lt;this name&gt;; &lt;detail type&gt;"
+         */
+        TypeName withDetail(ExtendedType detailType) {
+            return withDetails.computeIfAbsent(detailType, key -> of(name + "; " + key.getName()));
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return unique id of this type name (only valid in the running vm)
+         */
+        public int getId() {
+            return id;
+        }
+
+        private Object readResolve() {
+            return of(name);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
     /**
      * Representation of an event type
      */
@@ -0,0 +1,176 @@
+package com.tagtraum.perf.gcviewer.model;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * Base class for the event lists of {@link GCModel}. The lists can only be appended to by one thread,
+ * while other threads read them: an element is published by the (volatile) write of the new size, so
+ * every element below {@link #size()} can safely be read without locking. Appending does not count as
+ * structural modification, iterators therefore never throw {@link java.util.ConcurrentModificationException}
+ * but include the elements appended while iterating.
+ *
+ * <p>Single values of the events can be read as primitive columns ({@link #getDouble(int, EventColumn)},
+ * {@link #doubleStream(List, EventColumn)}); subclasses may do so without creating event objects.</p>
+ *
+ * @param <E> type of the events in this list
+ */
+abstract class AppendOnlyEventList<E extends AbstractGCEvent<?>> extends AbstractList<E> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Returns an unmodifiable view of the first <code>size</code> elements of this list. The view
+     * does not change, when more elements are appended to this list.
+     *
+     * @param size number of elements in the view
+     * @return view of the first <code>size</code> elements
+     */
+    List<E> snapshot(int size) {
+        if (size < 0 || size > size()) {
+            throw new IndexOutOfBoundsException("snapshot size: " + size + ", Size: " + size());
+        }
+
+        return new SnapshotList<>(this, size);
+    }
+
+    /**
+     * Returns a value of the event at <code>index</code>.
+     *
+     * @param index index of the event
+     * @param column double column to be read
+     * @return value of <code>column</code> of the event at <code>index</code>
+     */
+    double getDouble(int index, EventColumn column) {
+        return column.getDouble(get(index));
+    }
+
+    /**
+     * Returns a value of the event at <code>index</code>.
+     *
+     * @param index index of the event
+     * @param column int column to be read
+     * @return value of <code>column</code> of the event at <code>index</code>
+     */
+    int getInt(int index, EventColumn column) {
+        return column.getInt(get(index));
+    }
+
+    /**
+     * Returns a stream of the values of <code>column</code> of all events currently in <code>list</code>.
+     * The stream is sized and splits evenly, so it is well suited for parallel processing.
+     *
+     * @param list list of events (usually an <code>AppendOnlyEventList</code>)
+     * @param column double column to be read
+     * @return stream of the values of <code>column</code>
+     */
+    static DoubleStream doubleStream(List<? extends AbstractGCEvent<?>> list, EventColumn column) {
+        if (list instanceof AppendOnlyEventList) {
+            AppendOnlyEventList<?> eventList = (AppendOnlyEventList<?>) list;
+            return IntStream.range(0, eventList.size()).mapToDouble(index -> eventList.getDouble(index, column));
+        }
+
+        return IntStream.range(0, list.size()).mapToDouble(index -> column.getDouble(list.get(index)));
+    }
+
+    /**
+     * Returns a stream of the values of <code>column</code> of all events currently in <code>list</code>.
+     * The stream is sized and splits evenly, so it is well suited for parallel processing.
+     *
+     * @param list list of events (usually an <code>AppendOnlyEventList</code>)
+     * @param column int column to be read
+     * @return stream of the values of <code>column</code>
+     */
+    static IntStream intStream(List<? extends AbstractGCEvent<?>> list, EventColumn column) {
+        if (list instanceof AppendOnlyEventList) {
+            AppendOnlyEventList<?> eventList = (AppendOnlyEventList<?>) list;
+            return IntStream.range(0, eventList.size()).map(index -> eventList.getInt(index, column));
+        }
+
+        return IntStream.range(0, list.size()).map(index -> column.getInt(list.get(index)));
+    }
+
+    /**
+     * Returns the index of the first event in <code>list</code>, whose value of <code>column</code> is
+     * at least <code>value</code>, using binary search. The values must be in ascending order.
+     *
+     * @param list list of events (usually an <code>AppendOnlyEventList</code>)
+     * @param column double column to be searched
+     * @param value value to be searched for
+     * @return index of the first event with a value &gt;= <code>value</code> or the size of the list if there is none
+     */
+    static int lowerBound(List<? extends AbstractGCEvent<?>> list, EventColumn column, double value) {
+        AppendOnlyEventList<?> eventList = list instanceof AppendOnlyEventList ? (AppendOnlyEventList<?>) list : null;
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            double middleValue = eventList != null ? eventList.getDouble(middle, column) : column.getDouble(list.get(middle));
+            if (middleValue < value) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Releases capacity reserved for elements not yet appended.
+     */
+    void trimToSize() {
+        // nothing to release by default
+    }
+
+    protected void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    protected Object writeReplace() {
+        // serialize the contents only
+        return new ArrayList<>(this);
+    }
+
+    private static class SnapshotList<E extends AbstractGCEvent<?>> extends AppendOnlyEventList<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final AppendOnlyEventList<E> list;
+        private final int size;
+
+        SnapshotList(AppendOnlyEventList<E> list, int size) {
+            this.list = list;
+            this.size = size;
+        }
+
+        @Override
+        public E get(int index) {
+            list.checkIndex(index, size);
+            return list.get(index);
+        }
+
+        @Override
+        double getDouble(int index, EventColumn column) {
+            list.checkIndex(index, size);
+            return list.getDouble(index, column);
+        }
+
+        @Override
+        int getInt(int index, EventColumn column) {
+            list.checkIndex(index, size);
+            return list.getInt(index, column);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.tagtraum.perf.gcviewer.model;
+
+import java.util.Arrays;
+
+/**
+ * Event list keeping its events on the heap in fixed size chunks. Unlike an {@link java.util.ArrayList}
+ * it never copies elements, that have already been published to other threads.
+ *
+ * @param <E> type of the events in this list
+ * @see AppendOnlyEventList
+ */
+class ChunkedEventList<E extends AbstractGCEvent<?>> extends AppendOnlyEventList<E> {
+    private static final long serialVersionUID = 1L;
+
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private volatile Object[][] chunks = new Object[16][];
+    private volatile int size;
+
+    @Override
+    public boolean add(E event) {
+        int chunkIndex = size >>> CHUNK_SHIFT;
+        Object[][] currentChunks = chunks;
+        if (chunkIndex == currentChunks.length) {
+            currentChunks = Arrays.copyOf(currentChunks, currentChunks.length * 2);
+        }
+        if (currentChunks[chunkIndex] == null) {
+            currentChunks[chunkIndex] = new Object[CHUNK_SIZE];
+            chunks = currentChunks;
+        }
+        else if (currentChunks[chunkIndex].length < CHUNK_SIZE) {
+            // trimmed before
+            currentChunks[chunkIndex] = Arrays.copyOf(currentChunks[chunkIndex], CHUNK_SIZE);
+            chunks = currentChunks;
+        }
+        currentChunks[chunkIndex][size & CHUNK_MASK] = event;
+        size++;
+
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        checkIndex(index, size);
+        return (E) chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    @Override
+    void trimToSize() {
+        int chunkCount = (size + CHUNK_MASK) >>> CHUNK_SHIFT;
+        Object[][] trimmedChunks = Arrays.copyOf(chunks, Math.max(chunkCount, 1));
+        if (chunkCount > 0 && (size & CHUNK_MASK) != 0) {
+            trimmedChunks[chunkCount - 1] = Arrays.copyOf(trimmedChunks[chunkCount - 1], size & CHUNK_MASK);
+        }
+        chunks = trimmedChunks;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.tagtraum.perf.gcviewer.model;
+
+/**
+ * Primitive values of an event, that can be read as a column (see {@link GCModel#getPauseStream(GCModel.EventCategory)}
+ * and related methods). Event lists may read the values without creating event objects
+ * (see {@link MappedEventList}).
+ */
+enum EventColumn {
+    TIMESTAMP {
+        @Override
+        double getDouble(AbstractGCEvent<?> event) {
+            return event.getTimestamp();
+        }
+    },
+    PAUSE {
+        @Override
+        double getDouble(AbstractGCEvent<?> event) {
+            return event.getPause();
+        }
+    },
+    PRE_USED {
+        @Override
+        int getInt(AbstractGCEvent<?> event) {
+            return event.getPreUsed();
+        }
+    },
+    POST_USED {
+        @Override
+        int getInt(AbstractGCEvent<?> event) {
+            return event.getPostUsed();
+        }
+    },
+    TOTAL {
+        @Override
+        int getInt(AbstractGCEvent<?> event) {
+            return event.getTotal();
+        }
+    };
+
+    double getDouble(AbstractGCEvent<?> event) {
+        throw new UnsupportedOperationException(name() + " is not a double column");
+    }
+
+    int getInt(AbstractGCEvent<?> event) {
+        throw new UnsupportedOperationException(name() + " is not an int column");
+    }
+}
@@ -15,48 +15,78 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 
 import com.tagtraum.perf.gcviewer.math.DoubleData;
 import com.tagtraum.perf.gcviewer.math.DoubleDataPercentile;
 import com.tagtraum.perf.gcviewer.math.IntData;
+import com.tagtraum.perf.gcviewer.math.IntervalIndex;
+import com.tagtraum.perf.gcviewer.math.MutatorUtilization;
+import com.tagtraum.perf.gcviewer.math.RateSeries;
 import com.tagtraum.perf.gcviewer.math.RegressionLine;
+import com.tagtraum.perf.gcviewer.math.RollingPercentiles;
+import com.tagtraum.perf.gcviewer.math.SlidingRegressionLine;
 import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.CollectionType;
 import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.Generation;
 
 /**
  * Collection of GCEvents.
  *
+ * <p>Events can only be appended. While one thread adds events (e.g. a reader during loading), other
+ * threads should work on a {@link #snapshot()}, which is consistent and never changes. Once loading
+ * is complete, the model is {@link #freeze() frozen} and can be shared as it is.</p>
+ *
  * @author <a href="mailto:hs@tagtraum.com">Hendrik Schreiber</a>
  */
 public class GCModel implements Serializable {
 
+    /**
+     * System property with the width of the window (in seconds) of the "recent" footprint trends
+     * (see {@link #getRecentPostGCSlope()}); default is one hour.
+     */
+    public static final String TREND_WINDOW_PROPERTY_NAME = "gcviewer.model.trendwindow";
+    private static final double DEFAULT_TREND_WINDOW = 3600;
+    // smallest window size of getMutatorUtilization() in seconds
+    private static final double MIN_UTILIZATION_WINDOW = 0.001;
+    // width of the time buckets of getPausePercentiles() in seconds
+    private static final double PAUSE_PERCENTILE_BUCKET_SIZE = 60;
+
     private static final long serialVersionUID = -6479685723904770990L;
 
     private static final Logger LOG = Logger.getLogger(GCModel.class.getName());
 
+    // statistics of more events than this are computed in parallel (see StatisticsTask)
+    private static final int PARALLEL_STATISTICS_THRESHOLD = 64 * 1024;
+    private static final int STATISTICS_PARTITION_SIZE = 16 * 1024;
+
     private List<AbstractGCEvent<?>> allEvents;
     private List<AbstractGCEvent<?>> stopTheWorldEvents;
     private List<GCEvent> gcEvents;
-    private List<AbstractGCEvent<?>> gcPhases;
     private List<AbstractGCEvent<?>> vmOperationEvents;
     private List<ConcurrentGCEvent> concurrentGCEvents;
-    private List<GCEvent> currentNoFullGCEvents;
     private List<GCEvent> fullGCEvents;
+    private GCPhaseTable gcPhaseTable;
     private FileInformation fileInformation = new FileInformation();
 
-    private Map<String, DoubleData> fullGcEventPauses; // pause information about all full gc events for detailed output
-    private Map<String, DoubleData> gcEventPauses; // pause information about all stw events for detailed output
-    private Map<String, DoubleData> gcEventPhases; // pause information about all phases for garbage collection events
-    private Map<String, DoubleData> concurrentGcEventPauses; // pause information about all concurrent events
-    private Map<String, DoubleData> vmOperationEventPauses; // pause information about vm operations ("application stopped")
+    private PausesByTypeName fullGcEventPauses; // pause information about all full gc events for detailed output
+    private PausesByTypeName gcEventPauses; // pause information about all stw events for detailed output
+    private PausesByTypeName gcEventPhases; // pause information about all phases for garbage collection events
+    private PausesByTypeName concurrentGcEventPauses; // pause information about all concurrent events
+    private PausesByTypeName vmOperationEventPauses; // pause information about vm operations ("application stopped")
 
     private IntData heapAllocatedSizes; // allocated heap size of every event
     private IntData tenuredAllocatedSizes; // allocated tenured size of every event that has this information
@@ -71,10 +101,16 @@ public class GCModel implements Serializable {
     private IntData postConcurrentCycleUsedHeapSizes; // used heap after concurrent collections
 
     private IntData promotion; // promotion from young to tenured generation during young collections
+    private RateSeries allocationRate; // heap allocated between two collections per second
+    private RateSeries promotionRate; // promotion of young collections per second since the previous collection
+    private GCEvent previousHeapEvent; // last collection with heap information; start of the next allocation interval
 
     private double firstPauseTimeStamp = Double.MAX_VALUE;
     private double lastPauseTimeStamp = 0;
+    // false, once an event was added with a timestamp before one of the previous events (e.g. jvm restart)
+    private boolean hasAscendingTimestamps = true;
     private DoubleData totalPause;
+    private RollingPercentiles pausePercentiles; // stop the world pauses per minute
     private DoubleData fullGCPause;
     private double lastFullGcPauseTimeStamp = 0;
     private DoubleData fullGcPauseInterval; // interval between two stop the Full GC pauses
@@ -95,8 +131,29 @@ public class GCModel implements Serializable {
     private DoubleData relativePostGCIncrease;
     private RegressionLine postFullGCSlope;
     private RegressionLine relativePostFullGCIncrease;
+    private SlidingRegressionLine recentPostGCSlope; // footprint after all collections within the trend window
+    private SlidingRegressionLine recentPostFullGCSlope; // footprint after full collections within the trend window
     private URL url;
 
+    // state of the model after the last call to add(); used for snapshots taken on other threads
+    private volatile PublishedState publishedState = new PublishedState();
+    private boolean isSnapshot;
+    private volatile boolean isFrozen;
+
+    // number of events in allEvents, that are already included in the pause / memory statistics
+    private int pauseStatisticsEventCount;
+    private int memoryStatisticsEventCount;
+    // number of phases in gcPhaseTable, that are already included in gcEventPhases
+    private int phaseStatisticsCount;
+    // only set for partitions of the statistics computed in parallel (see StatisticsTask)
+    private transient PartitionStart partitionStart;
+    // only cached, when the model can't change any more (snapshot or frozen)
+    private transient volatile MutatorUtilization mutatorUtilization;
+    // rebuilt, when events were added since
+    private transient volatile EventIntervals eventIntervals;
+    // rebuild of eventIntervals running in the background (see getIndexedEventAt)
+    transient volatile CompletableFuture<Void> eventIntervalsUpdate;
+
     /**
      * Contains information about a file.
      *
@@ -185,14 +242,32 @@ public class GCModel implements Serializable {
     }
 
     public GCModel() {
-        this.allEvents = new ArrayList<AbstractGCEvent<?>>();
-        this.stopTheWorldEvents = new ArrayList<AbstractGCEvent<?>>();
-        this.gcEvents = new ArrayList<GCEvent>();
-        this.vmOperationEvents = new ArrayList<AbstractGCEvent<?>>();
-        this.gcPhases = new ArrayList<AbstractGCEvent<?>>();
-        this.concurrentGCEvents = new ArrayList<ConcurrentGCEvent>();
-        this.fullGCEvents = new ArrayList<GCEvent>();
-        this.currentNoFullGCEvents = new ArrayList<GCEvent>();
+        this(Storage.getDefault());
+    }
+
+    /**
+     * Creates an empty model keeping its events in the given <code>storage</code>.
+     *
+     * @param storage where to keep the events
+     */
+    public GCModel(Storage storage) {
+        if (storage == Storage.MAPPED) {
+            this.allEvents = new MappedEventList();
+            this.stopTheWorldEvents = new IndexedEventList<AbstractGCEvent<?>>(allEvents);
+            this.gcEvents = new IndexedEventList<GCEvent>(allEvents);
+            this.vmOperationEvents = new IndexedEventList<AbstractGCEvent<?>>(allEvents);
+            this.concurrentGCEvents = new IndexedEventList<ConcurrentGCEvent>(allEvents);
+            this.fullGCEvents = new IndexedEventList<GCEvent>(allEvents);
+        }
+        else {
+            this.allEvents = new ChunkedEventList<AbstractGCEvent<?>>();
+            this.stopTheWorldEvents = new ChunkedEventList<AbstractGCEvent<?>>();
+            this.gcEvents = new ChunkedEventList<GCEvent>();
+            this.vmOperationEvents = new ChunkedEventList<AbstractGCEvent<?>>();
+            this.concurrentGCEvents = new ChunkedEventList<ConcurrentGCEvent>();
+            this.fullGCEvents = new ChunkedEventList<GCEvent>();
+        }
+        this.gcPhaseTable = new GCPhaseTable();
         this.currentPostGCSlope = new RegressionLine();
         this.postFullGCSlope = new RegressionLine();
         this.postGCSlope = new DoubleData();
@@ -202,6 +277,7 @@ public class GCModel implements Serializable {
 
         this.postGCUsedMemory = new IntData();
         this.totalPause = new DoubleDataPercentile();
+        this.pausePercentiles = new RollingPercentiles(PAUSE_PERCENTILE_BUCKET_SIZE);
         this.fullGCPause = new DoubleDataPercentile();
         this.fullGcPauseInterval = new DoubleData();
         this.gcPause = new DoubleDataPercentile();
@@ -211,12 +287,15 @@ public class GCModel implements Serializable {
         this.currentRelativePostGCIncrease = new RegressionLine();
         this.relativePostGCIncrease = new DoubleData();
         this.relativePostFullGCIncrease = new RegressionLine();
+        double trendWindow = getTrendWindow();
+        this.recentPostGCSlope = new SlidingRegressionLine(trendWindow);
+        this.recentPostFullGCSlope = new SlidingRegressionLine(trendWindow);
 
-        this.fullGcEventPauses = new TreeMap<String, DoubleData>();
-        this.gcEventPauses = new TreeMap<String, DoubleData>();
-        this.gcEventPhases = new TreeMap<String, DoubleData>();
-        this.concurrentGcEventPauses = new TreeMap<String, DoubleData>();
-        this.vmOperationEventPauses = new TreeMap<String, DoubleData>();
+        this.fullGcEventPauses = new PausesByTypeName();
+        this.gcEventPauses = new PausesByTypeName();
+        this.gcEventPhases = new PausesByTypeName();
+        this.concurrentGcEventPauses = new PausesByTypeName();
+        this.vmOperationEventPauses = new PausesByTypeName();
 
         this.heapAllocatedSizes = new IntData();
         this.permAllocatedSizes = new IntData();
@@ -232,6 +311,151 @@ public class GCModel implements Serializable {
         this.postConcurrentCycleUsedHeapSizes = new IntData();
 
         this.promotion = new IntData();
+        this.allocationRate = new RateSeries();
+        this.promotionRate = new RateSeries();
+    }
+
+    private GCModel(GCModel model, PublishedState state) {
+        this(Storage.HEAP);
+
+        this.allEvents = snapshotOf(model.allEvents, state.eventCount);
+        this.stopTheWorldEvents = snapshotOf(model.stopTheWorldEvents, state.stopTheWorldEventCount);
+        this.gcEvents = snapshotOf(model.gcEvents, state.gcEventCount);
+        this.vmOperationEvents = snapshotOf(model.vmOperationEvents, state.vmOperationEventCount);
+        this.concurrentGCEvents = snapshotOf(model.concurrentGCEvents, state.concurrentGCEventCount);
+        this.fullGCEvents = snapshotOf(model.fullGCEvents, state.fullGCEventCount);
+        this.gcPhaseTable = model.gcPhaseTable.snapshot(state.phaseCount);
+        this.recentPostGCSlope = new SlidingRegressionLine(model.recentPostGCSlope.getWindowSize());
+        this.recentPostFullGCSlope = new SlidingRegressionLine(model.recentPostFullGCSlope.getWindowSize());
+        this.firstPauseTimeStamp = state.firstPauseTimeStamp;
+        this.lastPauseTimeStamp = state.lastPauseTimeStamp;
+        this.hasAscendingTimestamps = state.hasAscendingTimestamps;
+        this.publishedState = state;
+        this.isSnapshot = true;
+
+        this.format = model.format;
+        this.url = model.url;
+        this.fileInformation.setFileInformation(model.fileInformation);
+    }
+
+    /**
+     * Creates a partition of the statistics of a model (see {@link StatisticsTask}).
+     */
+    private GCModel(GCModel model, PartitionStart partitionStart) {
+        this(Storage.HEAP);
+
+        this.allEvents = model.allEvents;
+        this.gcPhaseTable = model.gcPhaseTable;
+        this.recentPostGCSlope = new SlidingRegressionLine(model.recentPostGCSlope.getWindowSize());
+        this.recentPostFullGCSlope = new SlidingRegressionLine(model.recentPostFullGCSlope.getWindowSize());
+        this.partitionStart = partitionStart;
+        this.isSnapshot = true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends AbstractGCEvent<?>> List<E> snapshotOf(List<E> list, int size) {
+        if (list instanceof AppendOnlyEventList) {
+            return ((AppendOnlyEventList<E>) list).snapshot(size);
+        }
+
+        // deserialized model
+        return Collections.unmodifiableList(new ArrayList<>(list.subList(0, size)));
+    }
+
+    /**
+     * Returns an immutable view of this model containing all events that have been added so far.
+     * Taking a snapshot is cheap and safe on any thread, while another thread is still adding events
+     * to this model (e.g. during loading); the snapshot will never change. Its statistics are
+     * calculated from the events of the snapshot.
+     *
+     * @return consistent immutable view of this model
+     * @see #getVersion()
+     */
+    public GCModel snapshot() {
+        if (isSnapshot || isFrozen) {
+            return this;
+        }
+
+        return new GCModel(this, publishedState);
+    }
+
+    /**
+     * Returns <code>true</code>, if this model was created by {@link #snapshot()} and can't be modified.
+     *
+     * @return <code>true</code>, if this is a snapshot
+     */
+    public boolean isSnapshot() {
+        return isSnapshot;
+    }
+
+    /**
+     * Completes all statistics and releases unused capacity of the internal storage (including the
+     * detail and phase lists of the events). Afterwards, no more events can be added and
+     * reading from the model does not change it any more, so that it can be shared between threads
+     * without copying. Called after a model has been loaded completely.
+     */
+    public synchronized void freeze() {
+        if (isFrozen || isSnapshot) {
+            return;
+        }
+
+        updatePauseStatistics();
+        updateMemoryStatistics();
+
+        if (!(allEvents instanceof MappedEventList)) {
+            // mapped events are decoded on every access; there is nothing to compact
+            for (AbstractGCEvent<?> event : allEvents) {
+                event.compact();
+            }
+        }
+
+        trimToSize(allEvents);
+        trimToSize(stopTheWorldEvents);
+        trimToSize(gcEvents);
+        trimToSize(vmOperationEvents);
+        trimToSize(concurrentGCEvents);
+        trimToSize(fullGCEvents);
+        gcPhaseTable.trimToSize();
+
+        for (PausesByTypeName eventPauses : Arrays.asList(fullGcEventPauses, gcEventPauses, gcEventPhases, concurrentGcEventPauses, vmOperationEventPauses)) {
+            for (DoubleData pauses : eventPauses.asMap().values()) {
+                ((DoubleDataPercentile) pauses).compact();
+            }
+        }
+        ((DoubleDataPercentile) totalPause).compact();
+        ((DoubleDataPercentile) fullGCPause).compact();
+        gcPause.compact();
+
+        isFrozen = true;
+    }
+
+    private static void trimToSize(List<? extends AbstractGCEvent<?>> list) {
+        if (list instanceof AppendOnlyEventList) {
+            ((AppendOnlyEventList<?>) list).trimToSize();
+        }
+        else if (list instanceof ArrayList) {
+            // deserialized model
+            ((ArrayList<?>) list).trimToSize();
+        }
+    }
+
+    /**
+     * Returns <code>true</code>, if {@link #freeze()} has been called on this model.
+     *
+     * @return <code>true</code>, if this model is frozen
+     */
+    public boolean isFrozen() {
+        return isFrozen;
+    }
+
+    /**
+     * Returns the version of this model, which increases with every event added. Two snapshots of
+     * the same model with the same version contain the same events.
+     *
+     * @return version of this model
+     */
+    public long getVersion() {
+        return publishedState.eventCount;
     }
 
     public long getLastModified() {
@@ -270,10 +494,12 @@ public class GCModel implements Serializable {
 
     public void printDetailedInformation() {
         // TODO delete
-        printPauseMap(gcEventPauses);
-        printPauseMap(fullGcEventPauses);
-        printPauseMap(concurrentGcEventPauses);
-        printPauseMap(vmOperationEventPauses);
+        updatePauseStatistics();
+        updateMemoryStatistics();
+        printPauseMap(gcEventPauses.asMap());
+        printPauseMap(fullGcEventPauses.asMap());
+        printPauseMap(concurrentGcEventPauses.asMap());
+        printPauseMap(vmOperationEventPauses.asMap());
 
         printDoubleData("initiatingOccupancyFraction", initiatingOccupancyFraction);
 
@@ -390,6 +616,17 @@ public class GCModel implements Serializable {
         return allEvents.iterator();
     }
 
+    /**
+     * Returns an iterator to the events starting at <code>fromIndex</code> in the order they were
+     * added to the model.
+     *
+     * @param fromIndex index of the first event to be returned
+     * @return iterator to the events from <code>fromIndex</code> on
+     */
+    public Iterator<AbstractGCEvent<?>> getEvents(int fromIndex) {
+        return allEvents.listIterator(fromIndex);
+    }
+
     /**
      * Returns an iterator to all full gc events.
      *
@@ -399,39 +636,213 @@ public class GCModel implements Serializable {
         return fullGCEvents.iterator();
     }
 
-    private DoubleData getDoubleData(String key, Map<String, DoubleData> eventMap) {
-        DoubleData data = eventMap.get(key);
-        if (data == null) {
-            data = new DoubleDataPercentile();
-            eventMap.put(key, data);
+    /**
+     * Returns an iterator to the events of <code>category</code> starting with the first event, that
+     * ends at or after <code>fromTimestamp</code>. The start is found by binary search over the
+     * timestamps, so that only the events from there on are read (e.g. to paint the visible part
+     * of a chart). If the timestamps of this model are not in ascending order (see
+     * {@link #hasAscendingTimestamps()}), the iterator starts with the first event.
+     *
+     * @param category category of the events
+     * @param fromTimestamp timestamp of the first event to be returned
+     * @return iterator to the events of <code>category</code> from <code>fromTimestamp</code> on
+     */
+    @SuppressWarnings("unchecked")
+    public Iterator<AbstractGCEvent<?>> getEvents(EventCategory category, double fromTimestamp) {
+        List<? extends AbstractGCEvent<?>> list = getEventList(category);
+        int fromIndex = hasAscendingTimestamps()
+                ? AppendOnlyEventList.lowerBound(list, EventColumn.TIMESTAMP, fromTimestamp)
+                : 0;
+        // read only -> the events can be returned as their common super type
+        return (Iterator<AbstractGCEvent<?>>) list.listIterator(fromIndex);
+    }
+
+    /**
+     * Returns <code>true</code>, if every event of this model has a timestamp at or after the
+     * timestamps of the events added before. Files containing several runs of a jvm (e.g. after a
+     * restart) may start over with smaller timestamps.
+     *
+     * @return <code>true</code>, if the timestamps of the events are in ascending order
+     */
+    public boolean hasAscendingTimestamps() {
+        return publishedState.hasAscendingTimestamps;
+    }
+
+    /**
+     * Returns the stop the world or concurrent event closest to <code>timestamp</code> within
+     * <code>tolerance</code> (e.g. the event under the mouse pointer). Events cover the time from
+     * <code>timestamp - pause</code> to their timestamp; of events covering <code>timestamp</code>,
+     * the shortest one is returned (a pause rather than the concurrent phase around it).
+     *
+     * <p>The events are looked up in an interval index (see {@link IntervalIndex}), which is built on
+     * the first call and after events have been added.</p>
+     *
+     * @param timestamp timestamp to find the event for
+     * @param tolerance maximum distance of the event from <code>timestamp</code> in seconds
+     * @return closest event or <code>null</code>, if there is no event within <code>tolerance</code>
+     */
+    public AbstractGCEvent<?> getEventAt(double timestamp, double tolerance) {
+        EventIntervals intervals = eventIntervals;
+        if (intervals == null || intervals.model.size() != size()) {
+            intervals = new EventIntervals(snapshot());
+            eventIntervals = intervals;
+        }
+
+        return intervals.getEventAt(timestamp, tolerance);
+    }
+
+    /**
+     * Like {@link #getEventAt(double, double)}, but never builds the interval index on the calling
+     * thread (use it on the event dispatch thread). If the index is missing or doesn't contain the
+     * latest events, it is rebuilt in the background; until then, the events are looked up in the
+     * previous index or <code>null</code> is returned, if there is none yet.
+     *
+     * @param timestamp timestamp to find the event for
+     * @param tolerance maximum distance of the event from <code>timestamp</code> in seconds
+     * @return closest event or <code>null</code>, if there is no event within <code>tolerance</code>
+     * or the index is not ready yet
+     */
+    public AbstractGCEvent<?> getIndexedEventAt(double timestamp, double tolerance) {
+        EventIntervals intervals = eventIntervals;
+        if (intervals == null || intervals.model.size() != size()) {
+            updateEventIntervalsInBackground();
         }
 
-        return data;
+        return intervals != null ? intervals.getEventAt(timestamp, tolerance) : null;
+    }
+
+    private void updateEventIntervalsInBackground() {
+        CompletableFuture<Void> update = eventIntervalsUpdate;
+        if (update != null && !update.isDone()) {
+            return;
+        }
+
+        GCModel snapshot = snapshot();
+        eventIntervalsUpdate = CompletableFuture.runAsync(() -> {
+            EventIntervals intervals = new EventIntervals(snapshot);
+            EventIntervals currentIntervals = eventIntervals;
+            if (currentIntervals == null || currentIntervals.model.size() < snapshot.size()) {
+                eventIntervals = intervals;
+            }
+        });
+    }
+
+    /**
+     * Returns the timestamps of all events of <code>category</code> as a primitive stream. Like the
+     * other column streams, it contains the events present when it was created, can be split for
+     * parallel processing and does not need to create event objects with {@link Storage#MAPPED}.
+     *
+     * @param category category of the events
+     * @return stream of the timestamps
+     */
+    public DoubleStream getTimestampStream(EventCategory category) {
+        return AppendOnlyEventList.doubleStream(getEventList(category), EventColumn.TIMESTAMP);
+    }
+
+    /**
+     * Returns the pauses of all events of <code>category</code> as a primitive stream
+     * (see {@link #getTimestampStream(EventCategory)}).
+     *
+     * @param category category of the events
+     * @return stream of the pauses
+     */
+    public DoubleStream getPauseStream(EventCategory category) {
+        return AppendOnlyEventList.doubleStream(getEventList(category), EventColumn.PAUSE);
+    }
+
+    /**
+     * Returns the memory used before collection of all events of <code>category</code> as a primitive
+     * stream (see {@link #getTimestampStream(EventCategory)}).
+     *
+     * @param category category of the events
+     * @return stream of the used memory before collection
+     */
+    public IntStream getPreUsedStream(EventCategory category) {
+        return AppendOnlyEventList.intStream(getEventList(category), EventColumn.PRE_USED);
+    }
+
+    /**
+     * Returns the memory used after collection of all events of <code>category</code> as a primitive
+     * stream (see {@link #getTimestampStream(EventCategory)}).
+     *
+     * @param category category of the events
+     * @return stream of the used memory after collection
+     */
+    public IntStream getPostUsedStream(EventCategory category) {
+        return AppendOnlyEventList.intStream(getEventList(category), EventColumn.POST_USED);
+    }
+
+    /**
+     * Returns the total memory of all events of <code>category</code> as a primitive stream
+     * (see {@link #getTimestampStream(EventCategory)}).
+     *
+     * @param category category of the events
+     * @return stream of the total memory
+     */
+    public IntStream getTotalStream(EventCategory category) {
+        return AppendOnlyEventList.intStream(getEventList(category), EventColumn.TOTAL);
+    }
+
+    private List<? extends AbstractGCEvent<?>> getEventList(EventCategory category) {
+        switch (category) {
+            case ALL:
+                return allEvents;
+            case STOP_THE_WORLD:
+                return stopTheWorldEvents;
+            case GC:
+                return gcEvents;
+            case FULL_GC:
+                return fullGCEvents;
+            case VM_OPERATION:
+                return vmOperationEvents;
+            case CONCURRENT:
+                return concurrentGCEvents;
+            default:
+                throw new IllegalArgumentException("unknown event category " + category);
+        }
     }
 
     public void add(AbstractGCEvent<?> abstractEvent) {
+        if (isSnapshot) {
+            throw new IllegalStateException("a snapshot of a GCModel can't be modified");
+        }
+        if (isFrozen) {
+            throw new IllegalStateException("a frozen GCModel can't be modified");
+        }
+
+        // all corrections must be done before the event is stored; depending on the storage,
+        // later changes to the event are lost
         makeSureHasTimeStamp(abstractEvent);
+        if (abstractEvent instanceof VmOperationEvent) {
+            adjustVmOperationEvent((VmOperationEvent) abstractEvent);
+        }
+        if (allEvents.size() > 0 && abstractEvent.getTimestamp() < lastPauseTimeStamp) {
+            hasAscendingTimestamps = false;
+        }
+        if (abstractEvent instanceof GCEvent && !abstractEvent.getPhases().isEmpty()) {
+            gcPhaseTable.addPhasesOf(allEvents.size(), abstractEvent);
+        }
 
         allEvents.add(abstractEvent);
 
         if (abstractEvent.isStopTheWorld()) {
-            // totalPause must not be added here yet, because in case of vmOperationEvents, the
-            // pause might be adjusted
             stopTheWorldEvents.add(abstractEvent);
         }
 
         if (abstractEvent instanceof ConcurrentGCEvent) {
-            ConcurrentGCEvent concEvent = (ConcurrentGCEvent) abstractEvent;
-            addConcurrentGcEvent(concEvent);
+            concurrentGCEvents.add((ConcurrentGCEvent) abstractEvent);
         }
         else if (abstractEvent instanceof GCEvent) {
-            // collect statistics about all stop the world events
             GCEvent event = (GCEvent) abstractEvent;
-            addGcEvent(event);
+            if (!event.isFull()) {
+                gcEvents.add(event);
+            }
+            else {
+                fullGCEvents.add(event);
+            }
         }
         else if (abstractEvent instanceof VmOperationEvent) {
-            VmOperationEvent vmOperationEvent = (VmOperationEvent) abstractEvent;
-            addVmOperationEvent(vmOperationEvent);
+            vmOperationEvents.add(abstractEvent);
         }
 
         if (size() == 1 || (size() > 1 && abstractEvent.getTimestamp() > 0.0)) {
@@ -440,87 +851,287 @@ public class GCModel implements Serializable {
             firstPauseTimeStamp = Math.min(firstPauseTimeStamp, abstractEvent.getTimestamp());
         }
         lastPauseTimeStamp = Math.max(lastPauseTimeStamp, abstractEvent.getTimestamp());
+
+        publishedState = new PublishedState(this);
+
+        // all other statistics are derived lazily from the events on first access
+        // (see updatePauseStatistics() / updateMemoryStatistics())
+    }
+
+    private void adjustVmOperationEvent(VmOperationEvent vmOperationEvent) {
+        // pause and timestamp of vm operations depend on the previous stop the world event
+        AbstractGCEvent<?> previousEvent = stopTheWorldEvents.size() > 0
+                ? stopTheWorldEvents.get(stopTheWorldEvents.size() - 1)
+                : null;
+
+        if (previousEvent != null) {
+            adjustPause(previousEvent, vmOperationEvent);
+            if (vmOperationEvent.getTimestamp() < 0.000001) {
+                adjustTimeStamp(previousEvent, vmOperationEvent);
+            }
+        }
+    }
+
+    /**
+     * Brings all pause related statistics up to date with the events added to the model. Only events
+     * added since the last call are processed.
+     */
+    private synchronized void updatePauseStatistics() {
+        if (allEvents.size() - pauseStatisticsEventCount >= PARALLEL_STATISTICS_THRESHOLD) {
+            updatePauseStatisticsInParallel(STATISTICS_PARTITION_SIZE);
+        }
+
+        while (pauseStatisticsEventCount < allEvents.size()) {
+            addPauseStatistics(allEvents.get(pauseStatisticsEventCount++));
+        }
+
+        // phase statistics are taken from the phase table; the phase events themselves are not needed
+        while (phaseStatisticsCount < gcPhaseTable.size()) {
+            addPhaseStatistics(phaseStatisticsCount++);
+        }
+    }
+
+    /**
+     * Brings all memory related statistics up to date with the events added to the model. Only events
+     * added since the last call are processed.
+     */
+    private synchronized void updateMemoryStatistics() {
+        if (allEvents.size() - memoryStatisticsEventCount >= PARALLEL_STATISTICS_THRESHOLD) {
+            updateMemoryStatisticsInParallel(STATISTICS_PARTITION_SIZE);
+        }
+
+        while (memoryStatisticsEventCount < allEvents.size()) {
+            int index = memoryStatisticsEventCount++;
+            addMemoryStatistics(index, allEvents.get(index));
+        }
+    }
+
+    /**
+     * Brings all statistics up to date with the events added to the model, computing the statistics
+     * of partitions of <code>partitionSize</code> events in parallel.
+     *
+     * @param partitionSize maximum number of events (and phases) per partition
+     */
+    synchronized void updateStatisticsInParallel(int partitionSize) {
+        updatePauseStatisticsInParallel(partitionSize);
+        updateMemoryStatisticsInParallel(partitionSize);
+    }
+
+    private void updatePauseStatisticsInParallel(int partitionSize) {
+        int eventCount = allEvents.size();
+        int phaseCount = gcPhaseTable.size();
+        mergeStatistics(ForkJoinPool.commonPool().invoke(
+                new StatisticsTask(this, true, pauseStatisticsEventCount, eventCount, phaseStatisticsCount, phaseCount, partitionSize)));
+        pauseStatisticsEventCount = eventCount;
+        phaseStatisticsCount = phaseCount;
+    }
+
+    private void updateMemoryStatisticsInParallel(int partitionSize) {
+        int eventCount = allEvents.size();
+        mergeStatistics(ForkJoinPool.commonPool().invoke(
+                new StatisticsTask(this, false, memoryStatisticsEventCount, eventCount, 0, 0, partitionSize)));
+        memoryStatisticsEventCount = eventCount;
+    }
+
+    /**
+     * Adds the statistics of <code>partition</code>, which were computed from the events directly
+     * following the events already included in the statistics of this model.
+     *
+     * @param partition statistics of the following events
+     */
+    private void mergeStatistics(GCModel partition) {
+        fullGcEventPauses.merge(partition.fullGcEventPauses);
+        gcEventPauses.merge(partition.gcEventPauses);
+        gcEventPhases.merge(partition.gcEventPhases);
+        concurrentGcEventPauses.merge(partition.concurrentGcEventPauses);
+        vmOperationEventPauses.merge(partition.vmOperationEventPauses);
+
+        heapAllocatedSizes.merge(partition.heapAllocatedSizes);
+        tenuredAllocatedSizes.merge(partition.tenuredAllocatedSizes);
+        youngAllocatedSizes.merge(partition.youngAllocatedSizes);
+        permAllocatedSizes.merge(partition.permAllocatedSizes);
+        heapUsedSizes.merge(partition.heapUsedSizes);
+        tenuredUsedSizes.merge(partition.tenuredUsedSizes);
+        youngUsedSizes.merge(partition.youngUsedSizes);
+        permUsedSizes.merge(partition.permUsedSizes);
+        postConcurrentCycleUsedTenuredSizes.merge(partition.postConcurrentCycleUsedTenuredSizes);
+        postConcurrentCycleUsedHeapSizes.merge(partition.postConcurrentCycleUsedHeapSizes);
+        promotion.merge(partition.promotion);
+        allocationRate.merge(partition.allocationRate);
+        promotionRate.merge(partition.promotionRate);
+        if (partition.previousHeapEvent != null) {
+            previousHeapEvent = partition.previousHeapEvent;
+        }
+
+        totalPause.merge(partition.totalPause);
+        pausePercentiles.merge(partition.pausePercentiles);
+        fullGCPause.merge(partition.fullGCPause);
+        gcPause.merge(partition.gcPause);
+        vmOperationPause.merge(partition.vmOperationPause);
+        initiatingOccupancyFraction.merge(partition.initiatingOccupancyFraction);
+        freedMemory += partition.freedMemory;
+        postGCUsedMemory.merge(partition.postGCUsedMemory);
+        postFullGCUsedHeap.merge(partition.postFullGCUsedHeap);
+        freedMemoryByGC.merge(partition.freedMemoryByGC);
+        freedMemoryByFullGC.merge(partition.freedMemoryByFullGC);
+
+        // the first pause intervals of the partition start at the last pause of this model
+        PartitionStart start = partition.partitionStart;
+        for (GCEvent event : start.gcPauseIntervalEvents) {
+            updateGcPauseInterval(event);
+        }
+        if (start.hasGcPauseIntervalStart) {
+            lastGcPauseTimeStamp = partition.lastGcPauseTimeStamp;
+        }
+        pauseInterval.merge(partition.pauseInterval);
+
+        for (GCEvent event : start.fullGcPauseIntervalEvents) {
+            updateFullGcPauseInterval(event);
+        }
+        if (start.hasFullGcPauseIntervalStart) {
+            lastFullGcPauseTimeStamp = partition.lastFullGcPauseTimeStamp;
+        }
+        fullGcPauseInterval.merge(partition.fullGcPauseInterval);
+
+        // the collections of the partition before its first full gc continue the current run of this model
+        boolean hasFullGc = start.postGCSlope != null;
+        RegressionLine leadingPostGCSlope = hasFullGc ? start.postGCSlope : partition.currentPostGCSlope;
+        RegressionLine leadingRelativePostGCIncrease = hasFullGc ? start.relativePostGCIncrease : partition.currentRelativePostGCIncrease;
+        currentRelativePostGCIncrease.merge(leadingRelativePostGCIncrease, currentRelativePostGCIncrease.getPointCount());
+        currentPostGCSlope.merge(leadingPostGCSlope);
+        if (hasFullGc) {
+            endPostGCRun();
+            currentPostGCSlope.merge(partition.currentPostGCSlope);
+            currentRelativePostGCIncrease.merge(partition.currentRelativePostGCIncrease);
+        }
+        postGCSlope.merge(partition.postGCSlope);
+        relativePostGCIncrease.merge(partition.relativePostGCIncrease);
+
+        relativePostFullGCIncrease.merge(partition.relativePostFullGCIncrease, relativePostFullGCIncrease.getPointCount());
+        postFullGCSlope.merge(partition.postFullGCSlope);
+
+        recentPostGCSlope.merge(partition.recentPostGCSlope);
+        recentPostFullGCSlope.merge(partition.recentPostFullGCSlope);
+    }
+
+    private void addPauseStatistics(AbstractGCEvent<?> abstractEvent) {
+        if (abstractEvent instanceof ConcurrentGCEvent) {
+            addConcurrentGcEventPause((ConcurrentGCEvent) abstractEvent);
+        }
+        else if (abstractEvent instanceof GCEvent) {
+            addGcEventPauses((GCEvent) abstractEvent);
+        }
+        else if (abstractEvent instanceof VmOperationEvent) {
+            addVmOperationEventPause((VmOperationEvent) abstractEvent);
+        }
+
         if (abstractEvent.isStopTheWorld()) {
-            // add to total pause here, because then adjusted VmOperationEvents are added correctly
-            // as well
             totalPause.add(abstractEvent.getPause());
+            pausePercentiles.add(abstractEvent.getTimestamp(), abstractEvent.getPause());
         }
     }
 
-    private void addConcurrentGcEvent(ConcurrentGCEvent concEvent) {
-        concurrentGCEvents.add(concEvent);
+    private void addPhaseStatistics(int index) {
+        gcEventPhases.get(gcPhaseTable.getTypeNameOf(index)).add(gcPhaseTable.getPause(index));
+    }
+
+    private void addMemoryStatistics(int index, AbstractGCEvent<?> abstractEvent) {
+        if (abstractEvent instanceof ConcurrentGCEvent) {
+            ConcurrentGCEvent concEvent = (ConcurrentGCEvent) abstractEvent;
+            if (concEvent.hasMemoryInformation() && concEvent.isConcurrentCollectionEnd()) {
+                // register postConcurrentCycleUsedSizes, if event contains memory information. Otherwise deduce it (see in handling of GCEvent)
+                updatePostConcurrentCycleUsedSizes(concEvent);
+            }
+        }
+        else if (abstractEvent instanceof GCEvent) {
+            addGcEventMemory(index, (GCEvent) abstractEvent);
+        }
+    }
 
+    private void addConcurrentGcEventPause(ConcurrentGCEvent concEvent) {
         // With UJL concurrent events usually have a "start" and an "end" event with the same name.
         // The "start" event does not have a pause, the end event does. For the statistic, ignore the start event;
         // otherwise the concurrent events are counted twice and distort statistics.
         if (concEvent.getPause() > 0.0000001) {
-            DoubleData pauses = getDoubleData(concEvent.getExtendedType().getName(), concurrentGcEventPauses);
+            DoubleData pauses = concurrentGcEventPauses.get(concEvent.getExtendedType().getTypeName());
             pauses.add(concEvent.getPause());
         }
+    }
 
-        if (concEvent.hasMemoryInformation() && concEvent.isConcurrentCollectionEnd()) {
-            // register postConcurrentCycleUsedSizes, if event contains memory information. Otherwise deduce it (see in handling of GCEvent)
-            updatePostConcurrentCycleUsedSizes(concEvent);
+    private void addGcEventPauses(GCEvent event) {
+        updateGcPauseInterval(event);
+
+        if (!event.isFull()) {
+            // make a difference between stop the world events, which only collect from some generations...
+            DoubleData pauses = gcEventPauses.get(event.getTypeName());
+            pauses.add(event.getPause());
+            gcPause.add(event.getPause());
+        }
+        else {
+            // ... as opposed to all generations
+            DoubleData pauses = fullGcEventPauses.get(event.getTypeName());
+            pauses.add(event.getPause());
+            updateFullGcPauseInterval(event);
+            fullGCPause.add(event.getPause());
         }
     }
 
-    private void addGcEvent(GCEvent event) {
-        updateHeapSizes(event);
+    private void addVmOperationEventPause(VmOperationEvent vmOperationEvent) {
+        vmOperationPause.add(vmOperationEvent.getPause());
+        DoubleData vmOpPauses = vmOperationEventPauses.get(vmOperationEvent.getTypeName());
+        vmOpPauses.add(vmOperationEvent.getPause());
+    }
 
-        updateGcPauseInterval(event);
+    private void addGcEventMemory(int index, GCEvent event) {
+        updateHeapSizes(event);
 
+        // promotion rate needs the previous collection -> update allocation rate afterwards
         updatePromotion(event);
+        updateAllocationRate(event);
 
         if (event.isInitialMark()) {
             updateInitiatingOccupancyFraction(event);
         }
-        if (size() > 1 && allEvents.get(allEvents.size() - 2).isConcurrentCollectionEnd() && !allEvents.get(allEvents.size() - 2).hasMemoryInformation()) {
+        if (index > 0 && allEvents.get(index - 1).isConcurrentCollectionEnd() && !allEvents.get(index - 1).hasMemoryInformation()) {
             // only deduce postConcurrentCycleUsedSizes, if concurrent event itself does not contain memory information
             updatePostConcurrentCycleUsedSizes(event);
         }
 
         freedMemory += event.getPreUsed() - event.getPostUsed();
+        recentPostGCSlope.addPoint(event.getTimestamp(), event.getPostUsed());
 
         if (!event.isFull()) {
-            addGcEventPause(event);
+            postGCUsedMemory.add(event.getPostUsed());
+            freedMemoryByGC.add(event.getPreUsed() - event.getPostUsed());
+            currentPostGCSlope.addPoint(event.getTimestamp(), event.getPostUsed());
+            currentRelativePostGCIncrease.addPoint(currentRelativePostGCIncrease.getPointCount(), event.getPostUsed());
         }
         else {
-            addFullGcEventPauses(event);
-        }
-
-        if (!event.getPhases().isEmpty()) {
-            addGcEventPhases(event);
+            addFullGcEventMemory(event);
         }
     }
 
-    private void addGcEventPause(GCEvent event) {
-        // make a difference between stop the world events, which only collect from some generations...
-        DoubleData pauses = getDoubleData(event.getTypeAsString(), gcEventPauses);
-        pauses.add(event.getPause());
-
-        gcEvents.add(event);
-        postGCUsedMemory.add(event.getPostUsed());
-        freedMemoryByGC.add(event.getPreUsed() - event.getPostUsed());
-        currentNoFullGCEvents.add(event);
-        currentPostGCSlope.addPoint(event.getTimestamp(), event.getPostUsed());
-        currentRelativePostGCIncrease.addPoint(currentRelativePostGCIncrease.getPointCount(), event.getPostUsed());
-        gcPause.add(event.getPause());
-    }
-
-    private void addFullGcEventPauses(GCEvent event) {
-        // ... as opposed to all generations
-        DoubleData pauses = getDoubleData(event.getTypeAsString(), fullGcEventPauses);
-        pauses.add(event.getPause());
-
-        updateFullGcPauseInterval(event);
-        fullGCEvents.add(event);
+    private void addFullGcEventMemory(GCEvent event) {
         postFullGCUsedHeap.add(event.getPostUsed());
         int freed = event.getPreUsed() - event.getPostUsed();
         freedMemoryByFullGC.add(freed);
-        fullGCPause.add(event.getPause());
         postFullGCSlope.addPoint(event.getTimestamp(), event.getPostUsed());
+        recentPostFullGCSlope.addPoint(event.getTimestamp(), event.getPostUsed());
         relativePostFullGCIncrease.addPoint(relativePostFullGCIncrease.getPointCount(), event.getPostUsed());
 
+        endPostGCRun();
+    }
+
+    private void endPostGCRun() {
+        if (partitionStart != null && partitionStart.postGCSlope == null) {
+            // the run started before this partition; it is completed, when the partition is merged
+            partitionStart.postGCSlope = currentPostGCSlope;
+            partitionStart.relativePostGCIncrease = currentRelativePostGCIncrease;
+            currentPostGCSlope = new RegressionLine();
+            currentRelativePostGCIncrease = new RegressionLine();
+            return;
+        }
+
         // process no full-gc run data
         if (currentPostGCSlope.hasPoints()) {
             // make sure we have at least _two_ data points
@@ -533,34 +1144,10 @@ public class GCModel implements Serializable {
         }
     }
 
-    private void addGcEventPhases(GCEvent event) {
-        DoubleData phases;
-        AbstractGCEvent<?> phaseEvent;
-
-        for (int i = 0; i < event.getPhases().size(); i++) {
-            phaseEvent = event.getPhases().get(i);
-            phases = getDoubleData(phaseEvent.getTypeAsString(), gcEventPhases);
-            phases.add(phaseEvent.getPause());
-        }
-
-        gcPhases.addAll(event.getPhases());
-    }
-
-    private void addVmOperationEvent(VmOperationEvent vmOperationEvent) {
-        adjustPause(vmOperationEvent);
-        if (vmOperationEvent.getTimestamp() < 0.000001) {
-            setTimeStamp(vmOperationEvent);
-        }
-        vmOperationPause.add(vmOperationEvent.getPause());
-        vmOperationEvents.add(vmOperationEvent);
-        DoubleData vmOpPauses = getDoubleData(vmOperationEvent.getTypeAsString(), vmOperationEventPauses);
-        vmOpPauses.add(vmOperationEvent.getPause());
-    }
-
     private void makeSureHasTimeStamp(AbstractGCEvent<?> abstractEvent) {
-        if (size() >= 1 && abstractEvent.getTimestamp() < 0.000001 && abstractEvent.getDatestamp() != null) {
+        if (size() >= 1 && abstractEvent.getTimestamp() < 0.000001 && abstractEvent.hasDatestamp() && get(0).hasDatestamp()) {
             // looks like there is no timestamp set -> set one, because a lot depends on the timestamps
-            abstractEvent.setTimestamp(ChronoUnit.MILLIS.between(getFirstDateStamp(), abstractEvent.getDatestamp()) / 1000.0);
+            abstractEvent.setTimestamp((abstractEvent.getDatestampMillis() - get(0).getDatestampMillis()) / 1000.0);
         }
     }
 
@@ -583,27 +1170,23 @@ public class GCModel implements Serializable {
         postConcurrentCycleUsedHeapSizes.add(event.getPreUsed());
     }
 
-    private void adjustPause(VmOperationEvent vmOpEvent) {
-        if (stopTheWorldEvents.size() > 1) {
-            AbstractGCEvent<?> previousEvent = stopTheWorldEvents.get(stopTheWorldEvents.size() - 2);
+    private void adjustPause(AbstractGCEvent<?> previousEvent, VmOperationEvent vmOpEvent) {
+        // if the event directly before this event is also a VM_OPERATION event,
+        // it was a VM_OPERATION without gc pause -> whole pause is "overhead"
+        if (!previousEvent.getExtendedType().getCollectionType().equals(CollectionType.VM_OPERATION)) {
 
-            // if the event directly before this event is also a VM_OPERATION event,
-            // it was a VM_OPERATION without gc pause -> whole pause is "overhead"
-            if (!previousEvent.getExtendedType().getCollectionType().equals(CollectionType.VM_OPERATION)) {
-
-                // only count overhead of vmOpEvent, not whole pause,
-                // because it includes the previous stop the world event
-                double adjustedPause = vmOpEvent.getPause() - previousEvent.getPause();
-                if (adjustedPause > 0) {
-                    vmOpEvent.setPause(adjustedPause);
-                    adjustTimeStamp(previousEvent, vmOpEvent);
-                }
-                else {
-                    // this happens if the first VM_OPERATION event after a GCEvent could not be read (mixed with concurrent event)
-                    // and the next is used to calculate the overhead
-                    LOG.fine("vmOpEvent at " + vmOpEvent.getTimestamp()
-                            + " should not have negative pause -> no adjustment made");
-                }
+            // only count overhead of vmOpEvent, not whole pause,
+            // because it includes the previous stop the world event
+            double adjustedPause = vmOpEvent.getPause() - previousEvent.getPause();
+            if (adjustedPause > 0) {
+                vmOpEvent.setPause(adjustedPause);
+                adjustTimeStamp(previousEvent, vmOpEvent);
+            }
+            else {
+                // this happens if the first VM_OPERATION event after a GCEvent could not be read (mixed with concurrent event)
+                // and the next is used to calculate the overhead
+                LOG.fine("vmOpEvent at " + vmOpEvent.getTimestamp()
+                        + " should not have negative pause -> no adjustment made");
             }
         }
     }
@@ -618,26 +1201,15 @@ public class GCModel implements Serializable {
     private void adjustTimeStamp(AbstractGCEvent<?> previousEvent, VmOperationEvent vmOpEvent) {
         if (previousEvent.getTimestamp() + previousEvent.getPause() > vmOpEvent.getTimestamp()) {
             vmOpEvent.setTimestamp(previousEvent.getTimestamp() + previousEvent.getPause());
-            if (previousEvent.getDatestamp() != null) {
+            if (previousEvent.hasDatestamp()) {
                 Duration adjustment = Duration.ofMinutes((long) Math.rint(previousEvent.getPause() / 60))
                         .plus((long) Math.rint(previousEvent.getPause()), ChronoUnit.SECONDS)
                         .plus((long) Math.rint(previousEvent.getPause() * 1000), ChronoUnit.MILLIS);
-                ZonedDateTime adjustedDatestamp = previousEvent.getDatestamp().plus(adjustment);
-                vmOpEvent.setDateStamp(adjustedDatestamp);
+                vmOpEvent.setDateStamp(previousEvent.getDatestampMillis() + adjustment.toMillis(), previousEvent.getDatestampZone());
             }
         }
     }
 
-    private void setTimeStamp(VmOperationEvent vmOpEvent) {
-        AbstractGCEvent<?> previousEvent = stopTheWorldEvents.size() > 1
-                ? stopTheWorldEvents.get(stopTheWorldEvents.size() - 2)
-                : null;
-
-        if (previousEvent != null) {
-            adjustTimeStamp(previousEvent, vmOpEvent);
-        }
-    }
-
     /**
      * Promotion is the amount of memory that is promoted from young to tenured space during
      * a collection of the young space.
@@ -657,14 +1229,60 @@ public class GCModel implements Serializable {
             }
 
             if (youngEvent != null) {
-                promotion.add((youngEvent.getPreUsed() - youngEvent.getPostUsed())
-                        - (event.getPreUsed() - event.getPostUsed())
-                );
+                int promoted = (youngEvent.getPreUsed() - youngEvent.getPostUsed())
+                        - (event.getPreUsed() - event.getPostUsed());
+                promotion.add(promoted);
+
+                if (previousHeapEvent != null && promoted >= 0 && event.getTimestamp() > previousHeapEvent.getTimestamp()) {
+                    promotionRate.add(event.getTimestamp(), promoted, event.getTimestamp() - previousHeapEvent.getTimestamp());
+                }
             }
         }
     }
 
+    private void updateAllocationRate(GCEvent event) {
+        if (event.getTotal() <= 0) {
+            // no heap information (like "GC remark" of G1)
+            return;
+        }
+
+        if (previousHeapEvent != null) {
+            // everything on top of the heap left by the previous collection has been allocated in between
+            int allocated = event.getPreUsed() - previousHeapEvent.getPostUsed();
+            double elapsed = event.getTimestamp() - previousHeapEvent.getTimestamp();
+            if (allocated >= 0 && elapsed > 0) {
+                allocationRate.add(event.getTimestamp(), allocated, elapsed);
+            }
+        }
+        previousHeapEvent = event;
+    }
+
+    /**
+     * @param index index of an event
+     * @return last collection with heap information before <code>index</code> or <code>null</code>
+     */
+    private GCEvent findPreviousHeapEvent(int index) {
+        for (int i = index - 1; i >= 0; i--) {
+            AbstractGCEvent<?> event = allEvents.get(i);
+            if (event instanceof GCEvent && event.getTotal() > 0) {
+                return (GCEvent) event;
+            }
+        }
+
+        return null;
+    }
+
     private void updateGcPauseInterval(GCEvent event) {
+        if (partitionStart != null && !partitionStart.hasGcPauseIntervalStart) {
+            // the previous pause is unknown, until the partition is merged
+            partitionStart.gcPauseIntervalEvents.add(event);
+            if (!event.isConcurrencyHelper()) {
+                partitionStart.hasGcPauseIntervalStart = true;
+                lastGcPauseTimeStamp = event.getTimestamp();
+            }
+            return;
+        }
+
         if (lastGcPauseTimeStamp > 0) {
             if (!event.isConcurrencyHelper()) {
                 // JRockit sometimes has special timestamps that seem to go back in time,
@@ -682,6 +1300,16 @@ public class GCModel implements Serializable {
     }
 
     private void updateFullGcPauseInterval(GCEvent event) {
+        if (partitionStart != null && !partitionStart.hasFullGcPauseIntervalStart) {
+            // the previous pause is unknown, until the partition is merged
+            partitionStart.fullGcPauseIntervalEvents.add(event);
+            if (!event.isConcurrencyHelper()) {
+                partitionStart.hasFullGcPauseIntervalStart = true;
+                lastFullGcPauseTimeStamp = event.getTimestamp();
+            }
+            return;
+        }
+
         if (lastFullGcPauseTimeStamp > 0) {
             if (!event.isConcurrencyHelper()) {
                 // JRockit sometimes has special timestamps that seem to go back in time,
@@ -753,6 +1381,25 @@ public class GCModel implements Serializable {
         return allEvents.size();
     }
 
+    /**
+     * Returns <code>true</code>, if the events of <code>prefix</code> are the first events of this
+     * model; e.g. if <code>prefix</code> is an earlier snapshot of this model or this model was read
+     * again from a log file, that has only grown since. Only the first and the last event of
+     * <code>prefix</code> are compared.
+     *
+     * @param prefix model to compare to
+     * @return <code>true</code>, if this model continues <code>prefix</code>
+     */
+    public boolean startsWith(GCModel prefix) {
+        int prefixSize = prefix.size();
+        if (prefixSize > size()) {
+            return false;
+        }
+
+        return prefixSize == 0
+                || (get(0).equals(prefix.get(0)) && get(prefixSize - 1).equals(prefix.get(prefixSize - 1)));
+    }
+
     /**
      * Get all types of events in the order they were added to the model.
      *
@@ -768,6 +1415,7 @@ public class GCModel implements Serializable {
      * @return Statistical data about pauses caused by full garbage collections.
      */
     public DoubleData getFullGCPause() {
+        updatePauseStatistics();
         return fullGCPause;
     }
 
@@ -775,6 +1423,7 @@ public class GCModel implements Serializable {
      * @return Statistical data about pauses interval between full garbage collections.
      */
     public DoubleData getFullGCPauseInterval() {
+        updatePauseStatistics();
         return fullGcPauseInterval;
     }
 
@@ -782,6 +1431,7 @@ public class GCModel implements Serializable {
      * @return Statistical data about pauses caused by garbage collections (full gcs excluded).
      */
     public DoubleData getGCPause() {
+        updatePauseStatistics();
         return gcPause;
     }
 
@@ -789,6 +1439,7 @@ public class GCModel implements Serializable {
      * @return Statistical data about pauses caused by vm operations other than gc pauses ("application stopped").
      */
     public DoubleData getVmOperationPause() {
+        updatePauseStatistics();
         return vmOperationPause;
     }
 
@@ -796,6 +1447,7 @@ public class GCModel implements Serializable {
      * @return Interval between gc pauses (full gcs excluded).
      */
     public DoubleData getPauseInterval() {
+        updatePauseStatistics();
         return pauseInterval;
     }
 
@@ -806,6 +1458,7 @@ public class GCModel implements Serializable {
      * @return statistical data about tenured heap occupation at start of concurrent collections
      */
     public DoubleData getCmsInitiatingOccupancyFraction() {
+        updateMemoryStatistics();
         return initiatingOccupancyFraction;
     }
 
@@ -814,6 +1467,7 @@ public class GCModel implements Serializable {
      * used after the previous full collection.
      */
     public RegressionLine getRelativePostFullGCIncrease() {
+        updateMemoryStatistics();
         return relativePostFullGCIncrease;
     }
 
@@ -822,6 +1476,7 @@ public class GCModel implements Serializable {
      * used after the previous collection.
      */
     public DoubleData getRelativePostGCIncrease() {
+        updateMemoryStatistics();
         return relativePostGCIncrease;
     }
 
@@ -832,14 +1487,53 @@ public class GCModel implements Serializable {
      * The unit is kb/s.
      */
     public double getPostGCSlope() {
+        updateMemoryStatistics();
         return postGCSlope.average();
     }
 
     public RegressionLine getCurrentPostGCSlope() {
+        updateMemoryStatistics();
         return currentPostGCSlope;
     }
 
+    /**
+     * Regression line of the footprint after all collections within the trend window (the last
+     * hour by default, see {@link #TREND_WINDOW_PROPERTY_NAME}); a positive slope over a long
+     * window hints at a memory leak. Updated incrementally as events are added.
+     *
+     * @return footprint trend over the trend window
+     */
+    public SlidingRegressionLine getRecentPostGCSlope() {
+        updateMemoryStatistics();
+        return recentPostGCSlope;
+    }
+
+    /**
+     * Like {@link #getRecentPostGCSlope()}, but only for full collections.
+     *
+     * @return footprint trend after full collections over the trend window
+     */
+    public SlidingRegressionLine getRecentPostFullGCSlope() {
+        updateMemoryStatistics();
+        return recentPostFullGCSlope;
+    }
+
+    private static double getTrendWindow() {
+        String trendWindow = System.getProperty(TREND_WINDOW_PROPERTY_NAME);
+        if (trendWindow != null) {
+            try {
+                return Double.parseDouble(trendWindow.trim());
+            }
+            catch (NumberFormatException e) {
+                LOG.warning("illegal value '" + trendWindow + "' for " + TREND_WINDOW_PROPERTY_NAME + "; using " + DEFAULT_TREND_WINDOW);
+            }
+        }
+
+        return DEFAULT_TREND_WINDOW;
+    }
+
     public RegressionLine getPostFullGCSlope() {
+        updateMemoryStatistics();
         return postFullGCSlope;
     }
 
@@ -847,6 +1541,7 @@ public class GCModel implements Serializable {
      * @return Heap memory freed by a (small) garbage collection.
      */
     public IntData getFreedMemoryByGC() {
+        updateMemoryStatistics();
         return freedMemoryByGC;
     }
 
@@ -854,6 +1549,7 @@ public class GCModel implements Serializable {
      * @return Heap memory freed by a <em>full</em> garbage collection.
      */
     public IntData getFreedMemoryByFullGC() {
+        updateMemoryStatistics();
         return freedMemoryByFullGC;
     }
 
@@ -861,6 +1557,7 @@ public class GCModel implements Serializable {
      * @return Heap memory consumption after a (small) garbage collection.
      */
     public IntData getFootprintAfterGC() {
+        updateMemoryStatistics();
         return postGCUsedMemory;
     }
 
@@ -868,6 +1565,7 @@ public class GCModel implements Serializable {
      * @return Heap memory consumption after a <em>full</em> garbage collection.
      */
     public IntData getFootprintAfterFullGC() {
+        updateMemoryStatistics();
         return postFullGCUsedHeap;
     }
 
@@ -875,27 +1573,54 @@ public class GCModel implements Serializable {
      * @return Pause in sec.
      */
     public DoubleData getPause() {
+        updatePauseStatistics();
         return totalPause;
     }
 
+    /**
+     * Stop the world pauses per minute of the log; used to show how percentiles of the pauses
+     * develop over time (e.g. p99 per hour), which a percentile of the whole run hides.
+     *
+     * @return distribution of the pauses over time (timestamps as in the log)
+     */
+    public RollingPercentiles getPausePercentiles() {
+        updatePauseStatistics();
+        return pausePercentiles;
+    }
+
     public Map<String, DoubleData> getGcEventPauses() {
-        return gcEventPauses;
+        updatePauseStatistics();
+        return gcEventPauses.asMap();
     }
 
     public Map<String, DoubleData> getGcEventPhases() {
-        return gcEventPhases;
+        updatePauseStatistics();
+        return gcEventPhases.asMap();
+    }
+
+    /**
+     * Returns the phases of all garbage collection events of this model in a compact form (indexed
+     * by the position of their parent event); the events themselves are left unchanged.
+     *
+     * @return table of all phases
+     */
+    public GCPhaseTable getGcPhaseTable() {
+        return gcPhaseTable;
     }
 
     public Map<String, DoubleData> getFullGcEventPauses() {
-        return fullGcEventPauses;
+        updatePauseStatistics();
+        return fullGcEventPauses.asMap();
     }
 
     public Map<String, DoubleData> getVmOperationEventPauses() {
-        return vmOperationEventPauses;
+        updatePauseStatistics();
+        return vmOperationEventPauses.asMap();
     }
 
     public Map<String, DoubleData> getConcurrentEventPauses() {
-        return concurrentGcEventPauses;
+        updatePauseStatistics();
+        return concurrentGcEventPauses.asMap();
     }
 
     /**
@@ -903,14 +1628,55 @@ public class GCModel implements Serializable {
      */
     public double getThroughput() {
         return 100
-                * (getRunningTime() - totalPause.getSum())
+                * (getRunningTime() - getPause().getSum())
                 / getRunningTime();
     }
 
+    /**
+     * Minimum mutator utilisation over the stop the world pauses for window sizes from 1 ms up to
+     * the running time (10 window sizes per power of ten). Unlike {@link #getThroughput()}, which is
+     * an average over the whole run, it shows the worst case for every window size.
+     *
+     * @return mutator utilisation for window sizes from 1 ms up to the running time
+     */
+    public MutatorUtilization getMutatorUtilization() {
+        MutatorUtilization utilization = mutatorUtilization;
+        if (utilization == null) {
+            utilization = getMutatorUtilization(MutatorUtilization.logarithmicWindows(
+                    MIN_UTILIZATION_WINDOW,
+                    Math.max(getRunningTime(), MIN_UTILIZATION_WINDOW),
+                    10));
+            if (isSnapshot || isFrozen) {
+                mutatorUtilization = utilization;
+            }
+        }
+
+        return utilization;
+    }
+
+    /**
+     * Minimum mutator utilisation over the stop the world pauses for the given window sizes.
+     *
+     * @param windows window sizes in seconds
+     * @return mutator utilisation for <code>windows</code>
+     */
+    public MutatorUtilization getMutatorUtilization(double[] windows) {
+        GCModel model = snapshot();
+        double runStart = model.size() > 0 ? model.getFirstPauseTimeStamp() : 0;
+        double runEnd = model.size() > 0 ? runStart + model.getRunningTime() : 0;
+        return MutatorUtilization.compute(
+                model.getTimestampStream(EventCategory.STOP_THE_WORLD).toArray(),
+                model.getPauseStream(EventCategory.STOP_THE_WORLD).toArray(),
+                runStart,
+                runEnd,
+                windows);
+    }
+
     /**
      * @return max heap allocated for every event
      */
     public IntData getHeapAllocatedSizes() {
+        updateMemoryStatistics();
         return heapAllocatedSizes;
     }
 
@@ -918,6 +1684,7 @@ public class GCModel implements Serializable {
      * @return max heap used for every event
      */
     public IntData getHeapUsedSizes() {
+        updateMemoryStatistics();
         return heapUsedSizes;
     }
 
@@ -926,6 +1693,7 @@ public class GCModel implements Serializable {
      * and all spaces were collected)
      */
     public IntData getPermAllocatedSizes() {
+        updateMemoryStatistics();
         return permAllocatedSizes;
     }
 
@@ -933,6 +1701,7 @@ public class GCModel implements Serializable {
      * @return perm sizes used for every event that has the information
      */
     public IntData getPermUsedSizes() {
+        updateMemoryStatistics();
         return permUsedSizes;
     }
 
@@ -940,6 +1709,7 @@ public class GCModel implements Serializable {
      * @return tenured sizes allocated for every event that contained one (only if detailed logging is active)
      */
     public IntData getTenuredAllocatedSizes() {
+        updateMemoryStatistics();
         return tenuredAllocatedSizes;
     }
 
@@ -947,6 +1717,7 @@ public class GCModel implements Serializable {
      * @return tenured sizes used for every event that contained one (only if detailed logging is active)
      */
     public IntData getTenuredUsedSizes() {
+        updateMemoryStatistics();
         return tenuredUsedSizes;
     }
 
@@ -954,6 +1725,7 @@ public class GCModel implements Serializable {
      * @return young sizes allocated for every event that contained one (only if detailed logging is active)
      */
     public IntData getYoungAllocatedSizes() {
+        updateMemoryStatistics();
         return youngAllocatedSizes;
     }
 
@@ -961,6 +1733,7 @@ public class GCModel implements Serializable {
      * @return young sizes used for every event that contained one (only if detailed logging is active)
      */
     public IntData getYoungUsedSizes() {
+        updateMemoryStatistics();
         return youngUsedSizes;
     }
 
@@ -969,6 +1742,7 @@ public class GCModel implements Serializable {
      * a concurrent cycle.
      */
     public IntData getPostConcurrentCycleTenuredUsedSizes() {
+        updateMemoryStatistics();
         return postConcurrentCycleUsedTenuredSizes;
     }
 
@@ -976,6 +1750,7 @@ public class GCModel implements Serializable {
      * @return Sizes of heap immediately after completion of a concurrent cycle.
      */
     public IntData getPostConcurrentCycleHeapUsedSizes() {
+        updateMemoryStatistics();
         return postConcurrentCycleUsedHeapSizes;
     }
 
@@ -984,13 +1759,37 @@ public class GCModel implements Serializable {
      * tenured space per young collection?)
      */
     public IntData getPromotion() {
+        updateMemoryStatistics();
         return promotion;
     }
 
+    /**
+     * Allocation rate between every two collections with heap information: used heap before a
+     * collection minus used heap after the previous collection over the time in between.
+     *
+     * @return allocated heap in KB per second (one sample per collection)
+     */
+    public RateSeries getAllocationRate() {
+        updateMemoryStatistics();
+        return allocationRate;
+    }
+
+    /**
+     * Promotion rate of all young collections with promotion information (see {@link #getPromotion()})
+     * over the time since the previous collection.
+     *
+     * @return promoted memory in KB per second (one sample per young collection)
+     */
+    public RateSeries getPromotionRate() {
+        updateMemoryStatistics();
+        return promotionRate;
+    }
+
     /**
      * @return Footprint in KB.
      */
     public long getFootprint() {
+        updateMemoryStatistics();
         return heapAllocatedSizes.getMax();
     }
 
@@ -1022,6 +1821,7 @@ public class GCModel implements Serializable {
      * @return Freed memory in KB.
      */
     public long getFreedMemory() {
+        updateMemoryStatistics();
         return freedMemory;
     }
 
@@ -1039,10 +1839,21 @@ public class GCModel implements Serializable {
 
     public boolean hasDateStamp() {
         return allEvents.size() > 0
-                ? get(0).getDatestamp() != null
+                ? get(0).hasDatestamp()
                 : false;
     }
 
+    /**
+     * Returns the zone of the datestamps in this model (taken from the first event).
+     *
+     * @return zone of the datestamps or <code>null</code> if this model has no datestamps
+     */
+    public ZoneId getZoneId() {
+        return allEvents.size() > 0
+                ? get(0).getDatestampZone()
+                : null;
+    }
+
     public ZonedDateTime getFirstDateStamp() {
         return allEvents.size() > 0
                 ? get(0).getDatestamp()
@@ -1091,7 +1902,225 @@ public class GCModel implements Serializable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(allEvents, fileInformation, fullGcEventPauses, gcEventPauses, gcEventPhases, concurrentGcEventPauses, vmOperationEventPauses, heapAllocatedSizes, tenuredAllocatedSizes, youngAllocatedSizes, permAllocatedSizes, heapUsedSizes, tenuredUsedSizes, youngUsedSizes, permUsedSizes, postConcurrentCycleUsedTenuredSizes, postConcurrentCycleUsedHeapSizes, promotion, firstPauseTimeStamp, lastPauseTimeStamp, totalPause, fullGCPause, lastFullGcPauseTimeStamp, fullGcPauseInterval, gcPause, vmOperationPause, lastGcPauseTimeStamp, pauseInterval, initiatingOccupancyFraction, freedMemory, format, postGCUsedMemory, postFullGCUsedHeap, freedMemoryByGC, freedMemoryByFullGC, postGCSlope, currentPostGCSlope, currentRelativePostGCIncrease, relativePostGCIncrease, postFullGCSlope, relativePostFullGCIncrease, url);
+        updatePauseStatistics();
+        updateMemoryStatistics();
+        return Objects.hash(allEvents, fileInformation, fullGcEventPauses.asMap(), gcEventPauses.asMap(), gcEventPhases.asMap(), concurrentGcEventPauses.asMap(), vmOperationEventPauses.asMap(), heapAllocatedSizes, tenuredAllocatedSizes, youngAllocatedSizes, permAllocatedSizes, heapUsedSizes, tenuredUsedSizes, youngUsedSizes, permUsedSizes, postConcurrentCycleUsedTenuredSizes, postConcurrentCycleUsedHeapSizes, promotion, firstPauseTimeStamp, lastPauseTimeStamp, totalPause, fullGCPause, lastFullGcPauseTimeStamp, fullGcPauseInterval, gcPause, vmOperationPause, lastGcPauseTimeStamp, pauseInterval, initiatingOccupancyFraction, freedMemory, format, postGCUsedMemory, postFullGCUsedHeap, freedMemoryByGC, freedMemoryByFullGC, postGCSlope, currentPostGCSlope, currentRelativePostGCIncrease, relativePostGCIncrease, postFullGCSlope, relativePostFullGCIncrease, url);
+    }
+
+    /**
+     * Computes the statistics of a range of events of a model on a {@link ForkJoinPool}: the range is
+     * split until the partitions are small enough, every partition is computed into an empty model
+     * (sharing the events of the original model) and the results are merged from left to right.
+     */
+    private static final class StatisticsTask extends RecursiveTask<GCModel> {
+        private static final long serialVersionUID = 1L;
+
+        private final GCModel model;
+        private final boolean pauses;
+        private final int from;
+        private final int to;
+        private final int phaseFrom;
+        private final int phaseTo;
+        private final int partitionSize;
+
+        /**
+         * @param model model containing the events
+         * @param pauses <code>true</code> for pause statistics (including phases), <code>false</code> for memory statistics
+         * @param from index of first event (inclusive)
+         * @param to index of last event (exclusive)
+         * @param phaseFrom index of first phase in the phase table (inclusive)
+         * @param phaseTo index of last phase in the phase table (exclusive)
+         * @param partitionSize maximum number of events (and phases) computed in one task
+         */
+        StatisticsTask(GCModel model, boolean pauses, int from, int to, int phaseFrom, int phaseTo, int partitionSize) {
+            this.model = model;
+            this.pauses = pauses;
+            this.from = from;
+            this.to = to;
+            this.phaseFrom = phaseFrom;
+            this.phaseTo = phaseTo;
+            this.partitionSize = partitionSize;
+        }
+
+        @Override
+        protected GCModel compute() {
+            if (to - from > partitionSize || phaseTo - phaseFrom > partitionSize) {
+                int middle = (from + to) >>> 1;
+                int phaseMiddle = (phaseFrom + phaseTo) >>> 1;
+                StatisticsTask left = new StatisticsTask(model, pauses, from, middle, phaseFrom, phaseMiddle, partitionSize);
+                StatisticsTask right = new StatisticsTask(model, pauses, middle, to, phaseMiddle, phaseTo, partitionSize);
+                right.fork();
+                GCModel partition = left.compute();
+                partition.mergeStatistics(right.join());
+                return partition;
+            }
+
+            GCModel partition = new GCModel(model, new PartitionStart());
+            if (!pauses) {
+                partition.previousHeapEvent = model.findPreviousHeapEvent(from);
+            }
+            for (int i = from; i < to; i++) {
+                if (pauses) {
+                    partition.addPauseStatistics(model.allEvents.get(i));
+                }
+                else {
+                    partition.addMemoryStatistics(i, model.allEvents.get(i));
+                }
+            }
+            for (int i = phaseFrom; i < phaseTo; i++) {
+                partition.addPhaseStatistics(i);
+            }
+
+            return partition;
+        }
+    }
+
+    /**
+     * Statistics of a partition, that depend on the events before the partition (see
+     * {@link StatisticsTask}): they are completed, when the partition is merged.
+     */
+    private static final class PartitionStart {
+        // gc events up to the first one, that starts the pause intervals of the partition
+        private final List<GCEvent> gcPauseIntervalEvents = new ArrayList<>();
+        private boolean hasGcPauseIntervalStart;
+        private final List<GCEvent> fullGcPauseIntervalEvents = new ArrayList<>();
+        private boolean hasFullGcPauseIntervalStart;
+
+        // collections before the first full gc of the partition; null, if the partition has no full gc
+        private RegressionLine postGCSlope;
+        private RegressionLine relativePostGCIncrease;
+    }
+
+    /**
+     * Immutable state of a model after an event was added; published to other threads by a volatile write.
+     */
+    private static final class PublishedState implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final int eventCount;
+        private final int stopTheWorldEventCount;
+        private final int gcEventCount;
+        private final int vmOperationEventCount;
+        private final int concurrentGCEventCount;
+        private final int fullGCEventCount;
+        private final int phaseCount;
+        private final double firstPauseTimeStamp;
+        private final double lastPauseTimeStamp;
+        private final boolean hasAscendingTimestamps;
+
+        PublishedState() {
+            this.eventCount = 0;
+            this.stopTheWorldEventCount = 0;
+            this.gcEventCount = 0;
+            this.vmOperationEventCount = 0;
+            this.concurrentGCEventCount = 0;
+            this.fullGCEventCount = 0;
+            this.phaseCount = 0;
+            this.firstPauseTimeStamp = Double.MAX_VALUE;
+            this.lastPauseTimeStamp = 0;
+            this.hasAscendingTimestamps = true;
+        }
+
+        PublishedState(GCModel model) {
+            this.eventCount = model.allEvents.size();
+            this.stopTheWorldEventCount = model.stopTheWorldEvents.size();
+            this.gcEventCount = model.gcEvents.size();
+            this.vmOperationEventCount = model.vmOperationEvents.size();
+            this.concurrentGCEventCount = model.concurrentGCEvents.size();
+            this.fullGCEventCount = model.fullGCEvents.size();
+            this.phaseCount = model.gcPhaseTable.size();
+            this.firstPauseTimeStamp = model.firstPauseTimeStamp;
+            this.lastPauseTimeStamp = model.lastPauseTimeStamp;
+            this.hasAscendingTimestamps = model.hasAscendingTimestamps;
+        }
+    }
+
+    /**
+     * Categories of events in a {@link GCModel} (like the iterators {@link #getEvents()},
+     * {@link #getStopTheWorldEvents()}, {@link #getGCEvents()}, ...).
+     */
+    public enum EventCategory {
+        /** all events */
+        ALL,
+        /** events stopping the vm (including vm operations) */
+        STOP_THE_WORLD,
+        /** garbage collection events without full gcs */
+        GC,
+        /** full gc events */
+        FULL_GC,
+        /** vm operation events */
+        VM_OPERATION,
+        /** concurrent gc events */
+        CONCURRENT
+    }
+
+    /**
+     * Interval index over the stop the world and concurrent events of a snapshot of a model.
+     */
+    private static class EventIntervals {
+        private final GCModel model;
+        private final int stopTheWorldEventCount;
+        private final IntervalIndex index;
+
+        EventIntervals(GCModel model) {
+            this.model = model;
+            // the columns are read without creating the events (see Storage#MAPPED)
+            double[] timestamps = DoubleStream.concat(
+                    model.getTimestampStream(EventCategory.STOP_THE_WORLD),
+                    model.getTimestampStream(EventCategory.CONCURRENT)).toArray();
+            double[] pauses = DoubleStream.concat(
+                    model.getPauseStream(EventCategory.STOP_THE_WORLD),
+                    model.getPauseStream(EventCategory.CONCURRENT)).toArray();
+            this.stopTheWorldEventCount = model.stopTheWorldEvents.size();
+
+            double[] starts = new double[timestamps.length];
+            for (int i = 0; i < starts.length; i++) {
+                starts[i] = timestamps[i] - pauses[i];
+            }
+            this.index = new IntervalIndex(starts, timestamps);
+        }
+
+        AbstractGCEvent<?> getEventAt(double timestamp, double tolerance) {
+            int id = index.findClosest(timestamp, tolerance);
+            if (id < 0) {
+                return null;
+            }
+
+            return id < stopTheWorldEventCount
+                    ? model.stopTheWorldEvents.get(id)
+                    : model.concurrentGCEvents.get(id - stopTheWorldEventCount);
+        }
+    }
+
+    /**
+     * Where a {@link GCModel} keeps its events. The default can be set with the system property
+     * <code>gcviewer.model.storage</code> (<code>heap</code> or <code>mapped</code>), which applies to
+     * all models created by the readers, in the gui as well as on the command line.
+     */
+    public enum Storage {
+        /** events are held as objects on the java heap */
+        HEAP,
+        /**
+         * events are encoded into temporary memory mapped files outside of the java heap and decoded
+         * on access; for very large logs
+         */
+        MAPPED;
+
+        public static final String PROPERTY_NAME = "gcviewer.model.storage";
+
+        public static Storage getDefault() {
+            String storage = System.getProperty(PROPERTY_NAME);
+            if (storage != null) {
+                try {
+                    return valueOf(storage.trim().toUpperCase(Locale.ENGLISH));
+                }
+                catch (IllegalArgumentException e) {
+                    LOG.warning("unknown value '" + storage + "' for " + PROPERTY_NAME + "; using " + HEAP);
+                }
+            }
+
+            return HEAP;
+        }
     }
 
     public static class Format implements Serializable {
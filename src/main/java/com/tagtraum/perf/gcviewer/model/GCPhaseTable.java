@@ -0,0 +1,238 @@
+package com.tagtraum.perf.gcviewer.model;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.ExtendedType;
+import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.TypeName;
+
+/**
+ * Compact table of the phases of all garbage collection events of a {@link GCModel}. Every phase is
+ * stored as one row of primitive values (index of the parent event in the model, phase type,
+ * timestamp and pause); the phase events themselves are not kept by the model. Phases usually
+ * outnumber the events by far (unified jvm logging with <code>gc+phases=info</code>).
+ *
+ * <p>The rows are ordered by the index of their parent event.</p>
+ *
+ * <p>Like the event lists of the model, the table is filled by one thread while other threads read
+ * it: a row is published by the (volatile) write of the new size.</p>
+ *
+ * @see GCModel#getGcPhaseTable()
+ */
+public class GCPhaseTable implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // arrays are replaced when they grow (or are trimmed); they are read without locking
+    private volatile int[] parentIndexes;
+    private volatile int[] typeIds;
+    private volatile double[] timestamps;
+    private volatile double[] pauses;
+    private volatile TypeName[] typeNames;
+    private volatile ExtendedType[] extendedTypes;
+    private volatile int size;
+
+    private final Map<TypeName, Integer> typeIdsByName;
+
+    GCPhaseTable() {
+        this.parentIndexes = new int[256];
+        this.typeIds = new int[256];
+        this.timestamps = new double[256];
+        this.pauses = new double[256];
+        this.typeNames = new TypeName[0];
+        this.extendedTypes = new ExtendedType[0];
+        this.typeIdsByName = new HashMap<>();
+    }
+
+    private GCPhaseTable(GCPhaseTable table, int size) {
+        // the rows below "size" never change, so the arrays can be shared
+        this.typeNames = table.typeNames;
+        this.extendedTypes = table.extendedTypes;
+        this.parentIndexes = table.parentIndexes;
+        this.typeIds = table.typeIds;
+        this.timestamps = table.timestamps;
+        this.pauses = table.pauses;
+        this.size = size;
+        this.typeIdsByName = null;
+    }
+
+    /**
+     * Adds all phases of <code>event</code>.
+     *
+     * @param parentIndex index of <code>event</code> in all events of the model; must not be lower
+     * than the index of the events added before
+     * @param event event containing the phases
+     */
+    void addPhasesOf(int parentIndex, AbstractGCEvent<?> event) {
+        if (typeIdsByName == null) {
+            throw new IllegalStateException("a snapshot of a GCPhaseTable can't be modified");
+        }
+
+        for (AbstractGCEvent<?> phase : event.getPhases()) {
+            add(parentIndex, getTypeId(phase), phase.getTimestamp(), phase.getPause());
+        }
+    }
+
+    private void add(int parentIndex, int typeId, double timestamp, double pause) {
+        if (size == parentIndexes.length) {
+            int newLength = Math.max(size * 2, 16);
+            parentIndexes = Arrays.copyOf(parentIndexes, newLength);
+            typeIds = Arrays.copyOf(typeIds, newLength);
+            timestamps = Arrays.copyOf(timestamps, newLength);
+            pauses = Arrays.copyOf(pauses, newLength);
+        }
+
+        parentIndexes[size] = parentIndex;
+        typeIds[size] = typeId;
+        timestamps[size] = timestamp;
+        pauses[size] = pause;
+        size++;
+    }
+
+    private int getTypeId(AbstractGCEvent<?> phase) {
+        return typeIdsByName.computeIfAbsent(phase.getTypeName(), key -> {
+            // extendedTypes is written first: a reader, that sees the new type name, sees its type as well
+            ExtendedType[] currentExtendedTypes = Arrays.copyOf(extendedTypes, extendedTypes.length + 1);
+            currentExtendedTypes[currentExtendedTypes.length - 1] = phase.getExtendedType();
+            extendedTypes = currentExtendedTypes;
+            TypeName[] currentTypeNames = Arrays.copyOf(typeNames, typeNames.length + 1);
+            currentTypeNames[currentTypeNames.length - 1] = key;
+            typeNames = currentTypeNames;
+            return currentTypeNames.length - 1;
+        });
+    }
+
+    /**
+     * Releases capacity reserved for phases not yet added.
+     */
+    void trimToSize() {
+        parentIndexes = Arrays.copyOf(parentIndexes, size);
+        typeIds = Arrays.copyOf(typeIds, size);
+        timestamps = Arrays.copyOf(timestamps, size);
+        pauses = Arrays.copyOf(pauses, size);
+    }
+
+    /**
+     * Returns an unmodifiable view of the first <code>size</code> rows of this table.
+     *
+     * @param size number of rows in the view
+     * @return view of the first <code>size</code> rows
+     */
+    GCPhaseTable snapshot(int size) {
+        if (size < 0 || size > this.size) {
+            throw new IndexOutOfBoundsException("snapshot size: " + size + ", Size: " + this.size);
+        }
+
+        return new GCPhaseTable(this, size);
+    }
+
+    /**
+     * @return number of phases in this table
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index index of the phase
+     * @return index of the event, the phase belongs to, in {@link GCModel#get(int)}
+     */
+    public int getParentIndex(int index) {
+        checkIndex(index);
+        return parentIndexes[index];
+    }
+
+    /**
+     * Returns the index of the first phase of an event; the following phases of the event have
+     * consecutive indexes.
+     *
+     * @param parentIndex index of an event in {@link GCModel#get(int)}
+     * @return index of the first phase of the event or the index, where its phases would be, if it
+     * has none (the phases of the next event or {@link #size()})
+     */
+    public int getFirstIndexOf(int parentIndex) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (parentIndexes[middle] < parentIndex) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * @param index index of the phase
+     * @return id of the type of the phase (see {@link #getTypeName(int)})
+     */
+    public int getTypeId(int index) {
+        checkIndex(index);
+        return typeIds[index];
+    }
+
+    /**
+     * @param index index of the phase
+     * @return type of the phase as shown in the log (like {@link AbstractGCEvent#getTypeAsString()})
+     */
+    public String getTypeName(int index) {
+        return getTypeNameById(getTypeId(index));
+    }
+
+    TypeName getTypeNameOf(int index) {
+        return typeNames[getTypeId(index)];
+    }
+
+    /**
+     * @param index index of the phase
+     * @return type of the phase
+     */
+    public ExtendedType getExtendedType(int index) {
+        return extendedTypes[getTypeId(index)];
+    }
+
+    /**
+     * @param typeId id of a type
+     * @return name of the type with <code>typeId</code>
+     */
+    public String getTypeNameById(int typeId) {
+        return typeNames[typeId].getName();
+    }
+
+    /**
+     * @return number of distinct phase types in this table
+     */
+    public int getTypeCount() {
+        return typeNames.length;
+    }
+
+    /**
+     * @param index index of the phase
+     * @return timestamp of the phase in seconds
+     */
+    public double getTimestamp(int index) {
+        checkIndex(index);
+        return timestamps[index];
+    }
+
+    /**
+     * @param index index of the phase
+     * @return pause (duration) of the phase in seconds
+     */
+    public double getPause(int index) {
+        checkIndex(index);
+        return pauses[index];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.tagtraum.perf.gcviewer.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * View of a selection of the events of another list; only the indexes of the selected events
+ * are stored. Used for the category lists of {@link GCModel} when the events themselves are not kept
+ * on the heap (see {@link MappedEventList}).
+ *
+ * <p>{@link #add(Object)} expects the event to be the last one of the backing list, which is how
+ * {@link GCModel#add(AbstractGCEvent)} fills its lists.</p>
+ *
+ * @param <E> type of events in this view
+ * @see AppendOnlyEventList
+ */
+class IndexedEventList<E extends AbstractGCEvent<?>> extends AppendOnlyEventList<E> {
+    private static final long serialVersionUID = 1L;
+
+    private final List<AbstractGCEvent<?>> backingList;
+    private volatile int[] indexes = new int[256];
+    private volatile int size;
+
+    IndexedEventList(List<AbstractGCEvent<?>> backingList) {
+        this.backingList = backingList;
+    }
+
+    @Override
+    public boolean add(E event) {
+        if (backingList.isEmpty()) {
+            throw new IllegalStateException("event must be added to the backing list first");
+        }
+
+        int[] currentIndexes = indexes;
+        if (size == currentIndexes.length) {
+            currentIndexes = Arrays.copyOf(currentIndexes, Math.max(size * 2, 16));
+        }
+        currentIndexes[size] = backingList.size() - 1;
+        indexes = currentIndexes;
+        size++;
+
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        checkIndex(index, size);
+        return (E) backingList.get(indexes[index]);
+    }
+
+    @Override
+    double getDouble(int index, EventColumn column) {
+        checkIndex(index, size);
+        if (backingList instanceof AppendOnlyEventList) {
+            return ((AppendOnlyEventList<?>) backingList).getDouble(indexes[index], column);
+        }
+
+        return column.getDouble(backingList.get(indexes[index]));
+    }
+
+    @Override
+    int getInt(int index, EventColumn column) {
+        checkIndex(index, size);
+        if (backingList instanceof AppendOnlyEventList) {
+            return ((AppendOnlyEventList<?>) backingList).getInt(indexes[index], column);
+        }
+
+        return column.getInt(backingList.get(indexes[index]));
+    }
+
+    @Override
+    void trimToSize() {
+        indexes = Arrays.copyOf(indexes, size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
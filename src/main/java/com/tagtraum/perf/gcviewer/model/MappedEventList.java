@@ -0,0 +1,333 @@
+package com.tagtraum.perf.gcviewer.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.ExtendedType;
+
+/**
+ * List of gc events, that keeps its contents in temporary memory mapped files outside of the java heap.
+ * Only an offset per event and the (few) distinct event types and time zones are kept on the heap.
+ *
+ * <p>Events are encoded when they are added and decoded again on every call to {@link #get(int)}, so
+ * the returned instances are copies: changes made to an event after it has been added to this list
+ * are not reflected. The list only supports appending.</p>
+ *
+ * @see GCModel.Storage#MAPPED
+ * @see AppendOnlyEventList
+ */
+class MappedEventList extends AppendOnlyEventList<AbstractGCEvent<?>> {
+    private static final long serialVersionUID = 1L;
+    private static final Logger LOG = Logger.getLogger(MappedEventList.class.getName());
+
+    static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+
+    private static final byte KIND_GC_EVENT = 0;
+    private static final byte KIND_GC_EVENT_UJL = 1;
+    private static final byte KIND_G1_GC_EVENT = 2;
+    private static final byte KIND_CONCURRENT_GC_EVENT = 3;
+    private static final byte KIND_VM_OPERATION_EVENT = 4;
+
+    // position of the fixed size values inside an encoded event (see encode())
+    private static final int POSITION_TIMESTAMP = 5;
+    private static final int POSITION_PAUSE = 13;
+    private static final int POSITION_PRE_USED = 21;
+    private static final int POSITION_POST_USED = 25;
+    private static final int POSITION_TOTAL = 29;
+
+    private final int chunkSize;
+    // all arrays are replaced (never modified) when they grow; they are read without locking (see AppendOnlyEventList)
+    private volatile MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+    private int writePosition;
+
+    /** chunk index in the upper, position inside the chunk in the lower 32 bits */
+    private volatile long[] offsets = new long[1024];
+    private volatile int size;
+
+    private volatile ExtendedType[] types = new ExtendedType[0];
+    private final Map<ExtendedType, Integer> typeIds = new HashMap<>();
+    private volatile ZoneId[] zones = new ZoneId[0];
+    private final Map<ZoneId, Integer> zoneIds = new HashMap<>();
+
+    private ByteBuffer encodeBuffer = ByteBuffer.allocate(1024);
+
+    MappedEventList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    MappedEventList(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public boolean add(AbstractGCEvent<?> event) {
+        encodeBuffer.clear();
+        encode(event);
+        encodeBuffer.flip();
+
+        MappedByteBuffer chunk = getChunkFor(encodeBuffer.remaining());
+        ByteBuffer target = chunk.duplicate();
+        target.position(writePosition);
+        target.put(encodeBuffer);
+
+        long[] currentOffsets = offsets;
+        if (size == currentOffsets.length) {
+            currentOffsets = Arrays.copyOf(currentOffsets, Math.max(size * 2, 16));
+        }
+        currentOffsets[size] = ((long) (chunks.length - 1) << 32) | writePosition;
+        offsets = currentOffsets;
+        writePosition += encodeBuffer.limit();
+        size++;
+
+        return true;
+    }
+
+    @Override
+    public AbstractGCEvent<?> get(int index) {
+        ByteBuffer source = getChunkOf(index).duplicate();
+        source.position(getPositionOf(index));
+        return decode(source);
+    }
+
+    /**
+     * Reads the value directly from the mapped buffer without decoding the event.
+     */
+    @Override
+    double getDouble(int index, EventColumn column) {
+        switch (column) {
+            case TIMESTAMP:
+                return getChunkOf(index).getDouble(getPositionOf(index) + POSITION_TIMESTAMP);
+            case PAUSE:
+                return getChunkOf(index).getDouble(getPositionOf(index) + POSITION_PAUSE);
+            default:
+                return super.getDouble(index, column);
+        }
+    }
+
+    /**
+     * Reads the value directly from the mapped buffer without decoding the event.
+     */
+    @Override
+    int getInt(int index, EventColumn column) {
+        switch (column) {
+            case PRE_USED:
+                return getChunkOf(index).getInt(getPositionOf(index) + POSITION_PRE_USED);
+            case POST_USED:
+                return getChunkOf(index).getInt(getPositionOf(index) + POSITION_POST_USED);
+            case TOTAL:
+                return getChunkOf(index).getInt(getPositionOf(index) + POSITION_TOTAL);
+            default:
+                return super.getInt(index, column);
+        }
+    }
+
+    @Override
+    void trimToSize() {
+        offsets = Arrays.copyOf(offsets, size);
+        encodeBuffer = ByteBuffer.allocate(0);
+    }
+
+    private MappedByteBuffer getChunkOf(int index) {
+        checkIndex(index, size);
+        return chunks[(int) (offsets[index] >>> 32)];
+    }
+
+    private int getPositionOf(int index) {
+        return (int) offsets[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private MappedByteBuffer getChunkFor(int length) {
+        MappedByteBuffer[] currentChunks = chunks;
+        if (currentChunks.length == 0 || writePosition + length > currentChunks[currentChunks.length - 1].capacity()) {
+            currentChunks = Arrays.copyOf(currentChunks, currentChunks.length + 1);
+            currentChunks[currentChunks.length - 1] = mapNewChunk(Math.max(chunkSize, length));
+            chunks = currentChunks;
+            writePosition = 0;
+        }
+
+        return currentChunks[currentChunks.length - 1];
+    }
+
+    /**
+     * Every chunk lives in its own temporary file. A mapping stays valid after its channel has been
+     * closed, so the file is closed (and where the platform allows it, deleted) right away and the
+     * space is given back as soon as the mapped buffer has been garbage collected.
+     */
+    private MappedByteBuffer mapNewChunk(int length) {
+        File file = null;
+        try {
+            file = File.createTempFile("gcviewer", ".events");
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+                return randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, length);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("failed to map temporary file " + file + " for gc events", e);
+        }
+        finally {
+            if (file != null && !file.delete()) {
+                if (LOG.isLoggable(Level.FINE)) LOG.fine("could not delete " + file + " while mapped; will be deleted on exit");
+                file.deleteOnExit();
+            }
+        }
+    }
+
+    private void ensureEncodeCapacity(int length) {
+        if (encodeBuffer.remaining() < length) {
+            ByteBuffer newBuffer = ByteBuffer.allocate(Math.max(encodeBuffer.capacity() * 2, encodeBuffer.position() + length));
+            encodeBuffer.flip();
+            newBuffer.put(encodeBuffer);
+            encodeBuffer = newBuffer;
+        }
+    }
+
+    private void encode(AbstractGCEvent<?> event) {
+        ensureEncodeCapacity(80);
+        encodeBuffer.put(getKind(event));
+        encodeBuffer.putInt(getTypeId(event.getExtendedType()));
+        encodeBuffer.putDouble(event.getTimestamp());
+        encodeBuffer.putDouble(event.getPause());
+        encodeBuffer.putInt(event.getPreUsed());
+        encodeBuffer.putInt(event.getPostUsed());
+        encodeBuffer.putInt(event.getTotal());
+        encodeBuffer.putInt(event.getNumber());
+        if (!event.hasDatestamp()) {
+            encodeBuffer.putInt(-1);
+        }
+        else {
+            encodeBuffer.putInt(getZoneId(event.getDatestampZone()));
+            encodeBuffer.putLong(event.getDatestampMillis());
+        }
+        if (event instanceof ConcurrentGCEvent) {
+            encodeBuffer.putDouble(((ConcurrentGCEvent) event).getDuration());
+        }
+
+        List<? extends AbstractGCEvent<?>> details = event.details != null ? event.details : new ArrayList<>();
+        encodeBuffer.putInt(details.size());
+        for (AbstractGCEvent<?> detail : details) {
+            encode(detail);
+        }
+
+        List<AbstractGCEvent<?>> phases = event.getPhases();
+        ensureEncodeCapacity(4);
+        encodeBuffer.putInt(phases.size());
+        for (AbstractGCEvent<?> phase : phases) {
+            encode(phase);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private AbstractGCEvent<?> decode(ByteBuffer source) {
+        AbstractGCEvent event = createEvent(source.get());
+        int typeId = source.getInt();
+        if (typeId >= 0) {
+            event.setExtendedType(types[typeId]);
+        }
+        event.setTimestamp(source.getDouble());
+        double pause = source.getDouble();
+        event.setPreUsed(source.getInt());
+        event.setPostUsed(source.getInt());
+        event.setTotal(source.getInt());
+        event.setNumber(source.getInt());
+        int zoneId = source.getInt();
+        if (zoneId >= 0) {
+            event.setDateStamp(source.getLong(), zones[zoneId]);
+        }
+        if (event instanceof ConcurrentGCEvent) {
+            ((ConcurrentGCEvent) event).setDuration(source.getDouble());
+        }
+
+        int detailCount = source.getInt();
+        for (int i = 0; i < detailCount; i++) {
+            event.add(decode(source));
+        }
+
+        int phaseCount = source.getInt();
+        for (int i = 0; i < phaseCount; i++) {
+            event.addPhase(decode(source));
+        }
+
+        // set pause last, because adding phases might have changed it (GCEventUJL)
+        event.setPause(pause);
+
+        return event;
+    }
+
+    private byte getKind(AbstractGCEvent<?> event) {
+        if (event instanceof GCEventUJL) {
+            return KIND_GC_EVENT_UJL;
+        }
+        else if (event instanceof G1GcEvent) {
+            return KIND_G1_GC_EVENT;
+        }
+        else if (event instanceof GCEvent) {
+            return KIND_GC_EVENT;
+        }
+        else if (event instanceof ConcurrentGCEvent) {
+            return KIND_CONCURRENT_GC_EVENT;
+        }
+        else if (event instanceof VmOperationEvent) {
+            return KIND_VM_OPERATION_EVENT;
+        }
+
+        throw new IllegalArgumentException("unsupported event class " + event.getClass().getName());
+    }
+
+    private AbstractGCEvent<?> createEvent(byte kind) {
+        switch (kind) {
+            case KIND_GC_EVENT:
+                return new GCEvent();
+            case KIND_GC_EVENT_UJL:
+                return new GCEventUJL();
+            case KIND_G1_GC_EVENT:
+                return new G1GcEvent();
+            case KIND_CONCURRENT_GC_EVENT:
+                return new ConcurrentGCEvent();
+            case KIND_VM_OPERATION_EVENT:
+                return new VmOperationEvent();
+            default:
+                throw new IllegalStateException("unknown event kind " + kind);
+        }
+    }
+
+    private int getTypeId(ExtendedType type) {
+        if (type == null) {
+            return -1;
+        }
+
+        return typeIds.computeIfAbsent(type, key -> {
+            ExtendedType[] currentTypes = Arrays.copyOf(types, types.length + 1);
+            currentTypes[currentTypes.length - 1] = key;
+            types = currentTypes;
+            return currentTypes.length - 1;
+        });
+    }
+
+    private int getZoneId(ZoneId zone) {
+        return zoneIds.computeIfAbsent(zone, key -> {
+            ZoneId[] currentZones = Arrays.copyOf(zones, zones.length + 1);
+            currentZones[currentZones.length - 1] = key;
+            zones = currentZones;
+            return currentZones.length - 1;
+        });
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.tagtraum.perf.gcviewer.model;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.tagtraum.perf.gcviewer.math.DoubleData;
+import com.tagtraum.perf.gcviewer.math.DoubleDataPercentile;
+import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.TypeName;
+
+/**
+ * Pause statistics of a {@link GCModel} per type of event. The statistics are looked up by the id
+ * of the {@link TypeName} in an array; the map sorted by name is only updated, when a new type is
+ * encountered.
+ */
+class PausesByTypeName implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Map<String, DoubleData> byName = new TreeMap<>();
+    // ids are only valid in the running vm -> rebuilt from byName after deserialization
+    private transient DoubleData[] byId = new DoubleData[32];
+
+    /**
+     * Returns the statistics for <code>typeName</code>, creating them if necessary.
+     *
+     * @param typeName type of the events
+     * @return statistics of all events of type <code>typeName</code>
+     */
+    DoubleData get(TypeName typeName) {
+        if (byId == null) {
+            byId = new DoubleData[32];
+            for (Map.Entry<String, DoubleData> entry : byName.entrySet()) {
+                put(TypeName.of(entry.getKey()), entry.getValue());
+            }
+        }
+
+        int id = typeName.getId();
+        DoubleData data = id < byId.length ? byId[id] : null;
+        if (data == null) {
+            data = new DoubleDataPercentile();
+            put(typeName, data);
+            byName.put(typeName.getName(), data);
+        }
+
+        return data;
+    }
+
+    private void put(TypeName typeName, DoubleData data) {
+        int id = typeName.getId();
+        if (id >= byId.length) {
+            byId = Arrays.copyOf(byId, Math.max(id + 1, byId.length * 2));
+        }
+        byId[id] = data;
+    }
+
+    /**
+     * Adds all statistics of <code>other</code> to the statistics of the same type in this instance.
+     *
+     * @param other statistics to be added
+     */
+    void merge(PausesByTypeName other) {
+        for (Map.Entry<String, DoubleData> entry : other.byName.entrySet()) {
+            get(TypeName.of(entry.getKey())).merge(entry.getValue());
+        }
+    }
+
+    /**
+     * @return all statistics by type name sorted by name
+     */
+    Map<String, DoubleData> asMap() {
+        return byName;
+    }
+
+}
@@ -34,6 +34,7 @@ public class ChartPanelView implements PropertyChangeListener {
     private final ModelChartImpl modelChart;
     private final ModelMetricsPanel modelMetricsPanel;
     private final ModelDetailsPanel modelDetailsPanel;
+    private final MutatorUtilizationChart mutatorUtilizationChart;
     private GCModelLoaderView modelLoaderView;
     private final JTabbedPane modelChartAndDetailsPanel;
     private final ViewBar viewBar;
@@ -41,10 +42,13 @@ public class ChartPanelView implements PropertyChangeListener {
     private GCResource gcResource;
     private boolean viewBarVisible;
     private boolean minimized;
+    // if the model contained data when the tabs were updated last (null before the first update)
+    private Boolean modelHadData;
     
     public ChartPanelView(final GCPreferences preferences, final GCResource gcResource) {
     	this.gcResource = gcResource;
         this.modelDetailsPanel = new ModelDetailsPanel();
+        this.mutatorUtilizationChart = new MutatorUtilizationChart();
         this.modelChart = new ModelChartImpl();
         this.preferences = preferences;
         this.modelMetricsPanel = new ModelMetricsPanel();
@@ -62,6 +66,7 @@ public class ChartPanelView implements PropertyChangeListener {
         this.modelChartAndDetailsPanel = new JTabbedPane();
         this.modelChartAndDetailsPanel.addTab(LocalisationHelper.getString("data_panel_tab_chart"), modelChart);
         this.modelChartAndDetailsPanel.addTab(LocalisationHelper.getString("data_panel_tab_details"), modelDetailsScrollPane);
+        this.modelChartAndDetailsPanel.addTab(LocalisationHelper.getString("data_panel_tab_mutator_utilization"), mutatorUtilizationChart);
         this.modelChartAndDetailsPanel.addTab(LocalisationHelper.getString("data_panel_tab_parser"), modelLoaderView);
         
         this.viewBar = new ViewBar(this);
@@ -75,6 +80,7 @@ public class ChartPanelView implements PropertyChangeListener {
         modelChart.invalidate();
         modelMetricsPanel.invalidate();
         modelDetailsPanel.invalidate();
+        mutatorUtilizationChart.invalidate();
         modelLoaderView.invalidate();
     }
 
@@ -163,7 +169,9 @@ public class ChartPanelView implements PropertyChangeListener {
                             LocalisationHelper.getString("data_panel_tab_parser")));
         }
         
-        if (!gcResource.isReload()) {
+        // while loading, the model is updated several times; the tab is only selected, when the
+        // model gets its first data, so that a tab chosen by the user meanwhile is kept
+        if (!gcResource.isReload() && !Boolean.valueOf(modelHasData).equals(modelHadData)) {
             if (modelHasData) {
                 modelChartAndDetailsPanel.setSelectedIndex(0);
             }
@@ -171,12 +179,14 @@ public class ChartPanelView implements PropertyChangeListener {
                 modelChartAndDetailsPanel.setSelectedIndex(modelChartAndDetailsPanel.getTabCount()-1);
             }
         }
+        modelHadData = modelHasData;
     }
     
     private void updateModel(GCResource gcResource) {
         this.modelMetricsPanel.setModel(gcResource.getModel());
         this.modelChart.setModel(gcResource.getModel(), preferences);
         this.modelDetailsPanel.setModel(gcResource.getModel());
+        this.mutatorUtilizationChart.setModel(gcResource.getModel());
         this.viewBar.setTitle(gcResource.getResourceName());
     }
 
@@ -7,6 +7,8 @@ import java.awt.RenderingHints;
 
 import javax.swing.JComponent;
 
+import com.tagtraum.perf.gcviewer.view.renderer.ChartScale;
+
 /**
  * ChartRenderer.
  *
@@ -49,10 +51,14 @@ public abstract class ChartRenderer extends JComponent {
 
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
+        if (isDetail() && modelChart.isInteracting()) {
+            return;
+        }
+
         Graphics2D g2d = (Graphics2D)g;
         Paint oldPaint = g2d.getPaint();
         Object oldAAHint = g2d.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
-        if (modelChart.isAntiAlias()) g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        if (modelChart.isAntiAlias() && !modelChart.isInteracting()) g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         g2d.setPaint(getLinePaint());
         paintComponent(g2d);
         g2d.setPaint(oldPaint);
@@ -61,5 +67,20 @@ public abstract class ChartRenderer extends JComponent {
 
     public abstract void paintComponent(Graphics2D g2d);
 
+    /**
+     * @return <code>true</code> if this renderer only shows details, that are left out while the
+     * user scrolls, resizes or zooms the chart (see {@link ModelChartImpl#isInteracting()})
+     */
+    protected boolean isDetail() {
+        return false;
+    }
+
+    /**
+     * @return current scale of the chart (to be called on the event dispatch thread)
+     */
+    protected ChartScale getChartScale() {
+        return new ChartScale(modelChart.getScaleFactor(), getHeight(), modelChart.getMaxPause(), modelChart.getFootprint());
+    }
+
 
 }
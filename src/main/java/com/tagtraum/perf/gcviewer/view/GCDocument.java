@@ -9,7 +9,9 @@ import java.awt.event.ComponentEvent;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 import javax.swing.BoundedRangeModel;
 import javax.swing.DefaultBoundedRangeModel;
@@ -19,9 +21,11 @@ import javax.swing.JScrollBar;
 import javax.swing.JScrollPane;
 import javax.swing.JTabbedPane;
 import javax.swing.JViewport;
+import javax.swing.Timer;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 
+import com.tagtraum.perf.gcviewer.model.GCModel;
 import com.tagtraum.perf.gcviewer.model.GCResource;
 import com.tagtraum.perf.gcviewer.view.model.GCPreferences;
 import com.tagtraum.perf.gcviewer.view.model.GCResourceGroup;
@@ -35,8 +39,19 @@ import com.tagtraum.perf.gcviewer.view.model.PropertyChangeEventConsts;
 public class GCDocument extends JInternalFrame implements PropertyChangeListener {
 
     private static final Logger LOGGER = Logger.getLogger(GCDocument.class.getName()); 
+    // pending changes of the charts are applied at most once per frame (ms)
+    private static final int UPDATE_INTERVAL = 1000 / 60;
     
     private final List<ChartPanelView> chartPanelViews = new ArrayList<ChartPanelView>();
+    private final Map<ChartPanelView, ModelExtent> modelExtents = new HashMap<ChartPanelView, ModelExtent>();
+    private final Timer updateTimer;
+    private boolean relayoutPending;
+    private boolean polygonCacheResetPending;
+    private double pendingScaleFactor = Double.NaN;
+    private MasterViewPortChangeListener pendingViewPortSync;
+    private long maxFootprint;
+    private double maxMaxPause;
+    private double maxRunningTime;
     private ModelChart modelChartListFacade;
     private boolean showModelMetricsPanel = true;
     private boolean watched;
@@ -51,6 +66,8 @@ public class GCDocument extends JInternalFrame implements PropertyChangeListener
         
         showModelMetricsPanel = preferences.isShowModelMetricsPanel();
         modelChartListFacade = new MultiModelChartFacade();
+        updateTimer = new Timer(UPDATE_INTERVAL, e -> applyPendingUpdates());
+        updateTimer.setRepeats(false);
         addComponentListener(new ResizeListener());
         GridBagLayout layout = new GridBagLayout();
         getContentPane().setLayout(layout);
@@ -65,7 +82,7 @@ public class GCDocument extends JInternalFrame implements PropertyChangeListener
         boolean mustRelayout = this.showModelMetricsPanel != showModelMetricsPanel;
         this.showModelMetricsPanel = showModelMetricsPanel;
         if (mustRelayout) {
-            relayout();
+            scheduleRelayout();
         }
     }
 
@@ -95,7 +112,7 @@ public class GCDocument extends JInternalFrame implements PropertyChangeListener
         chartPanelView.addPropertyChangeListener(new PropertyChangeListener() {
             public void propertyChange(PropertyChangeEvent event) {
                 if (ChartPanelView.EVENT_MINIMIZED.equals(event.getPropertyName())) {
-                    relayout();
+                    scheduleRelayout();
                 }
                 else if (ChartPanelView.EVENT_CLOSED.equals(event.getPropertyName())) {
                     removeChartPanelView((ChartPanelView) event.getSource());
@@ -111,13 +128,15 @@ public class GCDocument extends JInternalFrame implements PropertyChangeListener
             modelChartListFacade.setShowFullGCLines(modelChartListFacade.isShowFullGCLines());
             modelChartListFacade.setShowGCTimesLine(modelChartListFacade.isShowGCTimesLine());
             modelChartListFacade.setShowGCTimesRectangles(modelChartListFacade.isShowGCTimesRectangles());
+            modelChartListFacade.setShowPausePercentileLine(modelChartListFacade.isShowPausePercentileLine());
+            modelChartListFacade.setShowAllocationRateLine(modelChartListFacade.isShowAllocationRateLine());
             modelChartListFacade.setShowIncGCLines(modelChartListFacade.isShowIncGCLines());
             modelChartListFacade.setShowTotalMemoryLine(modelChartListFacade.isShowTotalMemoryLine());
             modelChartListFacade.setShowUsedMemoryLine(modelChartListFacade.isShowUsedMemoryLine());
             modelChartListFacade.setShowDateStamp(modelChartListFacade.isShowDateStamp());
         }
         
-        relayout();
+        scheduleRelayout();
     }
     
     /**
@@ -125,11 +144,11 @@ public class GCDocument extends JInternalFrame implements PropertyChangeListener
      */
     private int removeChartPanelView(ChartPanelView chartPanelView) {
         chartPanelViews.remove(chartPanelView);
+        modelExtents.remove(chartPanelView);
 
         final int nChartPanelViews = chartPanelViews.size();
         if (nChartPanelViews > 0) {        
-        	relayout();
-        	repaint();
+            scheduleRelayout();
         } 
         else {
             // well, actually the ViewBar of ChartPanelView is not shown, when only one
@@ -139,12 +158,24 @@ public class GCDocument extends JInternalFrame implements PropertyChangeListener
         return nChartPanelViews;
     }
 
+    /**
+     * Relayouts all chartPanelViews contained in this document with the next update of the
+     * charts. Several calls before that update (e.g. when several models have finished loading)
+     * result in a single relayout.
+     */
+    public void scheduleRelayout() {
+        relayoutPending = true;
+        scheduleUpdate();
+    }
+
     /**
      * Relayouts all chartPanelViews contained in this document. Should always be called, when
      * a change with the chartPanelViews happened (add / remove / minimize / maximize 
-     * chartPanelView).
+     * chartPanelView); {@link #scheduleRelayout()} coalesces several changes.
      */
     public void relayout() {
+        relayoutPending = false;
+        polygonCacheResetPending = false;
         getContentPane().removeAll();
         String newTitle = "";
         if (chartPanelViews.size() > 0) {
@@ -296,12 +327,47 @@ public class GCDocument extends JInternalFrame implements PropertyChangeListener
     @Override
     public void propertyChange(PropertyChangeEvent evt) {
         if (evt.getPropertyName().equals(PropertyChangeEventConsts.MODELCHART_SCALEFACTOR_CHANGED)) {
-            modelChartListFacade.setScaleFactor((Double) evt.getNewValue());
+            // zooming with the mouse wheel fires many events; only the last one needs to be applied
+            pendingScaleFactor = (Double) evt.getNewValue();
+            scheduleUpdate();
         }
     }
 
-    private static class MasterViewPortChangeListener implements ChangeListener {
+    /**
+     * Makes sure pending changes are applied with the next update, which happens at most once
+     * every {@link #UPDATE_INTERVAL} ms.
+     */
+    private void scheduleUpdate() {
+        if (!updateTimer.isRunning()) {
+            updateTimer.start();
+        }
+    }
+
+    private void applyPendingUpdates() {
+        if (relayoutPending) {
+            relayout();
+            revalidate();
+            repaint();
+        }
+        if (!Double.isNaN(pendingScaleFactor)) {
+            double scaleFactor = pendingScaleFactor;
+            pendingScaleFactor = Double.NaN;
+            modelChartListFacade.setScaleFactor(scaleFactor);
+        }
+        if (polygonCacheResetPending) {
+            polygonCacheResetPending = false;
+            modelChartListFacade.resetPolygonCache();
+        }
+        if (pendingViewPortSync != null) {
+            MasterViewPortChangeListener viewPortSync = pendingViewPortSync;
+            pendingViewPortSync = null;
+            viewPortSync.synchronizeSlaves();
+        }
+    }
+
+    private class MasterViewPortChangeListener implements ChangeListener {
         private List<JViewport> slaveViewPorts = new ArrayList<JViewport>();
+        private int x;
 
         public void addSlaveViewport(JViewport viewPort) {
             slaveViewPorts.add(viewPort);
@@ -309,7 +375,12 @@ public class GCDocument extends JInternalFrame implements PropertyChangeListener
 
         public void stateChanged(ChangeEvent e) {
             JViewport master = (JViewport) e.getSource();
-            final int x = master.getViewPosition().x;
+            x = master.getViewPosition().x;
+            pendingViewPortSync = this;
+            scheduleUpdate();
+        }
+
+        public void synchronizeSlaves() {
             for (JViewport slave : slaveViewPorts) {
                 slave.setViewPosition(new Point(x, slave.getViewPosition().y));
             }
@@ -328,35 +399,65 @@ public class GCDocument extends JInternalFrame implements PropertyChangeListener
     }
 
     private void scaleModelChart() {
+        updateMaxValues();
         for (ChartPanelView aChartPanelView : chartPanelViews) {
-            aChartPanelView.getModelChart().setFootprint(getMaxFootprint());
-            aChartPanelView.getModelChart().setMaxPause(getMaxMaxPause());
-            aChartPanelView.getModelChart().setRunningTime(getMaxRunningTime());
+            aChartPanelView.getModelChart().setFootprint(maxFootprint);
+            aChartPanelView.getModelChart().setMaxPause(maxMaxPause);
+            aChartPanelView.getModelChart().setRunningTime(maxRunningTime);
         }
     }
 
-    private double getMaxRunningTime() {
-        double max = 0;
-        for (int i = 0; i < chartPanelViews.size(); i++) {
-            max = Math.max(max, chartPanelViews.get(i).getGCResource().getModel().getRunningTime());
+    /**
+     * Updates the maximum running time, footprint and pause of all models in this document. Only
+     * models, that have changed since the last update, are queried; the values of the others are
+     * taken from {@link #modelExtents}.
+     */
+    private void updateMaxValues() {
+        long footprint = 0;
+        double maxPause = 0;
+        double runningTime = 0;
+        for (ChartPanelView chartPanelView : chartPanelViews) {
+            GCModel model = chartPanelView.getGCResource().getModel();
+            ModelExtent extent = modelExtents.get(chartPanelView);
+            if (extent == null || !extent.isExtentOf(model)) {
+                extent = new ModelExtent(model);
+                modelExtents.put(chartPanelView, extent);
+            }
+            footprint = Math.max(footprint, extent.footprint);
+            maxPause = Math.max(maxPause, extent.maxPause);
+            runningTime = Math.max(runningTime, extent.runningTime);
         }
-        return max;
-    }
 
-    private long getMaxFootprint() {
-        long max = 0;
-        for (int i = 0; i < chartPanelViews.size(); i++) {
-            max = Math.max(max, chartPanelViews.get(i).getGCResource().getModel().getFootprint());
-        }
-        return max;
+        maxFootprint = footprint;
+        maxMaxPause = maxPause;
+        maxRunningTime = runningTime;
     }
 
-    private double getMaxMaxPause() {
-        double max = 0;
-        for (int i = 0; i < chartPanelViews.size(); i++) {
-            max = Math.max(max, chartPanelViews.get(i).getGCResource().getModel().getPause().getMax());
+    /**
+     * Values of a model determining the scale of all charts in a document.
+     */
+    private static class ModelExtent {
+        private final GCModel model;
+        private final int size;
+        private final long footprint;
+        private final double maxPause;
+        private final double runningTime;
+
+        public ModelExtent(GCModel model) {
+            this.model = model;
+            this.size = model.size();
+            this.footprint = model.getFootprint();
+            this.maxPause = model.getPause().getMax();
+            this.runningTime = model.getRunningTime();
+        }
+
+        /**
+         * @param model model to be checked
+         * @return <code>true</code>, if this extent is still valid for <code>model</code>
+         */
+        public boolean isExtentOf(GCModel model) {
+            return this.model == model && size == model.size();
         }
-        return max;
     }
 
 
@@ -450,6 +551,34 @@ public class GCDocument extends JInternalFrame implements PropertyChangeListener
             }
         }
 
+        @Override
+        public boolean isShowPausePercentileLine() {
+            if (chartPanelViews.isEmpty()) return false;
+            return chartPanelViews.get(0).getModelChart().isShowPausePercentileLine();
+        }
+
+        @Override
+        public void setShowPausePercentileLine(boolean showPausePercentileLine) {
+            preferences.setGcLineProperty(GCPreferences.PAUSE_PERCENTILE_LINE, showPausePercentileLine);
+            for (ChartPanelView chartPanelView : chartPanelViews) {
+                chartPanelView.getModelChart().setShowPausePercentileLine(showPausePercentileLine);
+            }
+        }
+
+        @Override
+        public boolean isShowAllocationRateLine() {
+            if (chartPanelViews.isEmpty()) return false;
+            return chartPanelViews.get(0).getModelChart().isShowAllocationRateLine();
+        }
+
+        @Override
+        public void setShowAllocationRateLine(boolean showAllocationRateLine) {
+            preferences.setGcLineProperty(GCPreferences.ALLOCATION_RATE_LINE, showAllocationRateLine);
+            for (ChartPanelView chartPanelView : chartPanelViews) {
+                chartPanelView.getModelChart().setShowAllocationRateLine(showAllocationRateLine);
+            }
+        }
+
         @Override
         public boolean isShowFullGCLines() {
             if (chartPanelViews.isEmpty()) return false;
@@ -632,7 +761,8 @@ public class GCDocument extends JInternalFrame implements PropertyChangeListener
 
         @Override
         public void componentResized(ComponentEvent e) {
-            modelChartListFacade.resetPolygonCache();
+            polygonCacheResetPending = true;
+            scheduleUpdate();
         }
 
     }
@@ -0,0 +1,235 @@
+package com.tagtraum.perf.gcviewer.view;
+
+import java.awt.Color;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.Polygon;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.text.Format;
+import java.text.NumberFormat;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.tagtraum.perf.gcviewer.model.GCModel;
+import com.tagtraum.perf.gcviewer.util.TimeFormat;
+import com.tagtraum.perf.gcviewer.view.model.GCPreferences;
+import com.tagtraum.perf.gcviewer.view.renderer.AllocationRateRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.ChartScale;
+import com.tagtraum.perf.gcviewer.view.renderer.ChartSeries;
+import com.tagtraum.perf.gcviewer.view.renderer.ConcurrentGcBegionEndRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.FullGCLineRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.GCRectanglesRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.GCTimesRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.IncLineRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.InitialMarkLevelRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.PausePercentileRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.PolygonChartRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.TotalHeapRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.TotalTenuredRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.TotalYoungRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.UsedHeapRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.UsedTenuredRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.UsedYoungRenderer;
+
+/**
+ * Paints the chart of a {@link GCModel} with Java2D straight onto an image, without building the
+ * Swing components of {@link ModelChartImpl}. It paints the same lines and rulers as the chart
+ * shown in the gui (using the drawing code of the renderers and of {@link RulerPainter}), zoomed
+ * to fit the whole model into the image; the lines to be painted are read from {@link GCPreferences}.
+ *
+ * <p>Neither a display nor the event dispatch thread is needed (works with
+ * <code>java.awt.headless=true</code>). No state is kept between calls, so that several charts
+ * can be rendered in parallel, as long as their models are not changed meanwhile.</p>
+ */
+public class HeadlessChartRenderer {
+    private static final Map<ChartSeries.Type, String> SERIES_PREFERENCES = new EnumMap<>(ChartSeries.Type.class);
+    static {
+        SERIES_PREFERENCES.put(ChartSeries.Type.USED_HEAP, GCPreferences.USED_MEMORY);
+        SERIES_PREFERENCES.put(ChartSeries.Type.USED_TENURED, GCPreferences.USED_TENURED_MEMORY);
+        SERIES_PREFERENCES.put(ChartSeries.Type.USED_YOUNG, GCPreferences.USED_YOUNG_MEMORY);
+        SERIES_PREFERENCES.put(ChartSeries.Type.TOTAL_HEAP, GCPreferences.TOTAL_MEMORY);
+        SERIES_PREFERENCES.put(ChartSeries.Type.TOTAL_TENURED, GCPreferences.TENURED_MEMORY);
+        SERIES_PREFERENCES.put(ChartSeries.Type.TOTAL_YOUNG, GCPreferences.YOUNG_MEMORY);
+        SERIES_PREFERENCES.put(ChartSeries.Type.INITIAL_MARK_LEVEL, GCPreferences.INITIAL_MARK_LEVEL);
+        SERIES_PREFERENCES.put(ChartSeries.Type.GC_TIMES, GCPreferences.GC_TIMES_LINE);
+    }
+
+    private final GCPreferences preferences;
+
+    /**
+     * @param preferences preferences determining the lines to be painted; they are only read
+     */
+    public HeadlessChartRenderer(GCPreferences preferences) {
+        this.preferences = preferences;
+    }
+
+    /**
+     * Renders the chart of <code>model</code> into a new image.
+     *
+     * @param model model to be rendered
+     * @param width width of the image
+     * @param height height of the image
+     * @return image containing the chart
+     */
+    public BufferedImage render(GCModel model, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setBackground(Color.WHITE);
+            g2d.clearRect(0, 0, width, height);
+            paint(g2d, model, width, height);
+        }
+        finally {
+            g2d.dispose();
+        }
+
+        return image;
+    }
+
+    /**
+     * Paints the chart of <code>model</code> with the memory and pause rulers on the left and the
+     * timestamp ruler on top of it.
+     *
+     * @param g2d graphics to paint with (the background is expected to be cleared)
+     * @param model model to be painted
+     * @param width width of the area to paint
+     * @param height height of the area to paint
+     */
+    public void paint(Graphics2D g2d, GCModel model, int width, int height) {
+        g2d.setFont(RulerPainter.FONT);
+        FontMetrics fontMetrics = g2d.getFontMetrics();
+
+        double runningTime = model.getRunningTime();
+        long footprint = model.getFootprint();
+        double maxPause = model.getPause().getMax();
+        double memoryMaxUnit = footprint / 1024;
+        double timestampOffset = getTimestampOffset(model);
+        NumberFormat memoryFormat = NumberFormat.getInstance();
+        NumberFormat pauseFormat = NumberFormat.getInstance();
+        Format timestampFormat = new TimeFormat();
+        RulerPainter.configureFormatter(memoryFormat, memoryMaxUnit);
+        RulerPainter.configureFormatter(pauseFormat, maxPause);
+
+        int memoryRulerWidth = RulerPainter.getMinWidth(fontMetrics, memoryFormat, memoryMaxUnit, 0, "M");
+        int pauseRulerWidth = RulerPainter.getMinWidth(fontMetrics, pauseFormat, maxPause, 0, "s");
+        int chartX = memoryRulerWidth + pauseRulerWidth;
+        int chartY = fontMetrics.getHeight();
+        int chartWidth = Math.max(width - chartX, 1);
+        int chartHeight = Math.max(height - chartY, 1);
+        double scaleFactor = runningTime > 0 ? chartWidth / runningTime : 1;
+
+        Graphics2D rulerGraphics = (Graphics2D) g2d.create(0, chartY, memoryRulerWidth, chartHeight);
+        RulerPainter.paintVertical(rulerGraphics, memoryFormat, "M", 0, chartHeight / memoryMaxUnit, memoryRulerWidth, chartHeight);
+        rulerGraphics.dispose();
+        rulerGraphics = (Graphics2D) g2d.create(memoryRulerWidth, chartY, pauseRulerWidth, chartHeight);
+        RulerPainter.paintVertical(rulerGraphics, pauseFormat, "s", 0, chartHeight / maxPause, pauseRulerWidth, chartHeight);
+        rulerGraphics.dispose();
+        rulerGraphics = (Graphics2D) g2d.create(chartX, 0, chartWidth, chartY);
+        RulerPainter.paintHorizontal(rulerGraphics, timestampFormat, "", 0, timestampOffset, scaleFactor,
+                RulerPainter.getMinWidth(fontMetrics, timestampFormat, runningTime, timestampOffset, ""), chartY);
+        rulerGraphics.dispose();
+
+        Graphics2D chartGraphics = (Graphics2D) g2d.create(chartX, chartY, chartWidth, chartHeight);
+        try {
+            if (preferences.getGcLineProperty(GCPreferences.ANTI_ALIAS)) {
+                chartGraphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            }
+            paintChart(chartGraphics, model, new ChartScale(scaleFactor, chartHeight, maxPause, footprint));
+        }
+        finally {
+            chartGraphics.dispose();
+        }
+    }
+
+    private double getTimestampOffset(GCModel model) {
+        if (preferences.getGcLineProperty(GCPreferences.SHOW_DATE_STAMP, false) && model.getFirstDateStamp() != null) {
+            return model.getFirstDateStamp().toInstant().toEpochMilli() / 1000;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Paints the lines in the same order as {@link ModelChartImpl} (first painted = lowest).
+     */
+    void paintChart(Graphics2D g2d, GCModel model, ChartScale scale) {
+        boolean showTenured = preferences.getGcLineProperty(GCPreferences.TENURED_MEMORY);
+        Set<ChartSeries.Type> types = EnumSet.noneOf(ChartSeries.Type.class);
+        for (Map.Entry<ChartSeries.Type, String> entry : SERIES_PREFERENCES.entrySet()) {
+            if (preferences.getGcLineProperty(entry.getValue())) {
+                types.add(entry.getKey());
+            }
+        }
+        ChartSeries chartSeries = ChartSeries.extract(model, types, showTenured);
+        double runningTime = model.getRunningTime();
+
+        if (types.contains(ChartSeries.Type.TOTAL_HEAP)) {
+            paintArea(g2d, PolygonChartRenderer.appendToArea(scale.createMemoryScaledPolygon(), chartSeries.get(ChartSeries.Type.TOTAL_HEAP), runningTime),
+                    TotalHeapRenderer.DEFAULT_FILLPAINT, TotalHeapRenderer.DEFAULT_LINEPAINT, scale);
+        }
+        if (types.contains(ChartSeries.Type.TOTAL_YOUNG)) {
+            paintArea(g2d, PolygonChartRenderer.appendToArea(scale.createMemoryScaledPolygon(), chartSeries.get(ChartSeries.Type.TOTAL_YOUNG), runningTime),
+                    TotalYoungRenderer.DEFAULT_FILLPAINT, TotalYoungRenderer.DEFAULT_LINEPAINT, scale);
+        }
+        if (types.contains(ChartSeries.Type.TOTAL_TENURED)) {
+            paintArea(g2d, PolygonChartRenderer.appendToArea(scale.createMemoryScaledPolygon(), chartSeries.get(ChartSeries.Type.TOTAL_TENURED), runningTime),
+                    TotalTenuredRenderer.DEFAULT_FILLPAINT, TotalTenuredRenderer.DEFAULT_LINEPAINT, scale);
+        }
+        if (types.contains(ChartSeries.Type.USED_YOUNG)) {
+            PolygonChartRenderer.paintPolygon(g2d,
+                    PolygonChartRenderer.appendToLine(scale.createMemoryScaledPolygon(), chartSeries.get(ChartSeries.Type.USED_YOUNG), runningTime),
+                    null, UsedYoungRenderer.DEFAULT_LINEPAINT);
+        }
+        if (preferences.getGcLineProperty(GCPreferences.ALLOCATION_RATE_LINE) && model.getAllocationRate().size() > 0) {
+            PolygonChartRenderer.paintPolygon(g2d, AllocationRateRenderer.computePolygon(model, scale), null, AllocationRateRenderer.DEFAULT_LINEPAINT);
+        }
+        if (preferences.getGcLineProperty(GCPreferences.PAUSE_PERCENTILE_LINE)) {
+            PolygonChartRenderer.paintPolygon(g2d, PausePercentileRenderer.computePolygon(model, scale), null, PausePercentileRenderer.DEFAULT_LINEPAINT);
+        }
+        if (types.contains(ChartSeries.Type.GC_TIMES)) {
+            PolygonChartRenderer.paintPolygon(g2d,
+                    PolygonChartRenderer.appendToLine(scale.createTimeScaledPolygon(), chartSeries.get(ChartSeries.Type.GC_TIMES), runningTime),
+                    null, GCTimesRenderer.DEFAULT_LINEPAINT);
+        }
+
+        // some renderers switch antialiasing off; it is restored for the lines painted after them
+        Object oldAAHint = g2d.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+        if (preferences.getGcLineProperty(GCPreferences.CONCURRENT_COLLECTION_BEGIN_END)) {
+            ConcurrentGcBegionEndRenderer.paintEvents(g2d, model, scale);
+        }
+        if (preferences.getGcLineProperty(GCPreferences.INC_GC_LINES)) {
+            IncLineRenderer.paintEvents(g2d, model, scale, IncLineRenderer.DEFAULT_LINEPAINT);
+        }
+        if (preferences.getGcLineProperty(GCPreferences.GC_TIMES_RECTANGLES)) {
+            GCRectanglesRenderer.paintEvents(g2d, model, scale, GCRectanglesRenderer.DEFAULT_LINEPAINT);
+        }
+        if (preferences.getGcLineProperty(GCPreferences.FULL_GC_LINES)) {
+            FullGCLineRenderer.paintEvents(g2d, model, scale, FullGCLineRenderer.DEFAULT_LINEPAINT);
+        }
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, oldAAHint);
+
+        if (types.contains(ChartSeries.Type.USED_TENURED)) {
+            PolygonChartRenderer.paintPolygon(g2d,
+                    PolygonChartRenderer.appendToLine(scale.createMemoryScaledPolygon(), chartSeries.get(ChartSeries.Type.USED_TENURED), runningTime),
+                    null, UsedTenuredRenderer.DEFAULT_LINEPAINT);
+        }
+        if (types.contains(ChartSeries.Type.USED_HEAP)) {
+            PolygonChartRenderer.paintPolygon(g2d,
+                    PolygonChartRenderer.appendToLine(scale.createMemoryScaledPolygon(), chartSeries.get(ChartSeries.Type.USED_HEAP), runningTime),
+                    null, UsedHeapRenderer.DEFAULT_LINEPAINT);
+        }
+        if (types.contains(ChartSeries.Type.INITIAL_MARK_LEVEL)) {
+            PolygonChartRenderer.paintPolygon(g2d,
+                    InitialMarkLevelRenderer.appendToLevelLine(scale.createMemoryScaledPolygon(), chartSeries.get(ChartSeries.Type.INITIAL_MARK_LEVEL)),
+                    null, InitialMarkLevelRenderer.DEFAULT_LINEPAINT);
+        }
+    }
+
+    private static void paintArea(Graphics2D g2d, Polygon polygon, Paint fillPaint, Paint linePaint, ChartScale scale) {
+        PolygonChartRenderer.paintPolygon(g2d, polygon, PolygonChartRenderer.createFillPaint(fillPaint, polygon, scale.getHeight()), linePaint);
+    }
+}
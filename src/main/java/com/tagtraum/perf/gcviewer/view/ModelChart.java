@@ -20,6 +20,14 @@ public interface ModelChart {
 
     void setShowGCTimesRectangles(boolean showGCTimesRectangles);
 
+    boolean isShowPausePercentileLine();
+
+    void setShowPausePercentileLine(boolean showPausePercentileLine);
+
+    boolean isShowAllocationRateLine();
+
+    void setShowAllocationRateLine(boolean showAllocationRateLine);
+
     boolean isShowFullGCLines();
 
     void setShowFullGCLines(boolean showFullGCLines);
@@ -3,17 +3,20 @@ package com.tagtraum.perf.gcviewer.view;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Dimension;
-import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
 import java.awt.event.InputEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.text.DateFormat;
@@ -21,26 +24,40 @@ import java.text.Format;
 import java.text.NumberFormat;
 import java.time.ZonedDateTime;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
 import javax.swing.JScrollBar;
 import javax.swing.JScrollPane;
 import javax.swing.JViewport;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.ToolTipManager;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 import javax.swing.event.SwingPropertyChangeSupport;
 
+import com.tagtraum.perf.gcviewer.model.AbstractGCEvent;
+import com.tagtraum.perf.gcviewer.model.ConcurrentGCEvent;
 import com.tagtraum.perf.gcviewer.model.GCModel;
+import com.tagtraum.perf.gcviewer.util.LocalisationHelper;
 import com.tagtraum.perf.gcviewer.util.TimeFormat;
 import com.tagtraum.perf.gcviewer.view.model.GCPreferences;
 import com.tagtraum.perf.gcviewer.view.model.PropertyChangeEventConsts;
+import com.tagtraum.perf.gcviewer.view.renderer.AllocationRateRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.ChartSeries;
 import com.tagtraum.perf.gcviewer.view.renderer.ConcurrentGcBegionEndRenderer;
 import com.tagtraum.perf.gcviewer.view.renderer.FullGCLineRenderer;
 import com.tagtraum.perf.gcviewer.view.renderer.GCRectanglesRenderer;
 import com.tagtraum.perf.gcviewer.view.renderer.GCTimesRenderer;
 import com.tagtraum.perf.gcviewer.view.renderer.IncLineRenderer;
 import com.tagtraum.perf.gcviewer.view.renderer.InitialMarkLevelRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.PausePercentileRenderer;
 import com.tagtraum.perf.gcviewer.view.renderer.PolygonChartRenderer;
 import com.tagtraum.perf.gcviewer.view.renderer.TotalHeapRenderer;
 import com.tagtraum.perf.gcviewer.view.renderer.TotalTenuredRenderer;
@@ -79,6 +96,8 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
     private GCRectanglesRenderer gcRectanglesRenderer;
     private FullGCLineRenderer fullGCLineRenderer;
     private GCTimesRenderer gcTimesRenderer;
+    private PausePercentileRenderer pausePercentileRenderer;
+    private AllocationRateRenderer allocationRateRenderer;
     private UsedHeapRenderer usedHeapRenderer;
     private UsedTenuredRenderer usedTenuredRenderer;
     private UsedYoungRenderer usedYoungRenderer;
@@ -87,12 +106,25 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
     private boolean antiAlias;
     private TimeOffsetPanel timeOffsetPanel;
     private int lastViewPortWidth = 0;
+    // renderers drawing the lines of the series
+    private final Map<ChartSeries.Type, ChartRenderer> seriesRenderers = new EnumMap<>(ChartSeries.Type.class);
+    private final Object chartSeriesLock = new Object();
+    private ChartSeries chartSeries;
+    private GCModel chartSeriesModel;
+    // incremented, when the model is replaced by a model, that doesn't continue it
+    private int modelGeneration;
+    // while the user scrolls, resizes or zooms, the chart is rendered with reduced quality
+    private final Timer interactionTimer;
+    private boolean interacting;
+    private int interactionMinEvents;
 
     public ModelChartImpl() {
         super();
         this.model = new GCModel();
         this.chart = new Chart();
         this.chart.setPreferredSize(new Dimension(100, 100));
+        this.interactionTimer = new Timer(0, e -> endInteraction());
+        this.interactionTimer.setRepeats(false);
         setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_AS_NEEDED);
         setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_NEVER);
 
@@ -121,6 +153,10 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
         chart.add(concurrentGcLineRenderer, gridBagConstraints);
         gcTimesRenderer = new GCTimesRenderer(this);
         chart.add(gcTimesRenderer, gridBagConstraints);
+        pausePercentileRenderer = new PausePercentileRenderer(this);
+        chart.add(pausePercentileRenderer, gridBagConstraints);
+        allocationRateRenderer = new AllocationRateRenderer(this);
+        chart.add(allocationRateRenderer, gridBagConstraints);
         usedYoungRenderer = new UsedYoungRenderer(this);
         chart.add(usedYoungRenderer, gridBagConstraints);
         totalTenuredRenderer = new TotalTenuredRenderer(this);
@@ -130,6 +166,15 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
         totalHeapRenderer = new TotalHeapRenderer(this);
         chart.add(totalHeapRenderer, gridBagConstraints);
 
+        seriesRenderers.put(ChartSeries.Type.USED_HEAP, usedHeapRenderer);
+        seriesRenderers.put(ChartSeries.Type.USED_TENURED, usedTenuredRenderer);
+        seriesRenderers.put(ChartSeries.Type.USED_YOUNG, usedYoungRenderer);
+        seriesRenderers.put(ChartSeries.Type.TOTAL_HEAP, totalHeapRenderer);
+        seriesRenderers.put(ChartSeries.Type.TOTAL_TENURED, totalTenuredRenderer);
+        seriesRenderers.put(ChartSeries.Type.TOTAL_YOUNG, totalYoungRenderer);
+        seriesRenderers.put(ChartSeries.Type.INITIAL_MARK_LEVEL, initialMarkLevelRenderer);
+        seriesRenderers.put(ChartSeries.Type.GC_TIMES, gcTimesRenderer);
+
         setViewportView(chart);
         // This would make scrolling slower, but eliminates flickering...
         //getViewport().setScrollMode(JViewport.BACKINGSTORE_SCROLL_MODE);
@@ -141,6 +186,11 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
         horizontalScrollBar = getHorizontalScrollBar();
         horizontalScrollBar.setUnitIncrement(50);
         horizontalScrollBar.setBlockIncrement(getViewport().getWidth());
+        horizontalScrollBar.addAdjustmentListener(e -> {
+            if (e.getValueIsAdjusting()) {
+                startInteraction();
+            }
+        });
 
         JPanel rowHeaderPanel = new JPanel();
         GridBagLayout layout = new GridBagLayout();
@@ -170,6 +220,7 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
 
         getViewport().addComponentListener(new ComponentListener() {
             public void componentResized(ComponentEvent e) {
+                startInteraction();
                 chart.setSize(chart.getPreferredSize());
                 memoryRuler.setSize((int)memoryRuler.getPreferredSize().getWidth(), e.getComponent().getHeight());
                 pauseRuler.setSize((int)pauseRuler.getPreferredSize().getWidth(), e.getComponent().getHeight());
@@ -218,6 +269,7 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
 
                 double pos = (double)(getHorizontalScrollBar().getValue()) / (double)(chart.getWidth());
                 double oldScaleFactor = getScaleFactor();
+                startInteraction();
                 if (mouseWheelEvent.getWheelRotation() > 0 && getScaleFactor() < 100) {
                     setScaleFactor((getScaleFactor()*1.2));
                 }
@@ -265,6 +317,57 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
         return scaleFactor;
     }
 
+    /**
+     * Returns the series of all renderers currently shown.
+     *
+     * @return types of the visible series
+     */
+    public Set<ChartSeries.Type> getVisibleSeriesTypes() {
+        Set<ChartSeries.Type> types = EnumSet.noneOf(ChartSeries.Type.class);
+        for (Map.Entry<ChartSeries.Type, ChartRenderer> entry : seriesRenderers.entrySet()) {
+            if (entry.getValue().isVisible()) {
+                types.add(entry.getKey());
+            }
+        }
+
+        return types;
+    }
+
+    /**
+     * Returns the points of a line of the chart. The first request after a change of the model
+     * extracts the series of all visible renderers at once; as the series are not scaled, they are
+     * reused until the model changes. If events have been added to the model, only their points are
+     * extracted. May be called from the threads computing the polygons; the state of the renderers
+     * must therefore be taken on the event dispatch thread and passed in.
+     *
+     * @param model model (or snapshot of the model) of this chart
+     * @param type series to be returned
+     * @param showTenured is the tenured generation shown ({@link #isShowTenured()})?
+     * @param visibleTypes series of the visible renderers ({@link #getVisibleSeriesTypes()})
+     * @return points of the series
+     */
+    public ChartSeries.Points getChartSeries(GCModel model, ChartSeries.Type type, boolean showTenured, Set<ChartSeries.Type> visibleTypes) {
+        synchronized (chartSeriesLock) {
+            Set<ChartSeries.Type> requiredTypes = EnumSet.of(type);
+            if (chartSeries == null || !chartSeries.isExtracted(requiredTypes, model, showTenured)) {
+                if (chartSeries != null
+                        && chartSeries.isExtendableTo(requiredTypes, model, showTenured)
+                        && model.startsWith(chartSeriesModel)) {
+
+                    chartSeries = chartSeries.extend(model);
+                }
+                else {
+                    Set<ChartSeries.Type> types = EnumSet.of(type);
+                    types.addAll(visibleTypes);
+                    chartSeries = ChartSeries.extract(model, types, showTenured);
+                }
+                chartSeriesModel = model;
+            }
+
+            return chartSeries.get(type);
+        }
+    }
+
     public void autoSetScaleFactor() {
         double scaleFactor = getViewport().getWidth() / model.getRunningTime();
         setScaleFactor(scaleFactor);
@@ -282,6 +385,30 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
         repaint();
     }
 
+    /**
+     * @return <code>true</code> while the user scrolls, resizes or zooms a chart of a large model;
+     * renderers leave out antialiasing, gradients and details meanwhile
+     */
+    public boolean isInteracting() {
+        return interacting;
+    }
+
+    private void startInteraction() {
+        if (interactionTimer.getInitialDelay() <= 0 || model.size() < interactionMinEvents) {
+            return;
+        }
+
+        interacting = true;
+        interactionTimer.restart();
+    }
+
+    private void endInteraction() {
+        interacting = false;
+        // tiles rendered during the interaction are replaced by tiles in full quality
+        chart.resetInteractionTiles();
+        chart.repaint();
+    }
+
     @Override
     public boolean isAntiAlias() {
         return antiAlias;
@@ -290,6 +417,7 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
     @Override
     public void setAntiAlias(boolean antiAlias) {
         this.antiAlias = antiAlias;
+        chart.resetTiles();
     }
 
     @Override
@@ -325,6 +453,26 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
         gcTimesRenderer.setVisible(showGCTimesLine);
     }
 
+    @Override
+    public boolean isShowPausePercentileLine() {
+        return pausePercentileRenderer.isVisible();
+    }
+
+    @Override
+    public void setShowPausePercentileLine(boolean showPausePercentileLine) {
+        pausePercentileRenderer.setVisible(showPausePercentileLine);
+    }
+
+    @Override
+    public boolean isShowAllocationRateLine() {
+        return allocationRateRenderer.isVisible();
+    }
+
+    @Override
+    public void setShowAllocationRateLine(boolean showAllocationRateLine) {
+        allocationRateRenderer.setVisible(showAllocationRateLine);
+    }
+
     @Override
     public boolean isShowGCTimesRectangles() {
         return gcRectanglesRenderer.isVisible();
@@ -438,8 +586,26 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
         return concurrentGcLineRenderer.isVisible();
     }
 
+    /**
+     * @return generation of the model; stays the same as long as the model is only replaced by
+     * models continuing it (e.g. snapshots while loading or reloads in watch mode)
+     */
+    public int getModelGeneration() {
+        return modelGeneration;
+    }
+
     public void setModel(GCModel model, GCPreferences preferences) {
+        boolean isContinued = model.startsWith(this.model);
         this.model = model;
+        if (!isContinued) {
+            // nothing computed for the previous model can be reused
+            ++modelGeneration;
+            synchronized (chartSeriesLock) {
+                chartSeries = null;
+                chartSeriesModel = null;
+            }
+            chart.clearPolygonCaches();
+        }
 
         if (model.getFirstDateStamp() != null) {
             this.timeOffsetPanel.setDate(new Date(model.getFirstDateStamp().toInstant().toEpochMilli()));
@@ -452,11 +618,15 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
     }
 
     private void applyPreferences(GCPreferences preferences) {
+        interactionTimer.setInitialDelay(Math.max(preferences.getInteractionIdleDelay(), 0));
+        interactionMinEvents = preferences.getInteractionMinEvents();
         setAntiAlias(preferences.getGcLineProperty(GCPreferences.ANTI_ALIAS));
         setShowTenured(preferences.getGcLineProperty(GCPreferences.TENURED_MEMORY));
         setShowYoung(preferences.getGcLineProperty(GCPreferences.YOUNG_MEMORY));
         setShowGCTimesLine(preferences.getGcLineProperty(GCPreferences.GC_TIMES_LINE));
         setShowGCTimesRectangles(preferences.getGcLineProperty(GCPreferences.GC_TIMES_RECTANGLES));
+        setShowPausePercentileLine(preferences.getGcLineProperty(GCPreferences.PAUSE_PERCENTILE_LINE));
+        setShowAllocationRateLine(preferences.getGcLineProperty(GCPreferences.ALLOCATION_RATE_LINE));
         setShowFullGCLines(preferences.getGcLineProperty(GCPreferences.FULL_GC_LINES));
         setShowIncGCLines(preferences.getGcLineProperty(GCPreferences.INC_GC_LINES));
         setShowTotalMemoryLine(preferences.getGcLineProperty(GCPreferences.TOTAL_MEMORY));
@@ -502,12 +672,201 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
         return maxPause;
     }
 
+    /**
+     * Panel containing all renderers. As it is much wider than the viewport, the renderers are
+     * painted into tiles of fixed width, which are cached, until the chart changes (zoom, resize,
+     * reload, renderers shown / hidden). Scrolling only copies the tiles; the tiles next to the
+     * visible area are rendered in advance, once scrolling has paused for a moment. Tiles rendered
+     * with reduced quality during an interaction are cached separately until the interaction ends.
+     * Hovering over an event shows its details in a tooltip.
+     */
     private class Chart extends JPanel implements ComponentListener {
+        private static final int TILE_WIDTH = 512;
+        private static final int MAX_TILES = 16;
+        // the tiles next to the visible area are rendered, when no painting happened for this time (ms)
+        private static final int PRE_RENDERING_DELAY = 150;
+        // maximum distance of the mouse pointer from an event to show its tooltip
+        private static final int TOOLTIP_TOLERANCE = 3;
+
+        private final Map<Integer, BufferedImage> tiles = createTileCache();
+        // tiles rendered with reduced quality while interacting
+        private final Map<Integer, BufferedImage> interactionTiles = createTileCache();
+        private final Timer preRenderingTimer;
+        private int previousTile = -1;
+        private int nextTile = -1;
 
         public Chart() {
             setBackground(Color.WHITE);
             setLayout(new GridBagLayout());
             addComponentListener(this);
+            ToolTipManager.sharedInstance().registerComponent(this);
+            preRenderingTimer = new Timer(PRE_RENDERING_DELAY, e -> preRenderTiles());
+            preRenderingTimer.setRepeats(false);
+        }
+
+        private Map<Integer, BufferedImage> createTileCache() {
+            // least recently used tiles are evicted first
+            return new LinkedHashMap<Integer, BufferedImage>(MAX_TILES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, BufferedImage> eldest) {
+                    return size() > MAX_TILES;
+                }
+            };
+        }
+
+        @Override
+        public String getToolTipText(MouseEvent e) {
+            if (model.size() == 0) {
+                return null;
+            }
+
+            double timestamp = model.getFirstPauseTimeStamp() + e.getX() / getScaleFactor();
+            // the index of the events is built in the background; no tooltip until it is ready
+            AbstractGCEvent<?> event = model.getIndexedEventAt(timestamp, TOOLTIP_TOLERANCE / getScaleFactor());
+            if (event == null) {
+                return null;
+            }
+
+            NumberFormat timeFormat = NumberFormat.getInstance();
+            timeFormat.setMinimumFractionDigits(3);
+            timeFormat.setMaximumFractionDigits(3);
+            NumberFormat pauseFormat = NumberFormat.getInstance();
+            pauseFormat.setMinimumFractionDigits(5);
+            pauseFormat.setMaximumFractionDigits(5);
+
+            StringBuilder toolTip = new StringBuilder("<html><b>").append(event.getTypeAsString()).append("</b>");
+            toolTip.append("<br>").append(LocalisationHelper.getString("chart_tooltip_timestamp"))
+                    .append(": ").append(timeFormat.format(event.getTimestamp())).append("s");
+            toolTip.append("<br>").append(LocalisationHelper.getString(
+                            event instanceof ConcurrentGCEvent ? "chart_tooltip_duration" : "chart_tooltip_pause"))
+                    .append(": ").append(pauseFormat.format(event.getPause())).append("s");
+            if (event.getTotal() > 0) {
+                toolTip.append("<br>").append(LocalisationHelper.getString("chart_tooltip_heap"))
+                        .append(": ").append(event.getPreUsed()).append("K->").append(event.getPostUsed())
+                        .append("K(").append(event.getTotal()).append("K)");
+            }
+
+            return toolTip.append("</html>").toString();
+        }
+
+        @Override
+        protected void addImpl(Component component, Object constraints, int index) {
+            super.addImpl(component, constraints, index);
+            component.addComponentListener(new ComponentAdapter() {
+                @Override
+                public void componentShown(ComponentEvent e) {
+                    resetTiles();
+                }
+
+                @Override
+                public void componentHidden(ComponentEvent e) {
+                    resetTiles();
+                }
+            });
+        }
+
+        @Override
+        protected void paintChildren(Graphics g) {
+            Rectangle clip = g.getClipBounds();
+            if (!isOnScreen() || clip == null) {
+                // offscreen painting (export): no need to cache anything
+                super.paintChildren(g);
+                return;
+            }
+
+            int firstTile = Math.max(clip.x, 0) / TILE_WIDTH;
+            int lastTile = Math.max(clip.x + clip.width - 1, 0) / TILE_WIDTH;
+            for (int tileIndex = firstTile; tileIndex <= lastTile; tileIndex++) {
+                BufferedImage tile = tiles.get(tileIndex);
+                if (tile == null && interacting) {
+                    tile = interactionTiles.get(tileIndex);
+                }
+                if (tile == null) {
+                    tile = renderTile(tileIndex);
+                }
+                g.drawImage(tile, tileIndex * TILE_WIDTH, 0, null);
+            }
+
+            schedulePreRendering(firstTile - 1, lastTile + 1);
+        }
+
+        private boolean isOnScreen() {
+            return isShowing() && SwingUtilities.getWindowAncestor(this) != null && getHeight() > 0;
+        }
+
+        private BufferedImage renderTile(int tileIndex) {
+            int tileX = tileIndex * TILE_WIDTH;
+            BufferedImage tile = getGraphicsConfiguration().createCompatibleImage(
+                    Math.max(Math.min(TILE_WIDTH, getWidth() - tileX), 1), getHeight(), Transparency.OPAQUE);
+            Graphics2D g2d = tile.createGraphics();
+            try {
+                g2d.setColor(getBackground());
+                g2d.fillRect(0, 0, tile.getWidth(), tile.getHeight());
+                g2d.translate(-tileX, 0);
+                g2d.clipRect(tileX, 0, tile.getWidth(), tile.getHeight());
+                super.paintChildren(g2d);
+            }
+            finally {
+                g2d.dispose();
+            }
+
+            // polygons still being computed in the background will trigger another repaint
+            if (areAllPolygonsComputed()) {
+                (interacting ? interactionTiles : tiles).put(tileIndex, tile);
+            }
+
+            return tile;
+        }
+
+        private boolean areAllPolygonsComputed() {
+            for (Component component : getComponents()) {
+                if (component instanceof PolygonChartRenderer
+                        && component.isVisible()
+                        && !((PolygonChartRenderer) component).isPolygonComputed()) {
+
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Renders the tiles next to the visible area, once painting has paused for
+         * {@link #PRE_RENDERING_DELAY} ms (every paint postpones it).
+         */
+        private void schedulePreRendering(int previousTile, int nextTile) {
+            this.previousTile = previousTile;
+            this.nextTile = nextTile;
+            preRenderingTimer.restart();
+        }
+
+        private void preRenderTiles() {
+            // the end of an interaction repaints and schedules pre-rendering in full quality
+            if (!isOnScreen() || interacting) {
+                return;
+            }
+
+            for (int tileIndex : new int[] {previousTile, nextTile}) {
+                if (tileIndex >= 0 && tileIndex * TILE_WIDTH < getWidth() && !tiles.containsKey(tileIndex)) {
+                    renderTile(tileIndex);
+                }
+            }
+        }
+
+        /**
+         * Discards all cached tiles.
+         */
+        public void resetTiles() {
+            tiles.clear();
+            interactionTiles.clear();
+        }
+
+        /**
+         * Discards the tiles rendered with reduced quality during an interaction.
+         */
+        public void resetInteractionTiles() {
+            interactionTiles.clear();
         }
 
         public Dimension getPreferredSize() {
@@ -522,6 +881,7 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
          * Reset the cached polygons of all {@link PolygonChartRenderer}s stored in this chart.
          */
         public void resetPolygons() {
+            resetTiles();
             for (Component component : getComponents()) {
                 if (component instanceof PolygonChartRenderer) {
                     ((PolygonChartRenderer)component).resetPolygon();
@@ -529,6 +889,17 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
             }
         }
 
+        /**
+         * Discard the polygons of all {@link PolygonChartRenderer}s cached for other zoom levels.
+         */
+        public void clearPolygonCaches() {
+            for (Component component : getComponents()) {
+                if (component instanceof PolygonChartRenderer) {
+                    ((PolygonChartRenderer)component).clearPolygonCache();
+                }
+            }
+        }
+
         @Override
         public void componentResized(ComponentEvent e) {
             resetPolygons();
@@ -555,10 +926,7 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
         private boolean vertical;
         private double minUnit;
         private double maxUnit;
-        private final double log10 = Math.log(10);
-        private Font font;
         private Format formatter;
-        private String longestString;
         private String unitName;
         private int minHalfDistance;
         private double offset;
@@ -575,7 +943,6 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
             setVertical(vertical);
             setMinUnit(minUnit);
             setMaxUnit(maxUnit);
-            font = new Font("sans-serif", Font.PLAIN, 10);
 
             propertyChangeSupport = new SwingPropertyChangeSupport(this, true);
         }
@@ -594,9 +961,9 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
         }
 
         public Dimension getPreferredSize() {
-            FontMetrics fm = getToolkit().getFontMetrics(font);
+            FontMetrics fm = getToolkit().getFontMetrics(RulerPainter.FONT);
             configureFormatter();
-            int minWidth = fm.stringWidth(longestString) + 5;
+            int minWidth = RulerPainter.getMinWidth(fm, formatter, maxUnit, offset, getUnitName());
             Dimension bestSize = null;
             if (isVertical()) {
                 bestSize = new Dimension(minWidth, getHeight());
@@ -619,49 +986,13 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
         protected void paintComponent(Graphics g) {
             super.paintComponents(g);
             configureFormatter();
-            double lineDistance = getLineDistance();
             Rectangle clip = g.getClipBounds();
             g.clearRect(clip.x, clip.y, clip.width, clip.height);
-            g.setColor(Color.black);
             if (isVertical()) {
-                double halfLineDistance = lineDistance / 2.0d;
-                for (double line = getHeight(); line > 0; line -= lineDistance) {
-                    g.drawLine(0, (int) line, getWidth(), (int) line);
-                }
-                for (double line = getHeight() - halfLineDistance; line > 0; line -= lineDistance) {
-                    int inset = 3;
-                    g.drawLine(inset, (int) line, getWidth() - inset, (int) line);
-                }
-                String number = null;
-                for (double line = getHeight(); line > 0; line -= lineDistance) {
-                    g.setFont(font);
-                    String newNumber = format((getHeight() - line) / getPixelsPerUnit() + minUnit) + getUnitName();
-                    if (!newNumber.equals(number)) {
-                        g.drawString(newNumber, 2, (int) line - 2);
-                    }
-                    number = newNumber;
-                }
+                RulerPainter.paintVertical(g, formatter, getUnitName(), minUnit, getPixelsPerUnit(), getWidth(), getHeight());
             }
             else {
-                double halfLineDistance = lineDistance / 2.0d;
-                double start = clip.x - ((clip.x + offset * getPixelsPerUnit()) % lineDistance);
-                double end = clip.x + clip.width;
-                for (double line = start; line < end; line += lineDistance) {
-                    g.drawLine((int) line, 0, (int) line, getHeight());
-                }
-                for (double line = start + halfLineDistance; line < end; line += lineDistance) {
-                    int inset = 3;
-                    g.drawLine((int) line, inset, (int) line, getHeight() - inset);
-                }
-                String number = null;
-                for (double line = start; line < end; line += lineDistance) {
-                    g.setFont(font);
-                    String newNumber = format(line / getPixelsPerUnit() + minUnit) + getUnitName();
-                    if (!newNumber.equals(number)) {
-                        g.drawString(newNumber, ((int) line) + 3, getHeight() - 2);
-                    }
-                    number = newNumber;
-                }
+                RulerPainter.paintHorizontal(g, formatter, getUnitName(), minUnit, offset, getPixelsPerUnit(), minHalfDistance, getHeight());
             }
         }
 
@@ -679,70 +1010,6 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
             }
         }
 
-        private String format(final double val) {
-            final double offsetValue = val + offset;
-            String s = null;
-            if (formatter instanceof NumberFormat) {
-                s = ((NumberFormat)formatter).format(offsetValue);
-            }
-            else if (formatter instanceof DateFormat) {
-                final Date date = new Date(Math.round(offsetValue) * 1000);
-                s = ((DateFormat)formatter).format(date);
-            }
-            return s;
-        }
-
-        private double getLineDistance() {
-            if (formatter instanceof NumberFormat) return getNumberLineDistance();
-            else if (formatter instanceof DateFormat) return getDateLineDistance();
-            return 0.0d;
-        }
-
-        private double getDateLineDistance() {
-            double lineDistance = getPixelsPerUnit();
-            if (isVertical()) {
-                if (lineDistance < 20) lineDistance *= 10.0d; // 10sec
-                if (lineDistance < 20) lineDistance *= 3.0d; // 30sec
-                if (lineDistance < 20) lineDistance *= 2.0d; // 1min
-                if (lineDistance < 20) lineDistance *= 2.0d; // 2min
-                if (lineDistance < 20) lineDistance *= 5.0d; // 10min
-                if (lineDistance < 20) lineDistance *= 2.0d; // 20min
-                if (lineDistance < 20) lineDistance *= 3.0d; // 1h
-                if (lineDistance < 20) {
-                    double oneHourDistance = lineDistance;
-                    while (lineDistance < 20) lineDistance += oneHourDistance;
-                }
-            }
-            else {
-                if (lineDistance < minHalfDistance * 2) lineDistance *= 10.0d; // 10sec
-                if (lineDistance < minHalfDistance * 2) lineDistance *= 2.0d; // 20sec
-                if (lineDistance < minHalfDistance * 2) lineDistance *= 1.5d; // 30sec
-                if (lineDistance < minHalfDistance * 2) lineDistance *= 2.0d; // 1min
-                if (lineDistance < minHalfDistance * 2) lineDistance *= 2.0d; // 2min
-                if (lineDistance < minHalfDistance * 2) lineDistance *= 2.5d; // 5min
-                if (lineDistance < minHalfDistance * 2) lineDistance *= 2.0d; // 10min
-                if (lineDistance < minHalfDistance * 2) lineDistance *= 2.0d; // 20min
-                if (lineDistance < minHalfDistance * 2) lineDistance *= 3.0d; // 1h
-                if (lineDistance < minHalfDistance * 2) {
-                    double oneHourDistance = lineDistance;
-                    while (lineDistance < minHalfDistance * 2) lineDistance += oneHourDistance;
-                }
-            }
-            return lineDistance;
-        }
-
-        private double getNumberLineDistance() {
-            double log10PixelPerUnit = Math.log(getPixelsPerUnit()) / log10;
-            double lineDistance = getPixelsPerUnit() * Math.pow(10, Math.ceil(-log10PixelPerUnit) + 1);
-            if (isVertical()) {
-                while (lineDistance < 20) lineDistance *= 10.0d;
-            }
-            else {
-                while (lineDistance < minHalfDistance * 2) lineDistance *= 10.0d;
-            }
-            return lineDistance;
-        }
-
         private double getPixelsPerUnit() {
             return isVertical()
                        ? getHeight() / (maxUnit - minUnit)
@@ -760,19 +1027,7 @@ public class ModelChartImpl extends JScrollPane implements ModelChart, ChangeLis
         }
 
         public void configureFormatter() {
-            if (formatter instanceof NumberFormat) {
-                double digits = Math.log(maxUnit) / log10;
-                if (digits < 1) {
-                    ((NumberFormat)formatter).setMaximumFractionDigits((int) Math.abs(digits) + 2);
-                    ((NumberFormat)formatter).setMinimumFractionDigits((int) Math.abs(digits) + 2);
-                }
-                else {
-                    ((NumberFormat)formatter).setMaximumFractionDigits(0);
-                    ((NumberFormat)formatter).setMinimumFractionDigits(0);
-                }
-            }
-            longestString = format(maxUnit);
-            if (unitName != null) longestString += unitName;
+            RulerPainter.configureFormatter(formatter, maxUnit);
             invalidate();
         }
 
@@ -117,7 +117,8 @@ public class ModelDetailsPanel extends JPanel {
         }
         concurrentGcEventModel.setModel(model.getConcurrentEventPauses(), totalPause, false);
 
-        if (model.size() > 1 && model.getGcEventPhases().size() == 0) {
+        // phase statistics are derived from the compact phase table, not from the phase events
+        if (model.size() > 1 && model.getGcPhaseTable().size() == 0) {
             remove(gcPhasesTable);
         }
         else {
@@ -86,9 +86,20 @@ public class ModelMetricsPanel extends JTabbedPane {
         memoryTab.setModel(model);
         pauseTab.setModel(model);
         summaryTab.setModel(model);
+        updateTabTitles(model.isSnapshot());
         repaint();
     }
 
+    /**
+     * Marks the values in all tabs as provisional while the model is still being loaded.
+     */
+    private void updateTabTitles(boolean provisional) {
+        String suffix = provisional ? " " + LocalisationHelper.getString("data_panel_provisional") : "";
+        setTitleAt(indexOfComponent(summaryTab), LocalisationHelper.getString("data_panel_tab_summary") + suffix);
+        setTitleAt(indexOfComponent(memoryTab), LocalisationHelper.getString("data_panel_tab_memory") + suffix);
+        setTitleAt(indexOfComponent(pauseTab), LocalisationHelper.getString("data_panel_tab_pause") + suffix);
+    }
+
     private boolean isSignificant(final double average, final double standardDeviation) {
         // at least 68.3% of all points are within 0.75 to 1.25 times the average value
         // Note: this may or may not be a good measure, but it at least helps to mark some bad data as such
@@ -234,6 +245,8 @@ public class ModelMetricsPanel extends JTabbedPane {
             
             addEntry(LocalisationHelper.getString("data_panel_slopeafterfullgc"));
             addEntry(LocalisationHelper.getString("data_panel_slopeaftergc"));
+            addEntry(LocalisationHelper.getString("data_panel_recentslopeafterfullgc"));
+            addEntry(LocalisationHelper.getString("data_panel_recentslopeaftergc"));
             
             addEntry(LocalisationHelper.getString("data_panel_memory_initiatingoccupancyfraction"));
             
@@ -248,6 +261,8 @@ public class ModelMetricsPanel extends JTabbedPane {
             boolean fullGcSlopeDataAvailable = model.getFootprintAfterFullGC().getN() > 1;
             boolean gcDataAvailable = model.getFootprintAfterGC().getN() != 0;
             boolean gcSlopeDataAvailable = model.getRelativePostGCIncrease().getN() != 0;
+            boolean recentFullGcSlopeDataAvailable = model.getRecentPostFullGCSlope().isLine();
+            boolean recentGcSlopeDataAvailable = model.getRecentPostGCSlope().isLine();
             boolean initiatingOccFractionAvailable = model.getCmsInitiatingOccupancyFraction().getN() > 0;
             boolean promotionAvailable = model.getPromotion().getN() > 0;
             boolean postConcurrentUsedSizeAvailable = model.getPostConcurrentCycleHeapUsedSizes().getN() > 0;
@@ -340,6 +355,12 @@ public class ModelMetricsPanel extends JTabbedPane {
             updateValue(LocalisationHelper.getString("data_panel_slopeaftergc"),
         			gcSlopeDataAvailable ? footprintSlopeFormatter.format(model.getPostGCSlope()) + "/s" : "n/a",
         			gcSlopeDataAvailable);
+            updateValue(LocalisationHelper.getString("data_panel_recentslopeafterfullgc"),
+                    recentFullGcSlopeDataAvailable ? footprintSlopeFormatter.format(model.getRecentPostFullGCSlope().slope()) + "/s" : "n/a",
+                    recentFullGcSlopeDataAvailable);
+            updateValue(LocalisationHelper.getString("data_panel_recentslopeaftergc"),
+                    recentGcSlopeDataAvailable ? footprintSlopeFormatter.format(model.getRecentPostGCSlope().slope()) + "/s" : "n/a",
+                    recentGcSlopeDataAvailable);
         	
             updateValue(LocalisationHelper.getString("data_panel_memory_initiatingoccupancyfraction"),
         	        initiatingOccFractionAvailable ? 
@@ -0,0 +1,127 @@
+package com.tagtraum.perf.gcviewer.view;
+
+import java.awt.Color;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Path2D;
+import java.text.NumberFormat;
+
+import javax.swing.JPanel;
+
+import com.tagtraum.perf.gcviewer.math.MutatorUtilization;
+import com.tagtraum.perf.gcviewer.model.GCModel;
+
+/**
+ * Shows the minimum (MMU) and bounded minimum (BMU) mutator utilisation of a {@link GCModel} over
+ * the window size on a logarithmic scale.
+ */
+public class MutatorUtilizationChart extends JPanel {
+    private static final Color MMU_COLOR = Color.RED;
+    private static final Color BMU_COLOR = Color.BLUE;
+    private static final int MARGIN = 40;
+
+    private GCModel model;
+    private final NumberFormat windowFormatter;
+
+    public MutatorUtilizationChart() {
+        setBackground(Color.WHITE);
+        setOpaque(true);
+
+        windowFormatter = NumberFormat.getInstance();
+        windowFormatter.setMaximumFractionDigits(3);
+    }
+
+    public void setModel(GCModel model) {
+        this.model = model;
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+
+        if (model == null || model.size() == 0) {
+            return;
+        }
+
+        // only computed when the chart is visible; cached by the model, once it doesn't change any more
+        MutatorUtilization utilization = model.getMutatorUtilization();
+        int width = getWidth() - 2 * MARGIN;
+        int height = getHeight() - 2 * MARGIN;
+        if (width <= 0 || height <= 0 || utilization.getWindowCount() == 0) {
+            return;
+        }
+
+        Graphics2D g2d = (Graphics2D) g;
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+        double minLog = Math.log10(utilization.getWindow(0));
+        double maxLog = Math.log10(utilization.getWindow(utilization.getWindowCount() - 1));
+        double logRange = Math.max(maxLog - minLog, 1);
+
+        paintAxes(g2d, minLog, maxLog, logRange, width, height);
+        paintCurve(g2d, utilization, false, MMU_COLOR, minLog, logRange, width, height);
+        paintCurve(g2d, utilization, true, BMU_COLOR, minLog, logRange, width, height);
+
+        FontMetrics fontMetrics = g2d.getFontMetrics();
+        g2d.setColor(MMU_COLOR);
+        g2d.drawString("MMU", MARGIN + width - 60, MARGIN + fontMetrics.getAscent());
+        g2d.setColor(BMU_COLOR);
+        g2d.drawString("BMU", MARGIN + width - 60, MARGIN + 2 * fontMetrics.getHeight());
+    }
+
+    private void paintAxes(Graphics2D g2d, double minLog, double maxLog, double logRange, int width, int height) {
+        FontMetrics fontMetrics = g2d.getFontMetrics();
+        g2d.setColor(Color.LIGHT_GRAY);
+        for (int percent = 0; percent <= 100; percent += 25) {
+            int y = MARGIN + height - (int) Math.round(percent / 100.0 * height);
+            g2d.drawLine(MARGIN, y, MARGIN + width, y);
+            g2d.drawString(percent + "%", 2, y + fontMetrics.getAscent() / 2);
+        }
+
+        for (int decade = (int) Math.ceil(minLog); decade <= maxLog; decade++) {
+            int x = MARGIN + (int) Math.round((decade - minLog) / logRange * width);
+            g2d.drawLine(x, MARGIN, x, MARGIN + height);
+            String label = formatWindow(Math.pow(10, decade));
+            g2d.drawString(label, x - fontMetrics.stringWidth(label) / 2, MARGIN + height + fontMetrics.getHeight());
+        }
+
+        g2d.setColor(Color.BLACK);
+        g2d.drawRect(MARGIN, MARGIN, width, height);
+    }
+
+    private void paintCurve(Graphics2D g2d,
+                            MutatorUtilization utilization,
+                            boolean bounded,
+                            Color color,
+                            double minLog,
+                            double logRange,
+                            int width,
+                            int height) {
+
+        Path2D.Double path = new Path2D.Double();
+        for (int i = 0; i < utilization.getWindowCount(); i++) {
+            double value = bounded ? utilization.getBoundedMinimumUtilization(i) : utilization.getMinimumUtilization(i);
+            double x = MARGIN + (Math.log10(utilization.getWindow(i)) - minLog) / logRange * width;
+            double y = MARGIN + height - value * height;
+            if (i == 0) {
+                path.moveTo(x, y);
+            }
+            else {
+                path.lineTo(x, y);
+            }
+        }
+
+        g2d.setColor(color);
+        g2d.draw(path);
+    }
+
+    private String formatWindow(double seconds) {
+        return seconds < 1
+                ? windowFormatter.format(seconds * 1000) + "ms"
+                : windowFormatter.format(seconds) + "s";
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.tagtraum.perf.gcviewer.view;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.text.DateFormat;
+import java.text.Format;
+import java.text.NumberFormat;
+import java.util.Date;
+
+/**
+ * Paints the rulers of a chart: memory and pause left of the chart (vertical), timestamps on top
+ * of it (horizontal). Used by the rulers of {@link ModelChartImpl} and by
+ * {@link HeadlessChartRenderer}; no state is kept, so that it can be used on any thread.
+ */
+final class RulerPainter {
+    static final Font FONT = new Font("sans-serif", Font.PLAIN, 10);
+    // minimum distance between the numbers of a vertical ruler in pixels
+    private static final int MIN_VERTICAL_LINE_DISTANCE = 20;
+    private static final int INSET = 3;
+    private static final double LOG10 = Math.log(10);
+
+    private RulerPainter() {
+    }
+
+    /**
+     * Sets the fraction digits of a {@link NumberFormat} needed to show the values up to
+     * <code>maxUnit</code>; other formats are left unchanged.
+     *
+     * @param formatter format of the ruler
+     * @param maxUnit highest value of the ruler
+     */
+    static void configureFormatter(Format formatter, double maxUnit) {
+        if (formatter instanceof NumberFormat) {
+            double digits = Math.log(maxUnit) / LOG10;
+            if (digits < 1) {
+                ((NumberFormat)formatter).setMaximumFractionDigits((int) Math.abs(digits) + 2);
+                ((NumberFormat)formatter).setMinimumFractionDigits((int) Math.abs(digits) + 2);
+            }
+            else {
+                ((NumberFormat)formatter).setMaximumFractionDigits(0);
+                ((NumberFormat)formatter).setMinimumFractionDigits(0);
+            }
+        }
+    }
+
+    /**
+     * @param formatter format of the ruler ({@link NumberFormat} or {@link DateFormat} for seconds)
+     * @param value value to be formatted
+     * @param offset offset added to <code>value</code>
+     * @return formatted value
+     */
+    static String format(Format formatter, double value, double offset) {
+        double offsetValue = value + offset;
+        if (formatter instanceof DateFormat) {
+            return formatter.format(new Date(Math.round(offsetValue) * 1000));
+        }
+
+        return formatter.format(offsetValue);
+    }
+
+    /**
+     * @return width needed to show the highest value of a ruler
+     */
+    static int getMinWidth(FontMetrics fontMetrics, Format formatter, double maxUnit, double offset, String unitName) {
+        return fontMetrics.stringWidth(format(formatter, maxUnit, offset) + unitName) + 5;
+    }
+
+    /**
+     * Paints a vertical ruler starting with <code>minUnit</code> at the bottom.
+     *
+     * @param g graphics to paint with
+     * @param formatter format of the numbers (configured by {@link #configureFormatter(Format, double)})
+     * @param unitName unit appended to the numbers
+     * @param minUnit value at the bottom of the ruler
+     * @param pixelsPerUnit scale of the ruler
+     * @param width width of the ruler
+     * @param height height of the ruler
+     */
+    static void paintVertical(Graphics g, Format formatter, String unitName, double minUnit, double pixelsPerUnit, int width, int height) {
+        if (!isScalable(pixelsPerUnit)) {
+            return;
+        }
+
+        double lineDistance = getLineDistance(formatter, pixelsPerUnit, MIN_VERTICAL_LINE_DISTANCE);
+        double halfLineDistance = lineDistance / 2.0d;
+        g.setColor(Color.black);
+        g.setFont(FONT);
+        for (double line = height; line > 0; line -= lineDistance) {
+            g.drawLine(0, (int) line, width, (int) line);
+        }
+        for (double line = height - halfLineDistance; line > 0; line -= lineDistance) {
+            g.drawLine(INSET, (int) line, width - INSET, (int) line);
+        }
+        String number = null;
+        for (double line = height; line > 0; line -= lineDistance) {
+            String newNumber = format(formatter, (height - line) / pixelsPerUnit + minUnit, 0) + unitName;
+            if (!newNumber.equals(number)) {
+                g.drawString(newNumber, 2, (int) line - 2);
+            }
+            number = newNumber;
+        }
+    }
+
+    /**
+     * Paints the part of a horizontal ruler inside the clip of <code>g</code>; the ruler starts
+     * with <code>minUnit</code> at x = 0.
+     *
+     * @param g graphics to paint with
+     * @param formatter format of the numbers (configured by {@link #configureFormatter(Format, double)})
+     * @param unitName unit appended to the numbers
+     * @param minUnit value at the left end of the ruler
+     * @param offset offset added to the values (start of the log for datestamps)
+     * @param pixelsPerUnit scale of the ruler
+     * @param minHalfDistance half of the minimum distance between two numbers
+     * @param height height of the ruler
+     */
+    static void paintHorizontal(Graphics g, Format formatter, String unitName, double minUnit, double offset,
+                                double pixelsPerUnit, int minHalfDistance, int height) {
+
+        if (!isScalable(pixelsPerUnit)) {
+            return;
+        }
+
+        Rectangle clip = g.getClipBounds();
+        double lineDistance = getLineDistance(formatter, pixelsPerUnit, minHalfDistance * 2);
+        double halfLineDistance = lineDistance / 2.0d;
+        double start = clip.x - ((clip.x + offset * pixelsPerUnit) % lineDistance);
+        double end = clip.x + clip.width;
+        g.setColor(Color.black);
+        g.setFont(FONT);
+        for (double line = start; line < end; line += lineDistance) {
+            g.drawLine((int) line, 0, (int) line, height);
+        }
+        for (double line = start + halfLineDistance; line < end; line += lineDistance) {
+            g.drawLine((int) line, INSET, (int) line, height - INSET);
+        }
+        String number = null;
+        for (double line = start; line < end; line += lineDistance) {
+            String newNumber = format(formatter, line / pixelsPerUnit + minUnit, offset) + unitName;
+            if (!newNumber.equals(number)) {
+                g.drawString(newNumber, ((int) line) + 3, height - 2);
+            }
+            number = newNumber;
+        }
+    }
+
+    private static boolean isScalable(double pixelsPerUnit) {
+        return pixelsPerUnit > 0 && !Double.isInfinite(pixelsPerUnit) && !Double.isNaN(pixelsPerUnit);
+    }
+
+    private static double getLineDistance(Format formatter, double pixelsPerUnit, double minLineDistance) {
+        return formatter instanceof DateFormat
+                ? getDateLineDistance(pixelsPerUnit, minLineDistance)
+                : getNumberLineDistance(pixelsPerUnit, minLineDistance);
+    }
+
+    private static double getDateLineDistance(double pixelsPerUnit, double minLineDistance) {
+        double lineDistance = pixelsPerUnit;
+        if (lineDistance < minLineDistance) lineDistance *= 10.0d; // 10sec
+        if (lineDistance < minLineDistance) lineDistance *= 2.0d; // 20sec
+        if (lineDistance < minLineDistance) lineDistance *= 1.5d; // 30sec
+        if (lineDistance < minLineDistance) lineDistance *= 2.0d; // 1min
+        if (lineDistance < minLineDistance) lineDistance *= 2.0d; // 2min
+        if (lineDistance < minLineDistance) lineDistance *= 2.5d; // 5min
+        if (lineDistance < minLineDistance) lineDistance *= 2.0d; // 10min
+        if (lineDistance < minLineDistance) lineDistance *= 2.0d; // 20min
+        if (lineDistance < minLineDistance) lineDistance *= 3.0d; // 1h
+        if (lineDistance < minLineDistance) {
+            double oneHourDistance = lineDistance;
+            while (lineDistance < minLineDistance) lineDistance += oneHourDistance;
+        }
+        return lineDistance;
+    }
+
+    private static double getNumberLineDistance(double pixelsPerUnit, double minLineDistance) {
+        double log10PixelPerUnit = Math.log(pixelsPerUnit) / LOG10;
+        double lineDistance = pixelsPerUnit * Math.pow(10, Math.ceil(-log10PixelPerUnit) + 1);
+        while (lineDistance < minLineDistance) lineDistance *= 10.0d;
+        return lineDistance;
+    }
+}
@@ -23,6 +23,8 @@ public class GCPreferences {
     public static final String INC_GC_LINES = "incgclines";
     public static final String GC_TIMES_LINE = "gctimesline";
     public static final String GC_TIMES_RECTANGLES = "gctimesrectangles";
+    public static final String PAUSE_PERCENTILE_LINE = "pausepercentileline";
+    public static final String ALLOCATION_RATE_LINE = "allocationrateline";
     public static final String TOTAL_MEMORY = "totalmemory";
     public static final String USED_MEMORY = "usedmemory";
     public static final String USED_YOUNG_MEMORY = "usedyoungmemory";
@@ -45,11 +47,15 @@ public class GCPreferences {
     private static final String WINDOW_Y = "window.y";
     private static final String LASTFILE = "lastfile";
     private static final String RECENT_FILE_PREFIX = "recent.";
+    private static final String INTERACTION_IDLE_DELAY = "interaction.idledelay";
+    private static final String INTERACTION_MIN_EVENTS = "interaction.minevents";
     
     private static final int WINDOW_WIDTH_DEFAULT = 800;
     private static final int WINDOW_HEIGHT_DEFAULT = 600;
     private static final int WINDOW_X_DEFAULT = 0;
     private static final int WINDOW_Y_DEFAULT = 0;
+    private static final int INTERACTION_IDLE_DELAY_DEFAULT = 300;
+    private static final int INTERACTION_MIN_EVENTS_DEFAULT = 100000;
     
     private static final Logger LOGGER = Logger.getLogger(GCPreferences.class.getName());
 
@@ -175,6 +181,30 @@ public class GCPreferences {
         return recentFiles;
     }
     
+    /**
+     * @return milliseconds without scrolling, resizing or zooming, after which the chart is rendered
+     * at full quality again; 0 always renders at full quality
+     */
+    public int getInteractionIdleDelay() {
+        return getIntValue(INTERACTION_IDLE_DELAY, INTERACTION_IDLE_DELAY_DEFAULT);
+    }
+
+    public void setInteractionIdleDelay(int idleDelay) {
+        properties.setProperty(INTERACTION_IDLE_DELAY, Integer.toString(idleDelay));
+    }
+
+    /**
+     * @return minimum number of events of a model, for which the quality of the chart is reduced during
+     * scrolling, resizing or zooming
+     */
+    public int getInteractionMinEvents() {
+        return getIntValue(INTERACTION_MIN_EVENTS, INTERACTION_MIN_EVENTS_DEFAULT);
+    }
+
+    public void setInteractionMinEvents(int minEvents) {
+        properties.setProperty(INTERACTION_MIN_EVENTS, Integer.toString(minEvents));
+    }
+
     public boolean getGcLineProperty(String key) {
         return getBooleanValue(GC_LINE_PREFIX + key, true);
     }
@@ -0,0 +1,57 @@
+package com.tagtraum.perf.gcviewer.view.renderer;
+
+import java.awt.Color;
+import java.awt.Paint;
+import java.awt.Polygon;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tagtraum.perf.gcviewer.model.GCModel;
+import com.tagtraum.perf.gcviewer.view.ModelChart;
+import com.tagtraum.perf.gcviewer.view.ModelChartImpl;
+
+/**
+ * Renders the average allocation rate per time window. The rate has no axis of its own: the highest
+ * window is drawn at the top of the chart. The width of the windows follows the zoom level, so
+ * that every window is a few pixels wide.
+ */
+public class AllocationRateRenderer extends PolygonChartRenderer {
+    public static final Paint DEFAULT_LINEPAINT = Color.CYAN.darker();
+    // minimum width of a window on screen
+    private static final int WINDOW_WIDTH_IN_PIXELS = 10;
+
+    public AllocationRateRenderer(ModelChartImpl modelChart) {
+        super(modelChart);
+        setLinePaint(DEFAULT_LINEPAINT);
+        setDrawPolygon(false);
+        setDrawLine(true);
+    }
+
+    public Polygon computePolygon(ModelChart modelChart, GCModel model) {
+        return computePolygon(model, getPolygonScale());
+    }
+
+    /**
+     * Computes the line of the allocation rate of <code>model</code>.
+     *
+     * @param model model to be painted
+     * @param scale scale of the chart
+     * @return line of the allocation rate
+     */
+    public static Polygon computePolygon(GCModel model, ChartScale scale) {
+        double windowSize = WINDOW_WIDTH_IN_PIXELS / scale.getScaleFactor();
+        List<double[]> windows = new ArrayList<>();
+        model.getAllocationRate().forEachWindow(windowSize, (start, averageRate, peakRate) -> windows.add(new double[] {start, averageRate}));
+        double maxRate = windows.stream().mapToDouble(window -> window[1]).max().orElse(0);
+
+        ScaledPolygon polygon = new ScaledPolygon(scale.getScaleFactor(), maxRate > 0 ? scale.getHeight() / maxRate : 0, scale.getHeight());
+        double firstPauseTimeStamp = model.getFirstPauseTimeStamp();
+        for (double[] window : windows) {
+            polygon.addPoint(Math.max(window[0] - firstPauseTimeStamp, 0), window[1]);
+            polygon.addPoint(window[0] + windowSize - firstPauseTimeStamp, window[1]);
+        }
+        // dummy point to make the polygon complete
+        polygon.addPoint(model.getRunningTime(), 0.0d);
+        return polygon;
+    }
+}
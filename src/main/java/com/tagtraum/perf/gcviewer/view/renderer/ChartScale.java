@@ -0,0 +1,76 @@
+package com.tagtraum.perf.gcviewer.view.renderer;
+
+import com.tagtraum.perf.gcviewer.model.GCModel;
+import com.tagtraum.perf.gcviewer.view.renderer.PolygonChartRenderer.ScaledPolygon;
+
+/**
+ * Scale of the area of a chart: maps timestamps, memory and pauses to pixels. It is all the
+ * renderers need to know about the chart to paint it; the chart shown in the gui and the
+ * charts rendered headless (export) share their drawing code this way.
+ */
+public final class ChartScale {
+    private final double scaleFactor;
+    private final int height;
+    private final double maxPause;
+    private final long footprint;
+
+    /**
+     * @param scaleFactor pixels per second on the x axis
+     * @param height height of the chart in pixels
+     * @param maxPause pause shown at the top of the chart
+     * @param footprint memory shown at the top of the chart
+     */
+    public ChartScale(double scaleFactor, int height, double maxPause, long footprint) {
+        this.scaleFactor = scaleFactor;
+        this.height = height;
+        this.maxPause = maxPause;
+        this.footprint = footprint;
+    }
+
+    /**
+     * @return pixels per second on the x axis
+     */
+    public double getScaleFactor() {
+        return scaleFactor;
+    }
+
+    /**
+     * @return height of the chart in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return pixels per second of pause on the y axis
+     */
+    public double getTimeScaleFactor() {
+        return maxPause > 0 ? height / maxPause : 0;
+    }
+
+    /**
+     * @return pixels per kilobyte of memory on the y axis
+     */
+    public double getMemoryScaleFactor() {
+        return footprint > 0 ? height / (double) footprint : 0;
+    }
+
+    /**
+     * Converts a position on the x axis of the chart to the timestamp of the model shown there.
+     *
+     * @param model model shown in the chart
+     * @param x position on the x axis
+     * @return timestamp at <code>x</code>
+     */
+    public double getTimestamp(GCModel model, int x) {
+        return model.getFirstPauseTimeStamp() + x / scaleFactor;
+    }
+
+    public ScaledPolygon createTimeScaledPolygon() {
+        return new ScaledPolygon(scaleFactor, getTimeScaleFactor(), height);
+    }
+
+    public ScaledPolygon createMemoryScaledPolygon() {
+        return new ScaledPolygon(scaleFactor, getMemoryScaleFactor(), height);
+    }
+}
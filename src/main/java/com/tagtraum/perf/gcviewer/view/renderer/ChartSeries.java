@@ -0,0 +1,276 @@
+package com.tagtraum.perf.gcviewer.view.renderer;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import com.tagtraum.perf.gcviewer.model.AbstractGCEvent;
+import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.GcPattern;
+import com.tagtraum.perf.gcviewer.model.GCEvent;
+import com.tagtraum.perf.gcviewer.model.GCModel;
+
+/**
+ * Unscaled points (seconds since the first event / kilobytes or seconds) of the lines shown in
+ * the chart. All series are extracted from the events of a {@link GCModel} in one pass; they don't
+ * depend on the zoom level, so that the renderers only need to scale them. When events are added
+ * to the model, the series can be extended without extracting the points of the earlier events again.
+ */
+public class ChartSeries {
+
+    /**
+     * Lines, that can be extracted.
+     */
+    public enum Type {
+        /** used heap before and after each event (at its start and end) */
+        USED_HEAP,
+        /** used tenured generation before and after each stop the world event */
+        USED_TENURED,
+        /** used young generation before and after each stop the world event (on top of the tenured generation, if shown) */
+        USED_YOUNG,
+        /** total heap of each event */
+        TOTAL_HEAP,
+        /** total tenured generation of each stop the world event */
+        TOTAL_TENURED,
+        /** total young generation (on top of the tenured generation, if shown) of each stop the world event */
+        TOTAL_YOUNG,
+        /** used heap before each initial mark event */
+        INITIAL_MARK_LEVEL,
+        /** pause of each stop the world event */
+        GC_TIMES
+    }
+
+    private final Map<Type, Points> series = new EnumMap<>(Type.class);
+    private final boolean showTenured;
+    private int modelSize;
+    private double firstPauseTimeStamp;
+    // state of the used young generation line after the last event
+    private GCEvent lastTenuredEvent;
+    private GCEvent tenuredEvent;
+
+    private ChartSeries(Set<Type> types, boolean showTenured) {
+        for (Type type : types) {
+            series.put(type, new Points());
+        }
+        this.showTenured = showTenured;
+    }
+
+    private ChartSeries(ChartSeries chartSeries) {
+        for (Map.Entry<Type, Points> entry : chartSeries.series.entrySet()) {
+            series.put(entry.getKey(), new Points(entry.getValue()));
+        }
+        this.showTenured = chartSeries.showTenured;
+        this.modelSize = chartSeries.modelSize;
+        this.firstPauseTimeStamp = chartSeries.firstPauseTimeStamp;
+        this.lastTenuredEvent = chartSeries.lastTenuredEvent;
+        this.tenuredEvent = chartSeries.tenuredEvent;
+    }
+
+    /**
+     * Extracts all series of <code>types</code> from <code>model</code>, iterating over its events once.
+     *
+     * @param model model to extract the series from
+     * @param types series to be extracted
+     * @param showTenured is the tenured generation shown below the young generation?
+     * @return extracted series
+     */
+    public static ChartSeries extract(GCModel model, Set<Type> types, boolean showTenured) {
+        ChartSeries chartSeries = new ChartSeries(types, showTenured);
+        chartSeries.firstPauseTimeStamp = model.getFirstPauseTimeStamp();
+        chartSeries.extract(model);
+        return chartSeries;
+    }
+
+    /**
+     * Returns a copy of these series extended by the points of the events, that were added to the
+     * model since (see {@link #isExtendableTo(Set, GCModel, boolean)}); this series is not changed.
+     *
+     * @param model model continuing the model these series were extracted from
+     * @return extended series
+     */
+    public ChartSeries extend(GCModel model) {
+        ChartSeries chartSeries = new ChartSeries(this);
+        chartSeries.extract(model);
+        return chartSeries;
+    }
+
+    private void extract(GCModel model) {
+        Points usedHeap = series.get(Type.USED_HEAP);
+        Points usedTenured = series.get(Type.USED_TENURED);
+        Points usedYoung = series.get(Type.USED_YOUNG);
+        Points totalHeap = series.get(Type.TOTAL_HEAP);
+        Points totalTenured = series.get(Type.TOTAL_TENURED);
+        Points totalYoung = series.get(Type.TOTAL_YOUNG);
+        Points initialMarkLevel = series.get(Type.INITIAL_MARK_LEVEL);
+        Points gcTimes = series.get(Type.GC_TIMES);
+
+        // events added while extracting are left for the next extension
+        int size = model.size();
+        Iterator<AbstractGCEvent<?>> i = model.getEvents(modelSize);
+        for (int index = modelSize; index < size; index++) {
+            AbstractGCEvent<?> abstractEvent = i.next();
+            double timestamp = abstractEvent.getTimestamp() - firstPauseTimeStamp;
+            double pauseStart = timestamp - abstractEvent.getPause();
+
+            // e.g. "GC remark" of G1 algorithm does not contain memory information
+            if (usedHeap != null && abstractEvent.getTotal() > 0) {
+                usedHeap.add(pauseStart, abstractEvent.getPreUsed());
+                usedHeap.add(timestamp, abstractEvent.getPostUsed());
+            }
+            if (totalHeap != null && abstractEvent.getTotal() > 0) {
+                totalHeap.add(timestamp, abstractEvent.getTotal());
+            }
+            if (gcTimes != null && abstractEvent.isStopTheWorld()) {
+                gcTimes.add(timestamp, abstractEvent.getPause());
+            }
+
+            if (!(abstractEvent instanceof GCEvent)) {
+                continue;
+            }
+
+            GCEvent event = (GCEvent) abstractEvent;
+            if (initialMarkLevel != null && !event.isFull() && event.isInitialMark()) {
+                initialMarkLevel.add(timestamp, event.getPreUsed());
+            }
+
+            if (!event.isStopTheWorld()) {
+                continue;
+            }
+
+            // only -XX:+PrintGCDetails adds information about generations
+            GCEvent young = event.getYoung();
+            GCEvent tenured = event.getTenured();
+            if (usedTenured != null && tenured != null && tenured.getTotal() > 0) {
+                usedTenured.add(pauseStart, tenured.getPreUsed());
+                usedTenured.add(timestamp, tenured.getPostUsed());
+            }
+            if (totalTenured != null && tenured != null && hasMemoryInformation(event)) {
+                totalTenured.add(tenured.getTimestamp() - firstPauseTimeStamp, tenured.getTotal());
+            }
+            if (totalYoung != null && young != null && tenured != null && hasMemoryInformation(event)) {
+                totalYoung.add(timestamp, (showTenured ? tenured.getTotal() : 0) + young.getTotal());
+            }
+            if (young != null) {
+                int lastTenuredTotal = 0;
+                int tenuredTotal = 0;
+                if (showTenured) {
+                    if (tenuredEvent != null && tenuredEvent.getTotal() > 0) {
+                        lastTenuredEvent = tenuredEvent;
+                    }
+                    if (lastTenuredEvent == null) lastTenuredEvent = tenured;
+                    tenuredEvent = tenured;
+
+                    lastTenuredTotal = lastTenuredEvent.getTotal();
+                    tenuredTotal = tenuredEvent.getTotal();
+                }
+                if (usedYoung != null && young.getTotal() > 0) {
+                    usedYoung.add(pauseStart, lastTenuredTotal + young.getPreUsed());
+                    usedYoung.add(timestamp, tenuredTotal + young.getPostUsed());
+                }
+            }
+        }
+
+        modelSize = size;
+    }
+
+    /**
+     * Returns <code>true</code> if <code>event</code> is of a type that contains memory information.
+     *
+     * @param event event to be analysed
+     * @return <code>true</code> if <code>event</code> contains memory information
+     */
+    private static boolean hasMemoryInformation(GCEvent event) {
+        return event.getExtendedType().getPattern().equals(GcPattern.GC_MEMORY)
+                || event.getExtendedType().getPattern().equals(GcPattern.GC_MEMORY_PAUSE);
+    }
+
+    /**
+     * @param type series to be returned
+     * @return points of the series
+     * @throws IllegalArgumentException if the series of <code>type</code> was not extracted
+     */
+    public Points get(Type type) {
+        Points points = series.get(type);
+        if (points == null) {
+            throw new IllegalArgumentException(type + " was not extracted");
+        }
+
+        return points;
+    }
+
+    /**
+     * @param types series required
+     * @param model model the series are required for
+     * @param showTenured is the tenured generation shown?
+     * @return <code>true</code> if all <code>types</code> were extracted from the current state of <code>model</code>
+     */
+    public boolean isExtracted(Set<Type> types, GCModel model, boolean showTenured) {
+        return series.keySet().containsAll(types) && modelSize == model.size() && this.showTenured == showTenured;
+    }
+
+    /**
+     * @param types series required
+     * @param model model the series are required for
+     * @param showTenured is the tenured generation shown?
+     * @return <code>true</code> if {@link #extend(GCModel)} can add the events added to <code>model</code>
+     * since these series were extracted; <code>model</code> must continue the model these series were
+     * extracted from (see {@link GCModel#startsWith(GCModel)})
+     */
+    public boolean isExtendableTo(Set<Type> types, GCModel model, boolean showTenured) {
+        return series.keySet().containsAll(types)
+                && modelSize <= model.size()
+                && this.showTenured == showTenured
+                && Double.compare(firstPauseTimeStamp, model.getFirstPauseTimeStamp()) == 0;
+    }
+
+    /**
+     * @return all series, that were extracted
+     */
+    public Set<Type> getTypes() {
+        return series.keySet();
+    }
+
+    /**
+     * Points of one series in ascending order of their x values.
+     */
+    public static class Points {
+        private double[] xValues;
+        private double[] yValues;
+        private int size;
+
+        Points() {
+            xValues = new double[16];
+            yValues = new double[16];
+        }
+
+        Points(Points points) {
+            // room for the points to be added
+            xValues = Arrays.copyOf(points.xValues, Math.max(points.xValues.length, points.size + 16));
+            yValues = Arrays.copyOf(points.yValues, xValues.length);
+            size = points.size;
+        }
+
+        private void add(double x, double y) {
+            if (size == xValues.length) {
+                xValues = Arrays.copyOf(xValues, size * 2);
+                yValues = Arrays.copyOf(yValues, size * 2);
+            }
+            xValues[size] = x;
+            yValues[size] = y;
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public double getX(int index) {
+            return xValues[index];
+        }
+
+        public double getY(int index) {
+            return yValues[index];
+        }
+    }
+}
@@ -3,10 +3,13 @@ package com.tagtraum.perf.gcviewer.view.renderer;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.util.Iterator;
 
-import com.tagtraum.perf.gcviewer.model.ConcurrentGCEvent;
+import com.tagtraum.perf.gcviewer.model.AbstractGCEvent;
+import com.tagtraum.perf.gcviewer.model.GCModel;
+import com.tagtraum.perf.gcviewer.model.GCModel.EventCategory;
 import com.tagtraum.perf.gcviewer.view.ChartRenderer;
 import com.tagtraum.perf.gcviewer.view.ModelChartImpl;
 
@@ -26,26 +29,60 @@ public class ConcurrentGcBegionEndRenderer extends ChartRenderer {
         setLinePaint(CONCURRENT_COLLECTION_BEGIN);
     }
 
+    @Override
+    protected boolean isDetail() {
+        return true;
+    }
+
     public void paintComponent(Graphics2D g2d) {
+        paintEvents(g2d, getModelChart().getModel(), getChartScale());
+    }
+
+    /**
+     * Paints the begin and end lines of the concurrent collections of <code>model</code> inside
+     * the clip of <code>g2d</code>.
+     *
+     * @param g2d graphics to paint with
+     * @param model model to be painted
+     * @param scale scale of the chart
+     */
+    public static void paintEvents(Graphics2D g2d, GCModel model, ChartScale scale) {
         // make sure that we ignore the AntiAliasing flag as it does not make sense for vertical lines
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
 
-        final double scaleFactor = getModelChart().getScaleFactor();
-        final int height = getHeight();
+        final double scaleFactor = scale.getScaleFactor();
+        final int height = scale.getHeight();
+        final Rectangle clipBounds = g2d.getClipBounds();
+        final int minX = clipBounds.x;
+        final int maxX = clipBounds.x + clipBounds.width;
         int lastScaledTimestampBegin = Integer.MIN_VALUE;
         int lastScaledTimestampEnd = Integer.MIN_VALUE;
-        for (Iterator<ConcurrentGCEvent> i = getModelChart().getModel().getConcurrentGCEvents(); i.hasNext();) {
-            final ConcurrentGCEvent event = i.next();
+        // without ascending timestamps, events right of the clip may be followed by visible ones
+        final boolean isAscending = model.hasAscendingTimestamps();
+        for (Iterator<AbstractGCEvent<?>> i = model.getEvents(EventCategory.CONCURRENT, scale.getTimestamp(model, minX)); i.hasNext();) {
+            final AbstractGCEvent<?> event = i.next();
             if (event.isConcurrentCollectionStart()) {
-                final int scaledTimestamp = (int) (scaleFactor * (event.getTimestamp() - getModelChart().getModel().getFirstPauseTimeStamp() - event.getPause()));
-                if (scaledTimestamp != lastScaledTimestampBegin) {
+                final int scaledTimestamp = (int) (scaleFactor * (event.getTimestamp() - model.getFirstPauseTimeStamp() - event.getPause()));
+                if (scaledTimestamp > maxX) {
+                    if (isAscending) {
+                        break;
+                    }
+                    continue;
+                }
+                if (scaledTimestamp != lastScaledTimestampBegin && scaledTimestamp >= minX) {
                     g2d.setPaint(CONCURRENT_COLLECTION_BEGIN);
                     g2d.drawLine(scaledTimestamp, 0, scaledTimestamp, height);
                     lastScaledTimestampBegin = scaledTimestamp;
                 }
             }
             else if (event.isConcurrentCollectionEnd()) {
-                final int scaledTimestamp = (int) (scaleFactor * (event.getTimestamp() - getModelChart().getModel().getFirstPauseTimeStamp()));
+                final int scaledTimestamp = (int) (scaleFactor * (event.getTimestamp() - model.getFirstPauseTimeStamp()));
+                if (scaledTimestamp > maxX) {
+                    if (isAscending) {
+                        break;
+                    }
+                    continue;
+                }
                 if (scaledTimestamp != lastScaledTimestampEnd) {
                     g2d.setPaint(CONCURRENT_COLLECTION_END);
                     g2d.drawLine(scaledTimestamp, 0, scaledTimestamp, height);
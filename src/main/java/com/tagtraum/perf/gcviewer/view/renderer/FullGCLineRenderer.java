@@ -7,7 +7,9 @@ import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.util.Iterator;
 
-import com.tagtraum.perf.gcviewer.model.GCEvent;
+import com.tagtraum.perf.gcviewer.model.AbstractGCEvent;
+import com.tagtraum.perf.gcviewer.model.GCModel;
+import com.tagtraum.perf.gcviewer.model.GCModel.EventCategory;
 import com.tagtraum.perf.gcviewer.view.ChartRenderer;
 import com.tagtraum.perf.gcviewer.view.ModelChartImpl;
 
@@ -27,19 +29,42 @@ public class FullGCLineRenderer extends ChartRenderer {
     }
 
     public void paintComponent(Graphics2D g2d) {
+        paintEvents(g2d, getModelChart().getModel(), getChartScale(), getLinePaint());
+    }
+
+    /**
+     * Paints a line at the start of every full collection of <code>model</code> inside the clip
+     * of <code>g2d</code>.
+     *
+     * @param g2d graphics to paint with
+     * @param model model to be painted
+     * @param scale scale of the chart
+     * @param linePaint paint of the lines
+     */
+    public static void paintEvents(Graphics2D g2d, GCModel model, ChartScale scale, Paint linePaint) {
         // make sure that we ignore the AntiAliasing flag as it does not make sense for vertical lines
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
-        double scaleFactor = getModelChart().getScaleFactor();
+        g2d.setPaint(linePaint);
+        double scaleFactor = scale.getScaleFactor();
         Rectangle clipBounds = g2d.getClipBounds();
         int minX = clipBounds.x;
         int maxX = clipBounds.x+clipBounds.width;
 
-        int height = getHeight();
+        int height = scale.getHeight();
         int lastScaledTimestamp = Integer.MIN_VALUE;
-        for (Iterator<GCEvent> i = getModelChart().getModel().getFullGCEvents(); i.hasNext();) {
-            GCEvent event = i.next();
-            int scaledTimestamp = (int)(scaleFactor * (event.getTimestamp() - getModelChart().getModel().getFirstPauseTimeStamp() - event.getPause()));
-            if (scaledTimestamp != lastScaledTimestamp && scaledTimestamp >= minX && scaledTimestamp <= maxX) {
+        // without ascending timestamps, events right of the clip may be followed by visible ones
+        boolean isAscending = model.hasAscendingTimestamps();
+        // events ending left of the clip start even further left
+        for (Iterator<AbstractGCEvent<?>> i = model.getEvents(EventCategory.FULL_GC, scale.getTimestamp(model, minX)); i.hasNext();) {
+            AbstractGCEvent<?> event = i.next();
+            int scaledTimestamp = (int)(scaleFactor * (event.getTimestamp() - model.getFirstPauseTimeStamp() - event.getPause()));
+            if (scaledTimestamp > maxX) {
+                if (isAscending) {
+                    break;
+                }
+                continue;
+            }
+            if (scaledTimestamp != lastScaledTimestamp && scaledTimestamp >= minX) {
                 g2d.drawLine(scaledTimestamp, 0, scaledTimestamp, height);
                 lastScaledTimestamp = scaledTimestamp;
             }
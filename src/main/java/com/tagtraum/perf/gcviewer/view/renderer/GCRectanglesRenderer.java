@@ -8,6 +8,8 @@ import java.awt.RenderingHints;
 import java.util.Iterator;
 
 import com.tagtraum.perf.gcviewer.model.AbstractGCEvent;
+import com.tagtraum.perf.gcviewer.model.GCModel;
+import com.tagtraum.perf.gcviewer.model.GCModel.EventCategory;
 import com.tagtraum.perf.gcviewer.model.VmOperationEvent;
 import com.tagtraum.perf.gcviewer.view.ChartRenderer;
 import com.tagtraum.perf.gcviewer.view.ModelChartImpl;
@@ -19,75 +21,120 @@ import com.tagtraum.perf.gcviewer.view.ModelChartImpl;
  */
 public class GCRectanglesRenderer extends ChartRenderer {
     public static final Paint DEFAULT_LINEPAINT = Color.GRAY;
-    private Paint brighter;
 
     public GCRectanglesRenderer(ModelChartImpl modelChart) {
         super(modelChart);
         setLinePaint(DEFAULT_LINEPAINT);
     }
 
-    public void setLinePaint(Paint linePaint) {
-        super.setLinePaint(linePaint);
-        if (linePaint instanceof Color) {
-            brighter = ((Color) linePaint).brighter();
-        } else {
-            // TODO add fancy logic for GradientPaint etc...
-            brighter = linePaint;
-        }
+    public void paintComponent(Graphics2D g2d) {
+        paintEvents(g2d, getModelChart().getModel(), getChartScale(), getLinePaint());
     }
 
-    public void paintComponent(Graphics2D g2d) {
+    /**
+     * Paints the pauses of <code>model</code> inside the clip of <code>g2d</code>.
+     *
+     * @param g2d graphics to paint with
+     * @param model model to be painted
+     * @param scale scale of the chart
+     * @param linePaint paint of the rectangles of young collections
+     */
+    public static void paintEvents(Graphics2D g2d, GCModel model, ChartScale scale, Paint linePaint) {
         // make sure that we ignore the AntiAliasing flag as it does not make sense for vertical lines
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
-        final double scaleFactor = getModelChart().getScaleFactor();
-        final double scaledHeight = (getHeight() / getModelChart().getMaxPause());
-
-        int lastWidth = Integer.MIN_VALUE;
-        int lastHeight = Integer.MIN_VALUE;
-        int lastX = Integer.MIN_VALUE;
-        int lastY = Integer.MIN_VALUE;
+        final double scaleFactor = scale.getScaleFactor();
+        final double scaledHeight = scale.getTimeScaleFactor();
+        final double firstPauseTimeStamp = model.getFirstPauseTimeStamp();
+        final Paint brighter = getBrighterPaint(linePaint);
 
         Rectangle clip = g2d.getClipBounds();
         int leftBoundary = clip.x;
         int rightBoundary = clip.x + clip.width;
+        // without ascending timestamps, events right of the clip may be followed by visible ones
+        boolean isAscending = model.hasAscendingTimestamps();
 
-        for (Iterator<AbstractGCEvent<?>> i = getModelChart().getModel().getStopTheWorldEvents(); i.hasNext() && lastX < rightBoundary;) {
+        // pauses shorter than one pixel are aggregated per column: only the highest one is painted
+        AbstractGCEvent<?> columnEvent = null;
+        int columnX = Integer.MIN_VALUE;
+        int columnHeight = Integer.MIN_VALUE;
+        // rectangles are at least one pixel wide: events ending just left of the clip may reach into it
+        for (Iterator<AbstractGCEvent<?>> i = model.getEvents(EventCategory.STOP_THE_WORLD, scale.getTimestamp(model, leftBoundary - 1)); i.hasNext();) {
             AbstractGCEvent<?> event = i.next();
             double pause = event.getPause();
             int width = (int) Math.max(Math.abs(scaleFactor * pause), 1.0d);
             int height = (int) (pause * scaledHeight);
-            int x = (int) (scaleFactor * (event.getTimestamp() - getModelChart().getModel().getFirstPauseTimeStamp() - event.getPause()));
-            int y = getHeight() - (int) (pause * scaledHeight);
-            if (lastX != x || lastY != y || lastWidth != width || lastHeight != height) {
-                if ((x + width) > leftBoundary && x < rightBoundary) {
-                    // make sure only visible rectangles are drawn
-                    if (event.isFull()) {
-                        g2d.setPaint(Color.BLACK);
-                    }
-                    else if (event.isInitialMark()) {
-                        g2d.setPaint(Color.BLUE);
-                    }
-                    else if (event.isRemark()) {
-                        g2d.setPaint(Color.ORANGE);
-                    }
-                    else if (event.getExtendedType().getType() == AbstractGCEvent.Type.INC_GC) {
-                        g2d.setPaint(brighter);
-                    }
-                    else if (event instanceof VmOperationEvent) {
-                        g2d.setPaint(Color.RED);
-                    }
-                    else {
-                        g2d.setPaint(getLinePaint());
-                    }
-                    g2d.fillRect(x, y, width, height);
+            int x = (int) (scaleFactor * (event.getTimestamp() - firstPauseTimeStamp - event.getPause()));
+            if (x >= rightBoundary) {
+                if (isAscending) {
+                    break;
+                }
+                continue;
+            }
+
+            if (width == 1 && x == columnX) {
+                if (height > columnHeight) {
+                    columnEvent = event;
+                    columnHeight = height;
                 }
-                lastWidth = width;
-                lastHeight = height;
-                lastX = x;
-                lastY = y;
+                continue;
+            }
+
+            if (columnEvent != null) {
+                paintRectangle(g2d, columnEvent, columnX, 1, columnHeight, leftBoundary, scale.getHeight(), linePaint, brighter);
+                columnEvent = null;
+                columnX = Integer.MIN_VALUE;
             }
+            if (width == 1) {
+                columnEvent = event;
+                columnX = x;
+                columnHeight = height;
+            }
+            else {
+                paintRectangle(g2d, event, x, width, height, leftBoundary, scale.getHeight(), linePaint, brighter);
+            }
+        }
+
+        if (columnEvent != null) {
+            paintRectangle(g2d, columnEvent, columnX, 1, columnHeight, leftBoundary, scale.getHeight(), linePaint, brighter);
         }
     }
 
+    private static Paint getBrighterPaint(Paint linePaint) {
+        if (linePaint instanceof Color) {
+            return ((Color) linePaint).brighter();
+        } else {
+            // TODO add fancy logic for GradientPaint etc...
+            return linePaint;
+        }
+    }
+
+    private static void paintRectangle(Graphics2D g2d, AbstractGCEvent<?> event, int x, int width, int height, int leftBoundary,
+                                       int chartHeight, Paint linePaint, Paint brighter) {
+
+        if ((x + width) <= leftBoundary) {
+            // make sure only visible rectangles are drawn
+            return;
+        }
+
+        if (event.isFull()) {
+            g2d.setPaint(Color.BLACK);
+        }
+        else if (event.isInitialMark()) {
+            g2d.setPaint(Color.BLUE);
+        }
+        else if (event.isRemark()) {
+            g2d.setPaint(Color.ORANGE);
+        }
+        else if (event.getExtendedType().getType() == AbstractGCEvent.Type.INC_GC) {
+            g2d.setPaint(brighter);
+        }
+        else if (event instanceof VmOperationEvent) {
+            g2d.setPaint(Color.RED);
+        }
+        else {
+            g2d.setPaint(linePaint);
+        }
+        g2d.fillRect(x, chartHeight - height, width, height);
+    }
 
 }
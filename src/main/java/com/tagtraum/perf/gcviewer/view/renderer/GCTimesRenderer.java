@@ -3,11 +3,9 @@ package com.tagtraum.perf.gcviewer.view.renderer;
 import java.awt.Color;
 import java.awt.Paint;
 import java.awt.Polygon;
-import java.util.Iterator;
 
 import com.tagtraum.perf.gcviewer.view.ModelChart;
 import com.tagtraum.perf.gcviewer.view.ModelChartImpl;
-import com.tagtraum.perf.gcviewer.model.AbstractGCEvent;
 import com.tagtraum.perf.gcviewer.model.GCModel;
 
 /**
@@ -28,13 +26,11 @@ public class GCTimesRenderer extends PolygonChartRenderer {
     }
 
     public Polygon computePolygon(ModelChart modelChart, GCModel model) {
-        ScaledPolygon polygon = createTimeScaledPolygon();
-        for (Iterator<AbstractGCEvent<?>> i = model.getStopTheWorldEvents(); i.hasNext();) {
-            AbstractGCEvent<?> event = i.next();
-            polygon.addPoint(event.getTimestamp() - model.getFirstPauseTimeStamp(), event.getPause());
-        }
-        // dummy point to make the polygon complete
-        polygon.addPoint(model.getRunningTime(), 0.0d);
-        return polygon;
+        return appendToPolygon(modelChart, model, createTimeScaledPolygon());
+    }
+
+    @Override
+    protected Polygon appendToPolygon(ModelChart modelChart, GCModel model, ScaledPolygon polygon) {
+        return appendToLine(polygon, getChartSeries(model, ChartSeries.Type.GC_TIMES), model.getRunningTime());
     }
 }
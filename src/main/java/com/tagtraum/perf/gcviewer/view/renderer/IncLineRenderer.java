@@ -1,6 +1,8 @@
 package com.tagtraum.perf.gcviewer.view.renderer;
 
-import com.tagtraum.perf.gcviewer.model.GCEvent;
+import com.tagtraum.perf.gcviewer.model.AbstractGCEvent;
+import com.tagtraum.perf.gcviewer.model.GCModel;
+import com.tagtraum.perf.gcviewer.model.GCModel.EventCategory;
 import com.tagtraum.perf.gcviewer.view.ChartRenderer;
 import com.tagtraum.perf.gcviewer.view.ModelChartImpl;
 
@@ -22,14 +24,45 @@ public class IncLineRenderer extends ChartRenderer {
         setLinePaint(DEFAULT_LINEPAINT);
     }
 
+    @Override
+    protected boolean isDetail() {
+        return true;
+    }
+
     public void paintComponent(Graphics2D g2d) {
-        double scaleFactor = getModelChart().getScaleFactor();
-        int height = getHeight();
+        paintEvents(g2d, getModelChart().getModel(), getChartScale(), getLinePaint());
+    }
+
+    /**
+     * Paints a line at every incremental collection of <code>model</code> inside the clip of
+     * <code>g2d</code>.
+     *
+     * @param g2d graphics to paint with
+     * @param model model to be painted
+     * @param scale scale of the chart
+     * @param linePaint paint of the lines
+     */
+    public static void paintEvents(Graphics2D g2d, GCModel model, ChartScale scale, Paint linePaint) {
+        g2d.setPaint(linePaint);
+        double scaleFactor = scale.getScaleFactor();
+        Rectangle clipBounds = g2d.getClipBounds();
+        int minX = clipBounds.x;
+        int maxX = clipBounds.x + clipBounds.width;
+
+        int height = scale.getHeight();
         int lastScaledTimestamp = Integer.MIN_VALUE;
-        for (Iterator<GCEvent> i = getModelChart().getModel().getGCEvents(); i.hasNext();) {
-            GCEvent event = i.next();
+        // without ascending timestamps, events right of the clip may be followed by visible ones
+        boolean isAscending = model.hasAscendingTimestamps();
+        for (Iterator<AbstractGCEvent<?>> i = model.getEvents(EventCategory.GC, scale.getTimestamp(model, minX)); i.hasNext();) {
+            AbstractGCEvent<?> event = i.next();
             if (event.isInc()) {
-                int scaledTimestamp = (int) (scaleFactor * (event.getTimestamp() - getModelChart().getModel().getFirstPauseTimeStamp()));
+                int scaledTimestamp = (int) (scaleFactor * (event.getTimestamp() - model.getFirstPauseTimeStamp()));
+                if (scaledTimestamp > maxX) {
+                    if (isAscending) {
+                        break;
+                    }
+                    continue;
+                }
                 if (scaledTimestamp != lastScaledTimestamp) {
                     g2d.drawLine(scaledTimestamp, 0, scaledTimestamp, height);
                     lastScaledTimestamp = scaledTimestamp;
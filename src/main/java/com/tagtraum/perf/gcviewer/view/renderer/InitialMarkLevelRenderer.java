@@ -3,9 +3,7 @@ package com.tagtraum.perf.gcviewer.view.renderer;
 import java.awt.Color;
 import java.awt.Paint;
 import java.awt.Polygon;
-import java.util.Iterator;
 
-import com.tagtraum.perf.gcviewer.model.GCEvent;
 import com.tagtraum.perf.gcviewer.model.GCModel;
 import com.tagtraum.perf.gcviewer.view.ModelChart;
 import com.tagtraum.perf.gcviewer.view.ModelChartImpl;
@@ -28,14 +26,25 @@ public class InitialMarkLevelRenderer extends PolygonChartRenderer {
     }
 
     public Polygon computePolygon(ModelChart modelChart, GCModel model) {
-        ScaledPolygon polygon = createMemoryScaledPolygon();
-        for (Iterator<GCEvent> i = model.getGCEvents(); i.hasNext();) {
-            GCEvent event = i.next();
-            if (event.isInitialMark()) {
-                polygon.addPoint(event.getTimestamp() - model.getFirstPauseTimeStamp(), event.getPreUsed());
-            }
-        }
+        return appendToPolygon(modelChart, model, createMemoryScaledPolygon());
+    }
+
+    @Override
+    protected Polygon appendToPolygon(ModelChart modelChart, GCModel model, ScaledPolygon polygon) {
+        return appendToLevelLine(polygon, getChartSeries(model, ChartSeries.Type.INITIAL_MARK_LEVEL));
+    }
+
+    /**
+     * Appends the points of the initial mark levels to a line, that ends at the last of them.
+     *
+     * @param polygon empty polygon or polygon reopened at its mark
+     * @param points points of the whole series
+     * @return <code>polygon</code>
+     */
+    public static Polygon appendToLevelLine(ScaledPolygon polygon, ChartSeries.Points points) {
+        polygon.addPoints(points);
         // Don't add dummy point to make the polygon complete! Just stop drawing.
+        polygon.markEnd();
         return polygon;
     }
 }
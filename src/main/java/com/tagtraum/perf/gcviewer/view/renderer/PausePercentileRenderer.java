@@ -0,0 +1,54 @@
+package com.tagtraum.perf.gcviewer.view.renderer;
+
+import java.awt.Color;
+import java.awt.Paint;
+import java.awt.Polygon;
+
+import com.tagtraum.perf.gcviewer.math.RollingPercentiles;
+import com.tagtraum.perf.gcviewer.model.GCModel;
+import com.tagtraum.perf.gcviewer.view.ModelChart;
+import com.tagtraum.perf.gcviewer.view.ModelChartImpl;
+
+/**
+ * Renders the 99th percentile of the stop the world pauses per time window. The width of the
+ * windows follows the zoom level, so that every window is a few pixels wide.
+ */
+public class PausePercentileRenderer extends PolygonChartRenderer {
+    public static final Paint DEFAULT_LINEPAINT = Color.GREEN.darker();
+    public static final double PERCENTILE = 99;
+    // minimum width of a window on screen
+    private static final int WINDOW_WIDTH_IN_PIXELS = 10;
+
+    public PausePercentileRenderer(ModelChartImpl modelChart) {
+        super(modelChart);
+        setLinePaint(DEFAULT_LINEPAINT);
+        setDrawPolygon(false);
+        setDrawLine(true);
+    }
+
+    public Polygon computePolygon(ModelChart modelChart, GCModel model) {
+        return computePolygon(model, getPolygonScale());
+    }
+
+    /**
+     * Computes the line of the pause percentiles of <code>model</code>.
+     *
+     * @param model model to be painted
+     * @param scale scale of the chart
+     * @return line of the pause percentiles
+     */
+    public static Polygon computePolygon(GCModel model, ChartScale scale) {
+        ScaledPolygon polygon = scale.createTimeScaledPolygon();
+        RollingPercentiles pausePercentiles = model.getPausePercentiles();
+        double windowSize = pausePercentiles.getWindowSize(WINDOW_WIDTH_IN_PIXELS / scale.getScaleFactor());
+        double firstPauseTimeStamp = model.getFirstPauseTimeStamp();
+        pausePercentiles.forEachWindow(windowSize, (pauses, start) -> {
+            double percentile = pauses.getPercentile(PERCENTILE);
+            polygon.addPoint(Math.max(start - firstPauseTimeStamp, 0), percentile);
+            polygon.addPoint(start + windowSize - firstPauseTimeStamp, percentile);
+        });
+        // dummy point to make the polygon complete
+        polygon.addPoint(model.getRunningTime(), 0.0d);
+        return polygon;
+    }
+}
@@ -0,0 +1,84 @@
+package com.tagtraum.perf.gcviewer.view.renderer;
+
+import java.awt.Polygon;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Least recently used polygons, bounded by their number and by the number of their points. One
+ * cache is shared by the renderers of all charts (see {@link PolygonChartRenderer}), so that the
+ * memory taken by cached polygons doesn't grow with the number of open documents.
+ *
+ * <p>Not thread safe; the polygons are cached on the event dispatch thread.</p>
+ *
+ * @param <K> key of the polygons
+ */
+final class PolygonCache<K> {
+    private final int maxPolygons;
+    private final int maxPoints;
+    // least recently used polygons first
+    private final Map<K, Polygon> polygons = new LinkedHashMap<>(16, 0.75f, true);
+    private int points;
+
+    /**
+     * @param maxPolygons maximum number of polygons kept
+     * @param maxPoints maximum number of points of all polygons kept
+     */
+    PolygonCache(int maxPolygons, int maxPoints) {
+        this.maxPolygons = maxPolygons;
+        this.maxPoints = maxPoints;
+    }
+
+    /**
+     * @return polygon cached for <code>key</code> or <code>null</code>; marks the polygon as recently used
+     */
+    Polygon get(K key) {
+        return polygons.get(key);
+    }
+
+    /**
+     * Adds <code>polygon</code> and evicts the least recently used polygons exceeding the limits. The
+     * polygon just added is never evicted, even if it exceeds the limits by itself.
+     */
+    void put(K key, Polygon polygon) {
+        Polygon replacedPolygon = polygons.put(key, polygon);
+        points += polygon.npoints - (replacedPolygon != null ? replacedPolygon.npoints : 0);
+        Iterator<Polygon> iterator = polygons.values().iterator();
+        while (polygons.size() > 1 && (polygons.size() > maxPolygons || points > maxPoints)) {
+            points -= iterator.next().npoints;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * @return all cached polygons; iterating doesn't change their order of use
+     */
+    Set<Map.Entry<K, Polygon>> entrySet() {
+        return polygons.entrySet();
+    }
+
+    /**
+     * Removes all polygons whose key matches <code>filter</code>.
+     */
+    void removeIf(Predicate<K> filter) {
+        Iterator<Map.Entry<K, Polygon>> iterator = polygons.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, Polygon> entry = iterator.next();
+            if (filter.test(entry.getKey())) {
+                points -= entry.getValue().npoints;
+                iterator.remove();
+            }
+        }
+    }
+
+    int size() {
+        return polygons.size();
+    }
+
+    int getPointCount() {
+        return points;
+    }
+}
@@ -1,33 +1,82 @@
 package com.tagtraum.perf.gcviewer.view.renderer;
 
-import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.GcPattern;
-import com.tagtraum.perf.gcviewer.model.GCEvent;
 import com.tagtraum.perf.gcviewer.model.GCModel;
 import com.tagtraum.perf.gcviewer.view.ChartRenderer;
 import com.tagtraum.perf.gcviewer.view.ModelChart;
 import com.tagtraum.perf.gcviewer.view.ModelChartImpl;
 
 import java.awt.*;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.SwingUtilities;
 
 /**
  * Superclass for components rendering model data as polygon, polyline
  * or both.
  *
+ * <p>For large models, the polygon is computed on a background thread, when it has been reset
+ * (zoom, resize, reload). Until it is ready, the previous polygon is shown scaled to the new size
+ * of the chart; a computation, that is outdated by another reset, is cancelled.</p>
+ *
+ * <p>The last few polygons are cached (keyed by renderer, zoom level, size of the chart and state of
+ * the model), so that switching back to a previous zoom level doesn't need to compute them again; the
+ * cache is shared by all charts (see {@link PolygonCache}). When events
+ * have been added to the model (while loading or in watch mode), renderers supporting it append
+ * the new points to the last polygon instead of computing it again
+ * (see {@link #appendToPolygon(ModelChart, GCModel, ScaledPolygon)}).</p>
+ *
  * Date: Jun 2, 2005
  * Time: 2:53:36 PM
  * @author <a href="mailto:hs@tagtraum.com">Hendrik Schreiber</a>
  */
 public abstract class PolygonChartRenderer extends ChartRenderer {
+    // polygons of models with fewer events are computed directly while painting
+    private static final int BACKGROUND_COMPUTATION_THRESHOLD = 20000;
+    private static final Logger LOGGER = Logger.getLogger(PolygonChartRenderer.class.getName());
+    private static final ExecutorService POLYGON_EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+            runnable -> {
+                Thread thread = new Thread(runnable, "gcviewer-polygon");
+                thread.setDaemon(true);
+                return thread;
+            });
+    // cache limits for the renderers of all charts together (a point takes 8 bytes)
+    private static final int MAX_CACHED_POLYGONS = 64;
+    private static final int MAX_CACHED_POINTS = 4000000;
+    private static final PolygonCache<ChartGeometry> POLYGON_CACHE = new PolygonCache<>(MAX_CACHED_POLYGONS, MAX_CACHED_POINTS);
+    // distinguishes the polygons of the renderers in POLYGON_CACHE (only used on the event dispatch thread)
+    private static int rendererCount;
+    // geometry of the polygon currently being computed on this thread
+    private static final ThreadLocal<ChartGeometry> COMPUTED_GEOMETRY = new ThreadLocal<>();
+
     private boolean drawPolygon;
     private Paint fillPaint;
     private Polygon polygon;
+    private ChartGeometry polygonGeometry;
+    // shown (scaled) until the polygon has been computed in the background
+    private Polygon previousPolygon;
+    private ChartGeometry previousPolygonGeometry;
+    private Future<?> polygonComputation;
+    // incremented with every reset; results of older computations are discarded
+    private int polygonGeneration;
     private Polygon clippedPolygon = new Polygon();
+    private final int rendererId;
 
     public PolygonChartRenderer(ModelChartImpl modelChart) {
         super(modelChart);
         setOpaque(false);
+        rendererId = ++rendererCount;
     }
 
     public void setDrawPolygon(boolean drawPolygon) {
@@ -38,12 +87,37 @@ public abstract class PolygonChartRenderer extends ChartRenderer {
         this.fillPaint = fillPaint;
     }
 
+    /**
+     * @return <code>false</code>, while the polygon is computed in the background and a preliminary
+     * version is painted instead
+     */
+    public boolean isPolygonComputed() {
+        return polygon != null || ((!drawPolygon) && (!isDrawLine()));
+    }
+
     /**
      * Reset the internally cached polygon. Should always be done when size of chart is changed
      * in some way (zoom, window resize, reload), but not more often.
      */
     public void resetPolygon() {
+        if (polygon != null) {
+            previousPolygon = polygon;
+            previousPolygonGeometry = polygonGeometry;
+        }
         polygon = null;
+        polygonGeometry = null;
+        if (polygonComputation != null) {
+            polygonComputation.cancel(true);
+            polygonComputation = null;
+        }
+        ++polygonGeneration;
+    }
+
+    /**
+     * Discards all cached polygons; must be done, when the chart shows another model.
+     */
+    public void clearPolygonCache() {
+        POLYGON_CACHE.removeIf(geometry -> geometry.rendererId == rendererId);
     }
 
     /**
@@ -53,24 +127,157 @@ public abstract class PolygonChartRenderer extends ChartRenderer {
         if ((!drawPolygon) && (!isDrawLine())) return;
         if (polygon == null) {
             // don't recompute polygon for each paint event
-            polygon = computePolygon(getModelChart(), getModelChart().getModel());
+            GCModel model = getModelChart().getModel();
+            ChartGeometry geometry = new ChartGeometry(this, model);
+            polygon = POLYGON_CACHE.get(geometry);
+            if (polygon == null) {
+                // appending the new events is cheap enough to be done right away
+                polygon = appendToCachedPolygon(geometry, model);
+            }
+            if (polygon == null && isComputedInBackground()) {
+                startPolygonComputation();
+                paintPreviousPolygon(g2d);
+                return;
+            }
+
+            if (polygon == null) {
+                polygon = computePolygon(geometry, model);
+                POLYGON_CACHE.put(geometry, polygon);
+            }
+            polygonGeometry = geometry;
+            previousPolygon = null;
+            previousPolygonGeometry = null;
         }
-        clippedPolygon = initClippedPolygon(polygon, g2d.getClip());
-        if (drawPolygon) {
+        paintPolygon(g2d, polygon, initClippedPolygon(polygon, g2d.getClip()));
+    }
+
+    private boolean isComputedInBackground() {
+        // nothing to be seen, while the polygon is computed, if the chart is painted offscreen (export)
+        return isShowing()
+                && SwingUtilities.getWindowAncestor(this) != null
+                && getModelChart().getModel().size() >= BACKGROUND_COMPUTATION_THRESHOLD;
+    }
+
+    private void startPolygonComputation() {
+        if (polygonComputation != null) {
+            return;
+        }
+
+        GCModel model = getModelChart().getModel().snapshot();
+        ChartGeometry geometry = new ChartGeometry(this, model);
+        int generation = polygonGeneration;
+        polygonComputation = POLYGON_EXECUTOR.submit(() -> {
+            try {
+                Polygon computedPolygon = computePolygon(geometry, model);
+                SwingUtilities.invokeLater(() -> polygonComputed(generation, computedPolygon, geometry));
+            }
+            catch (CancellationException e) {
+                // outdated by another reset
+            }
+            catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "failed to compute polygon of " + getClass().getSimpleName(), e);
+            }
+        });
+    }
+
+    private Polygon appendToCachedPolygon(ChartGeometry geometry, GCModel model) {
+        ChartGeometry cachedGeometry = null;
+        ScaledPolygon cachedPolygon = null;
+        for (Map.Entry<ChartGeometry, Polygon> entry : POLYGON_CACHE.entrySet()) {
+            if (entry.getKey().isContinuedBy(geometry)
+                    && entry.getValue() instanceof ScaledPolygon
+                    && (cachedGeometry == null || entry.getKey().modelSize > cachedGeometry.modelSize)) {
+
+                cachedGeometry = entry.getKey();
+                cachedPolygon = (ScaledPolygon) entry.getValue();
+            }
+        }
+
+        ScaledPolygon reopenedPolygon = cachedPolygon != null ? cachedPolygon.reopen() : null;
+        if (reopenedPolygon == null) {
+            return null;
+        }
+
+        COMPUTED_GEOMETRY.set(geometry);
+        try {
+            Polygon appendedPolygon = appendToPolygon(getModelChart(), model, reopenedPolygon);
+            if (appendedPolygon != null) {
+                POLYGON_CACHE.put(geometry, appendedPolygon);
+            }
+
+            return appendedPolygon;
+        }
+        finally {
+            COMPUTED_GEOMETRY.remove();
+        }
+    }
+
+    private Polygon computePolygon(ChartGeometry geometry, GCModel model) {
+        COMPUTED_GEOMETRY.set(geometry);
+        try {
+            return computePolygon(getModelChart(), model);
+        }
+        finally {
+            COMPUTED_GEOMETRY.remove();
+        }
+    }
+
+    private void polygonComputed(int generation, Polygon computedPolygon, ChartGeometry geometry) {
+        if (generation != polygonGeneration) {
+            return;
+        }
+
+        polygon = computedPolygon;
+        polygonGeometry = geometry;
+        POLYGON_CACHE.put(geometry, computedPolygon);
+        polygonComputation = null;
+        previousPolygon = null;
+        previousPolygonGeometry = null;
+        repaint();
+    }
+
+    private void paintPreviousPolygon(Graphics2D g2d) {
+        if (previousPolygon == null) {
+            return;
+        }
+
+        // x values are proportional to the scale factor and y values to the height of the chart
+        AffineTransform oldTransform = g2d.getTransform();
+        g2d.scale(getModelChart().getScaleFactor() / previousPolygonGeometry.scaleFactor,
+                getHeight() / (double) previousPolygonGeometry.height);
+        paintPolygon(g2d, previousPolygon, previousPolygon);
+        g2d.setTransform(oldTransform);
+    }
+
+    private void paintPolygon(Graphics2D g2d, Polygon polygon, Polygon clippedPolygon) {
+        paintPolygon(g2d, clippedPolygon, drawPolygon ? createPaint(polygon) : null, isDrawLine() ? getLinePaint() : null);
+    }
+
+    /**
+     * Paints a polygon filled and / or bounded by a line; the last point of the polygon only closes
+     * the area and is not part of the line.
+     *
+     * @param g2d graphics to paint with
+     * @param polygon polygon to be painted
+     * @param fillPaint paint to fill the polygon with or <code>null</code>, if it isn't filled
+     * @param linePaint paint of the bounding line or <code>null</code>, if there is none
+     */
+    public static void paintPolygon(Graphics2D g2d, Polygon polygon, Paint fillPaint, Paint linePaint) {
+        if (fillPaint != null) {
             // don't antialias the polygon, if we are going to antialias the bounding lines
             Object oldAAHint = g2d.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
-            if (isDrawLine()) {
+            if (linePaint != null) {
                 g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
             }
-            g2d.setPaint(createPaint(polygon));
-            g2d.fillPolygon(clippedPolygon);
-            if (isDrawLine()) {
+            g2d.setPaint(fillPaint);
+            g2d.fillPolygon(polygon);
+            if (linePaint != null) {
                 g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, oldAAHint);
             }
         }
-        if (isDrawLine()) {
-            g2d.setPaint(getLinePaint());
-            g2d.drawPolyline(clippedPolygon.xpoints, clippedPolygon.ypoints, clippedPolygon.npoints-1);
+        if (linePaint != null) {
+            g2d.setPaint(linePaint);
+            g2d.drawPolyline(polygon.xpoints, polygon.ypoints, polygon.npoints-1);
         }
     }
 
@@ -168,11 +375,45 @@ public abstract class PolygonChartRenderer extends ChartRenderer {
 
     public abstract Polygon computePolygon(ModelChart modelChart, GCModel model);
 
+    /**
+     * Appends the points of the events added to <code>model</code> to a polygon computed for fewer
+     * events with the same scaling. Renderers supporting this, compute their polygons with this method
+     * as well, starting with an empty polygon; they mark the end of their points
+     * ({@link ScaledPolygon#markEnd()}) before adding the points closing the polygon.
+     *
+     * @param modelChart chart the polygon is computed for
+     * @param model model continuing the model the polygon was computed for
+     * @param polygon polygon reopened at its mark (see {@link ScaledPolygon#reopen()})
+     * @return the polygon including the new events or <code>null</code> if it must be computed from
+     * scratch (default)
+     */
+    protected Polygon appendToPolygon(ModelChart modelChart, GCModel model, ScaledPolygon polygon) {
+        return null;
+    }
+
     protected Paint createPaint(Polygon polygon) {
+        if (fillPaint instanceof GradientPaint && getModelChart().isInteracting()) {
+            // gradients are expensive on large polygons; use a plain colour until the user stops
+            return ((GradientPaint) fillPaint).getColor1();
+        }
+
+        return createFillPaint(fillPaint, polygon, getHeight());
+    }
+
+    /**
+     * Returns the paint to fill <code>polygon</code> with; a gradient is stretched from the top of
+     * the polygon to the bottom of the chart.
+     *
+     * @param fillPaint configured paint
+     * @param polygon polygon to be filled
+     * @param height height of the chart
+     * @return paint for <code>polygon</code>
+     */
+    public static Paint createFillPaint(Paint fillPaint, Polygon polygon, int height) {
         if (fillPaint instanceof GradientPaint) {
             GradientPaint gradientPaint = (GradientPaint)fillPaint;
             Point2D point1 = new Point(0, getLowestY(polygon));
-            Point2D point2 = new Point(0, getHeight());
+            Point2D point2 = new Point(0, height);
             return new GradientPaint(point1, gradientPaint.getColor1(), point2, gradientPaint.getColor2(), false);
         }
         else {
@@ -181,11 +422,87 @@ public abstract class PolygonChartRenderer extends ChartRenderer {
     }
 
     protected ScaledPolygon createTimeScaledPolygon() {
-        return new ScaledPolygon(getModelChart().getScaleFactor(), getHeight()/(getModelChart().getMaxPause()), getHeight());
+        return getPolygonScale().createTimeScaledPolygon();
     }
 
     protected ScaledPolygon createMemoryScaledPolygon() {
-        return new ScaledPolygon(getModelChart().getScaleFactor(), getHeight()/((double)getModelChart().getFootprint()), getHeight());
+        return getPolygonScale().createMemoryScaledPolygon();
+    }
+
+    /**
+     * Scale of the chart, for which the polygon is computed; use this instead of the scale of the
+     * {@link ModelChart} in {@link #computePolygon(ModelChart, GCModel)}, which may run on a
+     * background thread.
+     *
+     * @return scale of the polygon being computed
+     */
+    protected ChartScale getPolygonScale() {
+        ChartGeometry geometry = getComputedGeometry();
+        return new ChartScale(geometry.scaleFactor, geometry.height, geometry.maxPause, geometry.footprint);
+    }
+
+    /**
+     * Appends the points of a memory size series to an area reaching down to the bottom of the
+     * chart; it starts with a vertical line at 0 and is closed at the end of the model.
+     *
+     * @param polygon empty polygon or polygon reopened at its mark
+     * @param points points of the whole series
+     * @param runningTime running time of the model
+     * @return <code>polygon</code>
+     */
+    public static Polygon appendToArea(ScaledPolygon polygon, ChartSeries.Points points, double runningTime) {
+        if (polygon.npoints == 0) {
+            polygon.addPoint(0.0d, 0.0d);
+        }
+        if (polygon.getSourceIndex() == 0 && points.size() > 0) {
+            // first point needs to be treated different from the rest,
+            // because otherwise the polygon would not start with a vertical line at 0,
+            // but with a slanting line between 0 and after the first pause
+            polygon.addPoint(0, points.getY(0));
+        }
+        polygon.addPoints(points);
+        polygon.markEnd();
+        double lastTotal = points.size() > 0 ? points.getY(points.size() - 1) : 0;
+        polygon.addPointNotOptimised(runningTime, lastTotal);
+        polygon.addPointNotOptimised(runningTime, 0.0d);
+        return polygon;
+    }
+
+    /**
+     * Appends the points of a series to a line; the polygon is closed by a point at the end of the
+     * model, that isn't painted.
+     *
+     * @param polygon empty polygon or polygon reopened at its mark
+     * @param points points of the whole series
+     * @param runningTime running time of the model
+     * @return <code>polygon</code>
+     */
+    public static Polygon appendToLine(ScaledPolygon polygon, ChartSeries.Points points, double runningTime) {
+        polygon.addPoints(points);
+        polygon.markEnd();
+        // dummy point to make the polygon complete
+        polygon.addPoint(runningTime, 0.0d);
+        return polygon;
+    }
+
+    /**
+     * Returns the points of a series for the polygon being computed (see
+     * {@link ModelChartImpl#getChartSeries(GCModel, ChartSeries.Type, boolean, Set)}); the state of
+     * the chart is taken from the geometry of the polygon, not from the components, as this may
+     * run on a background thread.
+     *
+     * @param model model the polygon is computed for
+     * @param type series to be returned
+     * @return points of the series
+     */
+    protected ChartSeries.Points getChartSeries(GCModel model, ChartSeries.Type type) {
+        ChartGeometry geometry = getComputedGeometry();
+        return getModelChart().getChartSeries(model, type, geometry.showTenured, geometry.visibleSeriesTypes);
+    }
+
+    private ChartGeometry getComputedGeometry() {
+        ChartGeometry geometry = COMPUTED_GEOMETRY.get();
+        return geometry != null ? geometry : new ChartGeometry(this, getModelChart().getModel());
     }
 
     private static int getLowestY(Polygon polygon) {
@@ -197,17 +514,6 @@ public abstract class PolygonChartRenderer extends ChartRenderer {
         return min;
     }
 
-    /**
-     * Returns <code>true</code> if <code>event</code> is of a type that contains memory information.
-     *
-     * @param event event to be analysed
-     * @return <code>true</code> if <code>event</code> contains memory information
-     */
-    protected boolean hasMemoryInformation(GCEvent event) {
-        return event.getExtendedType().getPattern().equals(GcPattern.GC_MEMORY)
-                || event.getExtendedType().getPattern().equals(GcPattern.GC_MEMORY_PAUSE);
-    }
-
     /**
      * Polygon that scales points upon addition.
      */
@@ -217,6 +523,14 @@ public abstract class PolygonChartRenderer extends ChartRenderer {
         private int yOffset;
         private Point lastPointOfOptimisation = new Point();
         private boolean lastPointWasOptimised = false;
+        // number of points of the source (e.g. a series), that have been added
+        private int sourceIndex;
+        // state at the end mark; adding points may change the last two points before
+        private int markedPoints = -1;
+        private int[] markedXPoints;
+        private int[] markedYPoints;
+        private Point markedLastPointOfOptimisation;
+        private boolean markedLastPointWasOptimised;
 
         public ScaledPolygon(double xScaleFactor, double yScaleFactor, int yOffset) {
             this.xScaleFactor = xScaleFactor;
@@ -232,6 +546,11 @@ public abstract class PolygonChartRenderer extends ChartRenderer {
          * @param y y-value
          */
         public void addPoint(double x, double y) {
+            if ((npoints & 0xfff) == 0 && Thread.currentThread().isInterrupted()) {
+                // computation in the background was cancelled
+                throw new CancellationException();
+            }
+
             int scaledY = getScaledYValue(y);
             int scaledX = getScaledXValue(x);
             // optimize the polygon as we add points.
@@ -275,6 +594,60 @@ public abstract class PolygonChartRenderer extends ChartRenderer {
             }
         }
 
+        /**
+         * Adds the points of <code>points</code>, that have not been added yet.
+         *
+         * @param points source of the points
+         */
+        public void addPoints(ChartSeries.Points points) {
+            for (; sourceIndex < points.size(); sourceIndex++) {
+                addPoint(points.getX(sourceIndex), points.getY(sourceIndex));
+            }
+        }
+
+        /**
+         * @return number of points of the source added with {@link #addPoints(ChartSeries.Points)}
+         */
+        public int getSourceIndex() {
+            return sourceIndex;
+        }
+
+        /**
+         * Marks the end of the points added so far; more points can be added at this position
+         * to a copy of this polygon later (see {@link #reopen()}).
+         */
+        public void markEnd() {
+            markedPoints = npoints;
+            int markedLength = Math.min(npoints, 3);
+            markedXPoints = Arrays.copyOfRange(xpoints, npoints - markedLength, npoints);
+            markedYPoints = Arrays.copyOfRange(ypoints, npoints - markedLength, npoints);
+            markedLastPointOfOptimisation = new Point(lastPointOfOptimisation);
+            markedLastPointWasOptimised = lastPointWasOptimised;
+        }
+
+        /**
+         * Returns a copy of this polygon with the points added before {@link #markEnd()} only, that
+         * continues adding points exactly as this polygon would have done at the mark.
+         *
+         * @return copy of this polygon ending at the mark or <code>null</code> if there is no mark
+         */
+        public ScaledPolygon reopen() {
+            if (markedPoints < 0) {
+                return null;
+            }
+
+            ScaledPolygon polygon = new ScaledPolygon(xScaleFactor, yScaleFactor, yOffset);
+            polygon.xpoints = Arrays.copyOf(xpoints, Math.max(xpoints.length, 4));
+            polygon.ypoints = Arrays.copyOf(ypoints, polygon.xpoints.length);
+            polygon.npoints = markedPoints;
+            System.arraycopy(markedXPoints, 0, polygon.xpoints, markedPoints - markedXPoints.length, markedXPoints.length);
+            System.arraycopy(markedYPoints, 0, polygon.ypoints, markedPoints - markedYPoints.length, markedYPoints.length);
+            polygon.lastPointOfOptimisation = new Point(markedLastPointOfOptimisation);
+            polygon.lastPointWasOptimised = markedLastPointWasOptimised;
+            polygon.sourceIndex = sourceIndex;
+            return polygon;
+        }
+
         /**
          * Adds the given point without optimisation.
          *
@@ -295,6 +668,75 @@ public abstract class PolygonChartRenderer extends ChartRenderer {
 
     }
 
+    /**
+     * Values of the chart, that determine a polygon; taken on the event dispatch thread, when the
+     * computation of the polygon starts. Polygons with equal geometries are equal.
+     */
+    private static final class ChartGeometry {
+        private final int rendererId;
+        private final double scaleFactor;
+        private final int height;
+        private final double maxPause;
+        private final long footprint;
+        private final boolean showTenured;
+        private final int modelGeneration;
+        private final int modelSize;
+        // series to be extracted together with the series of the polygon; doesn't change the polygon
+        private final Set<ChartSeries.Type> visibleSeriesTypes;
+
+        ChartGeometry(PolygonChartRenderer renderer, GCModel model) {
+            this.rendererId = renderer.rendererId;
+            this.scaleFactor = renderer.getModelChart().getScaleFactor();
+            this.height = renderer.getHeight();
+            this.maxPause = renderer.getModelChart().getMaxPause();
+            this.footprint = renderer.getModelChart().getFootprint();
+            this.showTenured = renderer.getModelChart().isShowTenured();
+            this.modelGeneration = renderer.getModelChart().getModelGeneration();
+            this.modelSize = model.size();
+            this.visibleSeriesTypes = renderer.getModelChart().getVisibleSeriesTypes();
+        }
+
+        /**
+         * @param geometry geometry of a polygon of the same or a later state of the model
+         * @return <code>true</code>, if the polygon of <code>geometry</code> only has additional events
+         */
+        boolean isContinuedBy(ChartGeometry geometry) {
+            return rendererId == geometry.rendererId
+                    && Double.compare(geometry.scaleFactor, scaleFactor) == 0
+                    && height == geometry.height
+                    && Double.compare(geometry.maxPause, maxPause) == 0
+                    && footprint == geometry.footprint
+                    && showTenured == geometry.showTenured
+                    && modelGeneration == geometry.modelGeneration
+                    && modelSize <= geometry.modelSize;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            ChartGeometry that = (ChartGeometry) o;
+            return rendererId == that.rendererId
+                    && Double.compare(that.scaleFactor, scaleFactor) == 0
+                    && height == that.height
+                    && Double.compare(that.maxPause, maxPause) == 0
+                    && footprint == that.footprint
+                    && showTenured == that.showTenured
+                    && modelGeneration == that.modelGeneration
+                    && modelSize == that.modelSize;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(rendererId, scaleFactor, height, maxPause, footprint, showTenured, modelGeneration, modelSize);
+        }
+    }
+
     /**
      * InsertionBoundary holds the boundaries (index in polygon.xpoints) in a polygon array.
      * This class makes sure that the boundary indexes are allways within the size of the
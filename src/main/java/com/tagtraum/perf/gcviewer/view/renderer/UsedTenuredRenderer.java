@@ -3,10 +3,7 @@ package com.tagtraum.perf.gcviewer.view.renderer;
 import java.awt.Color;
 import java.awt.Paint;
 import java.awt.Polygon;
-import java.util.Iterator;
 
-import com.tagtraum.perf.gcviewer.model.AbstractGCEvent;
-import com.tagtraum.perf.gcviewer.model.GCEvent;
 import com.tagtraum.perf.gcviewer.model.GCModel;
 import com.tagtraum.perf.gcviewer.view.ModelChart;
 import com.tagtraum.perf.gcviewer.view.ModelChartImpl;
@@ -29,26 +26,11 @@ public class UsedTenuredRenderer extends PolygonChartRenderer {
 
     @Override
     public Polygon computePolygon(ModelChart modelChart, GCModel model) {
-        ScaledPolygon polygon = createMemoryScaledPolygon();
-        for (Iterator<AbstractGCEvent<?>> i = model.getStopTheWorldEvents(); i.hasNext();) {
-            AbstractGCEvent<?> abstractGCEvent = i.next();
-            if (abstractGCEvent instanceof GCEvent) {
-                GCEvent event = (GCEvent) abstractGCEvent;
-                GCEvent tenuredEvent = event.getTenured();
-                if (tenuredEvent != null) {
-                    // only -XX:+PrintGCDetails adds information about generations
-                    // e.g. "GC remark" of G1 algorithm does not contain memory information
-                    if (tenuredEvent.getTotal() > 0) {
-                        final double timestamp = event.getTimestamp() - model.getFirstPauseTimeStamp() - event.getPause();
-                        polygon.addPoint(timestamp, tenuredEvent.getPreUsed());
-                        polygon.addPoint(timestamp + event.getPause(), tenuredEvent.getPostUsed());
-                    }
-                }
-            }
-        }
-        // dummy point to make the polygon complete
-        polygon.addPoint(model.getRunningTime(), 0.0d);
-        return polygon;
+        return appendToPolygon(modelChart, model, createMemoryScaledPolygon());
     }
 
+    @Override
+    protected Polygon appendToPolygon(ModelChart modelChart, GCModel model, ScaledPolygon polygon) {
+        return appendToLine(polygon, getChartSeries(model, ChartSeries.Type.USED_TENURED), model.getRunningTime());
+    }
 }
@@ -3,10 +3,7 @@ package com.tagtraum.perf.gcviewer.view.renderer;
 import java.awt.Color;
 import java.awt.Paint;
 import java.awt.Polygon;
-import java.util.Iterator;
 
-import com.tagtraum.perf.gcviewer.model.AbstractGCEvent;
-import com.tagtraum.perf.gcviewer.model.GCEvent;
 import com.tagtraum.perf.gcviewer.model.GCModel;
 import com.tagtraum.perf.gcviewer.view.ModelChart;
 import com.tagtraum.perf.gcviewer.view.ModelChartImpl;
@@ -30,40 +27,11 @@ public class UsedYoungRenderer extends PolygonChartRenderer {
 
     @Override
     public Polygon computePolygon(ModelChart modelChart, GCModel model) {
-        ScaledPolygon polygon = createMemoryScaledPolygon();
-        GCEvent lastTenuredEvent = null;
-        GCEvent tenuredEvent = null;
-        for (Iterator<AbstractGCEvent<?>> i = model.getStopTheWorldEvents(); i.hasNext();) {
-            AbstractGCEvent<?> abstractGCEvent = i.next();
-            if (abstractGCEvent instanceof GCEvent) {
-                GCEvent event = (GCEvent) abstractGCEvent;
-                GCEvent youngEvent = event.getYoung();
-                int lastTenuredTotal = 0;
-                int tenuredTotal = 0;
-                if (youngEvent != null) {
-                    // event contains information about generation (only with -XX:+PrintGCDetails)
-                    if (modelChart.isShowTenured()) {
-                        if (tenuredEvent != null && tenuredEvent.getTotal() > 0) {
-                            lastTenuredEvent = tenuredEvent;
-                        }
-                        if (lastTenuredEvent == null) lastTenuredEvent = event.getTenured();
-                        tenuredEvent = event.getTenured();
-
-                        lastTenuredTotal = lastTenuredEvent.getTotal();
-                        tenuredTotal = tenuredEvent.getTotal();
-                    }
-                    // e.g. "GC remark" of G1 algorithm does not contain memory information
-                    if (youngEvent.getTotal() > 0) {
-                        final double timestamp = event.getTimestamp() - model.getFirstPauseTimeStamp() - event.getPause();
-                        polygon.addPoint(timestamp, lastTenuredTotal + youngEvent.getPreUsed());
-                        polygon.addPoint(timestamp + event.getPause(), tenuredTotal + youngEvent.getPostUsed());
-                    }
-                }
-            }
-        }
-        // dummy point to make the polygon complete
-        polygon.addPoint(model.getRunningTime(), 0.0d);
-        return polygon;
+        return appendToPolygon(modelChart, model, createMemoryScaledPolygon());
     }
 
+    @Override
+    protected Polygon appendToPolygon(ModelChart modelChart, GCModel model, ScaledPolygon polygon) {
+        return appendToLine(polygon, getChartSeries(model, ChartSeries.Type.USED_YOUNG), model.getRunningTime());
+    }
 }
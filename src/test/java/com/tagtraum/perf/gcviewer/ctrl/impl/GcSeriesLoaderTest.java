@@ -1,6 +1,7 @@
 package com.tagtraum.perf.gcviewer.ctrl.impl;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.io.File;
@@ -11,6 +12,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -23,6 +25,7 @@ import com.tagtraum.perf.gcviewer.imp.DataReaderFacade;
 import com.tagtraum.perf.gcviewer.model.AbstractGCEvent;
 import com.tagtraum.perf.gcviewer.model.GCEvent;
 import com.tagtraum.perf.gcviewer.model.GCModel;
+import com.tagtraum.perf.gcviewer.model.GCPhaseTable;
 import com.tagtraum.perf.gcviewer.model.GCResource;
 import com.tagtraum.perf.gcviewer.model.GcResourceFile;
 import com.tagtraum.perf.gcviewer.model.GcResourceSeries;
@@ -122,11 +125,36 @@ public class GcSeriesLoaderTest {
         assertThat(result, is(expectedModel));
     }
 
+    @Test
+    public void merge_FilesWithPhases() throws Exception {
+        GCResource file1 = getUjlGcResource("SampleZgcSeries-Part1.txt");
+        GCResource file2 = getUjlGcResource("SampleZgcSeries-Part2.txt");
+        GCPhaseTable phasesOfFile1 = createModel(file1).getGcPhaseTable();
+        GCPhaseTable phasesOfFile2 = createModel(file2).getGcPhaseTable();
+
+        List<GCResource> resources = new ArrayList<>();
+        resources.add(file2);
+        resources.add(file1);
+        GCModel result = loader.load(new GcResourceSeries(resources));
+
+        GCPhaseTable phases = result.getGcPhaseTable();
+        assertThat("number of phases", phases.size(), is(phasesOfFile1.size() + phasesOfFile2.size()));
+        int lastPhase = phases.size() - 1;
+        assertThat("timestamp of last phase", phases.getTimestamp(lastPhase), is(phasesOfFile2.getTimestamp(phasesOfFile2.size() - 1)));
+        assertThat("parent of last phase",
+                result.get(phases.getParentIndex(lastPhase)).getTimestamp(),
+                closeTo(2.721, 0.0000001));
+        assertThat("phase statistics",
+                result.getGcEventPhases().get(AbstractGCEvent.Type.UJL_ZGC_PAUSE_MARK_START.getName()).getN(),
+                is(2));
+    }
+
     @Test
     public void getCreationDate_WhenDateStampIsAvailable() throws Exception {
         GCModel withDatestamp = new GCModel();
         GCEvent event = new GCEvent(1.0, 0, 0, 0, 0.0, AbstractGCEvent.Type.GC);
-        ZonedDateTime datestamp = ZonedDateTime.now();
+        // datestamps are kept with millisecond precision
+        ZonedDateTime datestamp = ZonedDateTime.now().truncatedTo(ChronoUnit.MILLIS);
         event.setDateStamp(datestamp);
         withDatestamp.add(event);
 
@@ -190,4 +218,8 @@ public class GcSeriesLoaderTest {
     private GcResourceFile getGcResource(String name) throws IOException {
         return new GcResourceFile(UnittestHelper.getResource(FOLDER.OPENJDK, name).getPath());
     }
+
+    private GcResourceFile getUjlGcResource(String name) throws IOException {
+        return new GcResourceFile(UnittestHelper.getResource(FOLDER.OPENJDK_UJL, name).getPath());
+    }
 }
@@ -0,0 +1,71 @@
+package com.tagtraum.perf.gcviewer.exp;
+
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.tagtraum.perf.gcviewer.exp.impl.CSVPausePercentileDataWriter;
+import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.Type;
+import com.tagtraum.perf.gcviewer.model.GCEvent;
+import com.tagtraum.perf.gcviewer.model.GCModel;
+
+/**
+ * Tests the export format of {@link CSVPausePercentileDataWriter}.
+ */
+public class CSVPausePercentileDataWriterTest {
+    private GCModel gcModel;
+
+    @Before
+    public void setUp() {
+        // no pauses between 70s and 7250s
+        gcModel = new GCModel();
+        gcModel.add(new GCEvent(10, 100, 50, 1000, 0.1, Type.GC));
+        gcModel.add(new GCEvent(70, 100, 50, 1000, 0.3, Type.GC));
+        gcModel.add(new GCEvent(7250, 100, 50, 1000, 0.2, Type.GC));
+    }
+
+    @Test
+    public void writeWithDefaultWindowSize() throws IOException {
+        String[] lines = write(null);
+
+        assertThat("number of lines", lines.length, is(3));
+        assertThat("header", lines[0], is("Timestamp(sec),Count,P50(sec),P90(sec),P99(sec),Max(sec)"));
+        assertThat("first hour", lines[1], startsWith("0.0,2,"));
+        assertThat("max of first hour", lines[1], endsWith(",0.3"));
+        // the hour without pauses is left out
+        assertThat("third hour", lines[2], startsWith("7200.0,1,"));
+        assertThat("max of third hour", lines[2], endsWith(",0.2"));
+    }
+
+    @Test
+    public void writeWithConfiguredWindowSize() throws IOException {
+        Map<String, Object> configuration = new HashMap<>();
+        configuration.put(CSVPausePercentileDataWriter.WINDOW_SIZE, 60);
+        String[] lines = write(configuration);
+
+        assertThat("number of lines", lines.length, is(4));
+        assertThat("first minute", lines[1], startsWith("0.0,1,"));
+        assertThat("max of first minute", lines[1], endsWith(",0.1"));
+        assertThat("second minute", lines[2], startsWith("60.0,1,"));
+        assertThat("max of second minute", lines[2], endsWith(",0.3"));
+        assertThat("last minute", lines[3], startsWith("7200.0,1,"));
+    }
+
+    private String[] write(Map<String, Object> configuration) throws IOException {
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+             CSVPausePercentileDataWriter writer = new CSVPausePercentileDataWriter(outputStream, configuration)) {
+
+            writer.write(gcModel);
+            return outputStream.toString().split("\\r?\\n");
+        }
+    }
+}
@@ -95,6 +95,32 @@ public class SummaryDataWriterTest {
         assertThat("totalHeapAllocMax", csv, Matchers.containsString("avgfootprintAfterFullGC; 724; K"));
     }
 
+    @Test
+    public void testWriteMutatorUtilization() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        SummaryDataWriter objectUnderTest = new SummaryDataWriter(output);
+        // pauses 1.0-1.1, 3.0-3.2, 5.0-5.1, 7.0-7.1 -> no window of 1s contains more than one pause
+        GCModel model = new GCModel();
+        model.setURL(new URL("file", "localhost", "test-file"));
+        model.setFormat(GCModel.Format.SUN_X_LOG_GC);
+        model.add(new GCEvent(1.0, 996, 768, 999, 0.1, Type.GC));
+        model.add(new GCEvent(3.0, 996, 424, 997, 0.2, Type.GC));
+        model.add(new GCEvent(5.0, 612, 512, 998, 0.1, Type.GC));
+        model.add(new GCEvent(7.0, 816, 768, 999, 0.1, Type.GC));
+
+        objectUnderTest.write(model);
+
+        String csv = output.toString();
+
+        // a window of 10ms fits into every pause
+        assertThat("mmu10ms", csv, Matchers.containsString("mmu10ms; 0; %"));
+        // worst window of 1s contains the pause of 0.2s: 1 - 0.2 / 1
+        assertThat("mmu1s", csv, Matchers.containsString("mmu1s; 80; %"));
+        // larger windows have a higher utilisation: 10s covers the whole run (1 - 0.5 / 6.1)
+        assertThat("bmu1s", csv, Matchers.containsString("bmu1s; 80; %"));
+        assertThat("bmu100ms", csv, Matchers.containsString("bmu100ms; 0; %"));
+    }
+
     @Test
     public void testWriteWithPerm() throws IOException {
         ByteArrayOutputStream output = new ByteArrayOutputStream();
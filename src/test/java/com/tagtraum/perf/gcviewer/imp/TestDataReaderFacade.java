@@ -58,6 +58,7 @@ public class TestDataReaderFacade {
         assertEquals("has no errors", 0, handler.getCount());        
         assertNotNull("Model returned", model);        
         assertNotNull("Model returned contains URL", model.getURL());
+        assertThat("model is frozen", model.isFrozen(), is(true));
     }
 
     /**
@@ -171,6 +172,22 @@ public class TestDataReaderFacade {
 
         GCModel result = dataReaderFacade.loadModel(series);
         assertThat(result.toString(), is(expectedModel.toString()));
+        assertThat("merged model is frozen", result.isFrozen(), is(true));
+    }
+
+    @Test
+    public void loadModelPublishesModelInProgress() throws Exception {
+        List<Object> models = new ArrayList<>();
+        dataReaderFacade.addPropertyChangeListener(evt -> {
+            if (AbstractDataReader.PROPERTY_MODEL.equals(evt.getPropertyName())) {
+                models.add(evt.getNewValue());
+            }
+        });
+
+        GCModel model = dataReaderFacade.loadModel(new GcResourceFile(PARENT_PATH + SAMPLE_GCLOG_SUN1_6_0));
+
+        assertThat("number of models published", models.size(), is(1));
+        assertThat("model in progress is model returned", models.get(0) == model, is(true));
     }
 
     private int getJavaMajorVersion() {
@@ -1,5 +1,6 @@
 package com.tagtraum.perf.gcviewer.imp;
 
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -8,6 +9,7 @@ import java.io.IOException;
 import com.tagtraum.perf.gcviewer.UnittestHelper;
 import com.tagtraum.perf.gcviewer.model.AbstractGCEvent;
 import com.tagtraum.perf.gcviewer.model.GCModel;
+import com.tagtraum.perf.gcviewer.model.GCPhaseTable;
 
 import org.junit.After;
 import org.junit.Before;
@@ -45,6 +47,20 @@ public class TestDataReaderUJLZGC {
         gcDefaultModel = null;
     }
 
+    private void testPhaseOfFirstGcEvent(int phaseIndex,
+                                         String testName,
+                                         AbstractGCEvent.Type expectedType,
+                                         double expectedPause,
+                                         AbstractGCEvent.Generation expectedGeneration) {
+
+        GCPhaseTable phases = gcAllModel.getGcPhaseTable();
+        assertThat(testName + " parent", gcAllModel.get(phases.getParentIndex(phaseIndex)), is(gcAllModel.getGCEvents().next()));
+        assertThat(testName + " type", phases.getExtendedType(phaseIndex).getType(), is(expectedType));
+        assertThat(testName + " type name", phases.getTypeName(phaseIndex), is(expectedType.getName()));
+        assertThat(testName + " pause", phases.getPause(phaseIndex), closeTo(expectedPause, 0.00001));
+        assertThat(testName + " generation", phases.getExtendedType(phaseIndex).getGeneration(), is(expectedGeneration));
+    }
+
     @Test
     public void testGcAll() {
         assertThat("size", gcAllModel.size(), is(8));
@@ -70,14 +86,11 @@ public class TestDataReaderUJLZGC {
 
     @Test
     public void testGcAllPauseMarkStart() {
-        AbstractGCEvent<?> pauseMarkStartEvent = gcAllModel.getGCEvents().next().getPhases().get(0);
-        UnittestHelper.testMemoryPauseEvent(pauseMarkStartEvent,
+        testPhaseOfFirstGcEvent(0,
                 "Pause Mark Start",
                 AbstractGCEvent.Type.UJL_ZGC_PAUSE_MARK_START,
                 0.001279,
-                0, 0, 0,
-                AbstractGCEvent.Generation.TENURED,
-                false);
+                AbstractGCEvent.Generation.TENURED);
     }
 
     @Test
@@ -94,14 +107,11 @@ public class TestDataReaderUJLZGC {
 
     @Test
     public void testGcAllPauseMarkEnd() {
-        AbstractGCEvent<?> pauseMarkEndEvent = gcAllModel.getGCEvents().next().getPhases().get(1);
-        UnittestHelper.testMemoryPauseEvent(pauseMarkEndEvent,
+        testPhaseOfFirstGcEvent(1,
                 "Pause Mark End",
                 AbstractGCEvent.Type.UJL_ZGC_PAUSE_MARK_END,
                 0.000695,
-                0, 0, 0,
-                AbstractGCEvent.Generation.TENURED,
-                false);
+                AbstractGCEvent.Generation.TENURED);
     }
 
     @Test
@@ -166,14 +176,11 @@ public class TestDataReaderUJLZGC {
 
     @Test
     public void testGcAllPauseRelocateStart() {
-        AbstractGCEvent<?> pauseRelocateStartEvent = gcAllModel.getGCEvents().next().getPhases().get(2);
-        UnittestHelper.testMemoryPauseEvent(pauseRelocateStartEvent,
+        testPhaseOfFirstGcEvent(2,
                 "Pause Relocate Start",
                 AbstractGCEvent.Type.UJL_ZGC_PAUSE_RELOCATE_START,
                 0.000679,
-                0, 0, 0,
-                AbstractGCEvent.Generation.TENURED,
-                false);
+                AbstractGCEvent.Generation.TENURED);
     }
 
     @Test
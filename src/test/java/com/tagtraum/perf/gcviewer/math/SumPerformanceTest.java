@@ -0,0 +1,89 @@
+package com.tagtraum.perf.gcviewer.math;
+
+import java.util.Random;
+
+/**
+ * Compares the loops of {@link Sum} with plain loops on arrays of the size of the pause and heap
+ * columns of a large model (10M events); run with the number of rounds as optional argument.
+ */
+public class SumPerformanceTest {
+    private static final int SIZE = 10_000_000;
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        Random random = new Random(42);
+        double[] timestamps = new double[SIZE];
+        double[] pauses = new double[SIZE];
+        double[] heapUsed = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            timestamps[i] = i * 0.5;
+            pauses[i] = random.nextDouble() * 0.1;
+            heapUsed[i] = 100_000 + random.nextInt(1_000_000);
+        }
+
+        IntData plainSum = new IntData();
+        IntData unrolledSum = new IntData();
+        IntData plainSlope = new IntData();
+        IntData unrolledSlope = new IntData();
+        double check = 0;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            check += plainSum(pauses) + plainSumOfSquares(pauses);
+            plainSum.add(elapsedMicros(start));
+
+            start = System.nanoTime();
+            check += Sum.sum(pauses) + Sum.sumOfSquares(pauses);
+            unrolledSum.add(elapsedMicros(start));
+
+            start = System.nanoTime();
+            check += plainSlope(timestamps, heapUsed);
+            plainSlope.add(elapsedMicros(start));
+
+            start = System.nanoTime();
+            check += RegressionLine.slope(timestamps, heapUsed);
+            unrolledSlope.add(elapsedMicros(start));
+        }
+
+        System.out.printf("%d rounds over %d values (check %s)%nmin, avg in us%n", rounds, SIZE, check);
+        printIntData("sum + sumOfSquares, plain", plainSum);
+        printIntData("sum + sumOfSquares, Sum", unrolledSum);
+        printIntData("slope, plain", plainSlope);
+        printIntData("slope, RegressionLine", unrolledSlope);
+    }
+
+    private static int elapsedMicros(long start) {
+        return (int) ((System.nanoTime() - start) / 1000);
+    }
+
+    private static void printIntData(String name, IntData data) {
+        System.out.printf("%1$s: %2$d, %3$s%n", name, data.getMin(), data.average());
+    }
+
+    private static double plainSum(double[] n) {
+        double sum = 0;
+        for (int i = 0; i < n.length; i++) {
+            sum += n[i];
+        }
+        return sum;
+    }
+
+    private static double plainSumOfSquares(double[] n) {
+        double sum = 0;
+        for (int i = 0; i < n.length; i++) {
+            sum += n[i] * n[i];
+        }
+        return sum;
+    }
+
+    private static double plainSlope(double[] x, double[] y) {
+        double n = x.length;
+        double sumX = plainSum(x);
+        double sumY = plainSum(y);
+        double sumXY = 0;
+        for (int i = 0; i < x.length; i++) {
+            sumXY += x[i] * y[i];
+        }
+        double sumXSquare = plainSumOfSquares(x);
+        return (n * sumXY - sumX * sumY) / (n * sumXSquare - sumX * sumX);
+    }
+}
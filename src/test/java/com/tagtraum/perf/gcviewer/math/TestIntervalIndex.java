@@ -0,0 +1,95 @@
+package com.tagtraum.perf.gcviewer.math;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests the class {@link IntervalIndex}.
+ */
+public class TestIntervalIndex {
+
+    @Test
+    public void overlapping() {
+        IntervalIndex index = new IntervalIndex(new double[] {5, 1, 3, 10}, new double[] {6, 8, 3.5, 12});
+
+        List<Integer> ids = new ArrayList<>();
+        index.forEachOverlapping(3.2, 5.5, ids::add);
+        assertThat("ascending order of start", ids, contains(1, 2, 0));
+    }
+
+    @Test
+    public void overlappingBorders() {
+        IntervalIndex index = new IntervalIndex(new double[] {1, 3}, new double[] {2, 4});
+
+        List<Integer> ids = new ArrayList<>();
+        index.forEachOverlapping(2, 3, ids::add);
+        assertThat("closed intervals", ids, contains(0, 1));
+    }
+
+    @Test
+    public void emptyIndex() {
+        IntervalIndex index = new IntervalIndex(new double[0], new double[0]);
+
+        List<Integer> ids = new ArrayList<>();
+        index.forEachOverlapping(0, 10, ids::add);
+        assertThat("overlapping", ids, is(empty()));
+        assertThat("closest", index.findClosest(5, 10), is(-1));
+    }
+
+    @Test
+    public void overlappingSameAsLinearScan() {
+        Random random = new Random(4711);
+        for (int size : new int[] {1, 2, 3, 7, 8, 9, 31, 100, 1000, 5000}) {
+            double[] starts = new double[size];
+            double[] ends = new double[size];
+            for (int i = 0; i < size; i++) {
+                starts[i] = random.nextDouble() * 1000;
+                // mostly short intervals and a few long ones
+                ends[i] = starts[i] + (random.nextInt(50) == 0 ? random.nextDouble() * 500 : random.nextDouble());
+            }
+            IntervalIndex index = new IntervalIndex(starts, ends);
+
+            for (int query = 0; query < 200; query++) {
+                double from = random.nextDouble() * 1100 - 50;
+                double to = from + random.nextDouble() * 20;
+                List<Integer> expected = new ArrayList<>();
+                for (int i = 0; i < size; i++) {
+                    if (starts[i] <= to && ends[i] >= from) {
+                        expected.add(i);
+                    }
+                }
+                List<Integer> actual = new ArrayList<>();
+                index.forEachOverlapping(from, to, actual::add);
+                Collections.sort(actual);
+
+                assertThat("size " + size + ", [" + from + ", " + to + "]", actual, is(expected));
+            }
+        }
+    }
+
+    @Test
+    public void closest() {
+        IntervalIndex index = new IntervalIndex(new double[] {1, 10, 10.5, 20}, new double[] {2, 15, 10.6, 21});
+
+        assertThat("within", index.findClosest(1.5, 0.1), is(0));
+        assertThat("shortest containing", index.findClosest(10.55, 0.1), is(2));
+        assertThat("within tolerance", index.findClosest(19.5, 1), is(3));
+        assertThat("nearest within tolerance", index.findClosest(17, 5), is(1));
+        assertThat("outside tolerance", index.findClosest(17.5, 1), is(-1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void differentLengths() {
+        new IntervalIndex(new double[2], new double[1]);
+    }
+
+}
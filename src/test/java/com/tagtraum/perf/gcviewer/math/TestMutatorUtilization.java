@@ -0,0 +1,97 @@
+package com.tagtraum.perf.gcviewer.math;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests the class {@link MutatorUtilization}.
+ */
+public class TestMutatorUtilization {
+
+    @Test
+    public void singlePause() {
+        MutatorUtilization utilization = MutatorUtilization.compute(
+                new double[] {2}, new double[] {1}, 0, 10, new double[] {2, 1, 10, 20});
+
+        assertThat("window 1", utilization.getWindow(0), is(1.0));
+        assertThat("mmu 1", utilization.getMinimumUtilization(0), closeTo(0, 0.0000001));
+        assertThat("mmu 2", utilization.getMinimumUtilization(1), closeTo(0.5, 0.0000001));
+        assertThat("mmu 10", utilization.getMinimumUtilization(2), closeTo(0.9, 0.0000001));
+        assertThat("mmu larger than run", utilization.getMinimumUtilization(3), closeTo(0.9, 0.0000001));
+    }
+
+    @Test
+    public void overlappingUnsortedPauses() {
+        MutatorUtilization utilization = MutatorUtilization.compute(
+                new double[] {3, 1, 1.5}, new double[] {1, 1, 0.2}, 0, 10, new double[] {3, 5});
+
+        // window 3: [1, 4] contains 2 seconds of pauses
+        assertThat("mmu 3", utilization.getMinimumUtilization(0), closeTo(1 / 3.0, 0.0000001));
+        assertThat("mmu 5", utilization.getMinimumUtilization(1), closeTo(3 / 5.0, 0.0000001));
+    }
+
+    @Test
+    public void boundedMinimumUtilization() {
+        // a long pause at the end of the run makes a larger window worse than a smaller one
+        MutatorUtilization utilization = MutatorUtilization.compute(
+                new double[] {1, 1.2, 8}, new double[] {0.1, 0.1, 2}, 0, 10, new double[] {0.5, 4});
+
+        assertThat("mmu 0.5", utilization.getMinimumUtilization(0), closeTo(0, 0.0000001));
+        assertThat("mmu 4", utilization.getMinimumUtilization(1), closeTo(0.5, 0.0000001));
+        assertThat("bmu 0.5", utilization.getBoundedMinimumUtilization(0), closeTo(0, 0.0000001));
+
+        utilization = MutatorUtilization.compute(
+                new double[] {1, 5}, new double[] {0.3, 3}, 0, 10, new double[] {1, 10});
+        assertThat("mmu 1", utilization.getMinimumUtilization(0), closeTo(0, 0.0000001));
+        assertThat("bmu 1", utilization.getBoundedMinimumUtilization(0), closeTo(0, 0.0000001));
+    }
+
+    @Test
+    public void sameAsScanningAllWindows() {
+        Random random = new Random(42);
+        double[] starts = new double[200];
+        double[] durations = new double[200];
+        double time = 0;
+        for (int i = 0; i < starts.length; i++) {
+            // pauses don't overlap (the scan below would count the overlap twice)
+            time += 0.1 + random.nextDouble() * 0.4;
+            starts[i] = time;
+            durations[i] = random.nextDouble() * 0.1;
+        }
+        double runEnd = time + 1;
+        double[] windows = {0.05, 0.2, 1, 3};
+
+        MutatorUtilization utilization = MutatorUtilization.compute(starts, durations, 0, runEnd, windows);
+
+        for (int w = 0; w < windows.length; w++) {
+            double minimum = 1;
+            for (double windowStart = 0; windowStart + windows[w] <= runEnd; windowStart += 0.0005) {
+                double pauseTime = 0;
+                for (int i = 0; i < starts.length; i++) {
+                    pauseTime += Math.max(0, Math.min(starts[i] + durations[i], windowStart + windows[w]) - Math.max(starts[i], windowStart));
+                }
+                minimum = Math.min(minimum, 1 - pauseTime / windows[w]);
+            }
+
+            // the scan only approximates the worst window position
+            assertThat("mmu for window " + windows[w], utilization.getMinimumUtilization(w), closeTo(minimum, 0.0005 * 2 / windows[w]));
+            assertThat("not more than scan for window " + windows[w], utilization.getMinimumUtilization(w) <= minimum + 0.0000001, is(true));
+        }
+    }
+
+    @Test
+    public void logarithmicWindows() {
+        double[] windows = MutatorUtilization.logarithmicWindows(0.001, 1, 1);
+
+        assertThat("length", windows.length, is(4));
+        assertThat("first", windows[0], closeTo(0.001, 0.0000001));
+        assertThat("second", windows[1], closeTo(0.01, 0.0000001));
+        assertThat("last", windows[3], is(1.0));
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.tagtraum.perf.gcviewer.math;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests the class {@link QuantileSketch}.
+ */
+public class TestQuantileSketch {
+
+    @Test
+    public void percentileWithinRelativeAccuracy() {
+        QuantileSketch sketch = new QuantileSketch();
+        DoubleDataPercentile exact = new DoubleDataPercentile();
+        Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            // pauses from 0.1 ms up to 10 s
+            double pause = Math.pow(10, random.nextDouble() * 5 - 4);
+            sketch.add(pause);
+            exact.add(pause);
+        }
+
+        for (double percentile : new double[] {50, 90, 99, 99.9}) {
+            double expected = exact.getPercentile(percentile);
+            assertThat("p" + percentile, sketch.getPercentile(percentile), closeTo(expected, expected * QuantileSketch.RELATIVE_ACCURACY));
+        }
+        assertThat("n", sketch.getN(), is(10000L));
+        assertThat("max", sketch.getMax(), is(exact.getMax()));
+        assertThat("p100", sketch.getPercentile(100), is(exact.getMax()));
+    }
+
+    @Test
+    public void merge() {
+        QuantileSketch sketch = new QuantileSketch();
+        QuantileSketch other = new QuantileSketch();
+        QuantileSketch all = new QuantileSketch();
+        for (int i = 1; i <= 100; i++) {
+            sketch.add(i * 0.001);
+            other.add(i * 10.0);
+            all.add(i * 0.001);
+            all.add(i * 10.0);
+        }
+        sketch.merge(other);
+
+        assertThat("n", sketch.getN(), is(200L));
+        assertThat("min", sketch.getMin(), is(0.001));
+        assertThat("max", sketch.getMax(), is(1000.0));
+        for (double percentile : new double[] {10, 50, 75, 99}) {
+            assertThat("p" + percentile, sketch.getPercentile(percentile), is(all.getPercentile(percentile)));
+        }
+    }
+
+    @Test
+    public void smallValues() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(0);
+        sketch.add(0);
+        sketch.add(0.5);
+
+        assertThat("p50", sketch.getPercentile(50), is(0.0));
+        assertThat("p99", sketch.getPercentile(99), closeTo(0.5, 0.5 * QuantileSketch.RELATIVE_ACCURACY));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void percentileOfEmptySketch() {
+        new QuantileSketch().getPercentile(50);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.tagtraum.perf.gcviewer.math;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests the class {@link RateSeries}.
+ */
+public class TestRateSeries {
+
+    @Test
+    public void averageIsWeightedByTime() {
+        RateSeries series = new RateSeries();
+        series.add(10, 1000, 10);
+        // short interval with a high rate
+        series.add(11, 500, 1);
+
+        assertThat("size", series.size(), is(2));
+        assertThat("rate", series.getRate(1), closeTo(500, 0.0000001));
+        assertThat("average", series.getAverageRate(), closeTo(1500 / 11.0, 0.0000001));
+        assertThat("max", series.getMaxRate(), closeTo(500, 0.0000001));
+    }
+
+    @Test
+    public void windows() {
+        RateSeries series = new RateSeries();
+        series.add(10, 100, 10);
+        series.add(50, 400, 40);
+        series.add(70, 2000, 20);
+        series.add(200, 1300, 130);
+
+        List<Double> starts = new ArrayList<>();
+        List<Double> averages = new ArrayList<>();
+        List<Double> peaks = new ArrayList<>();
+        series.forEachWindow(60, (start, averageRate, peakRate) -> {
+            starts.add(start);
+            averages.add(averageRate);
+            peaks.add(peakRate);
+        });
+
+        assertThat("starts", starts, contains(0.0, 60.0, 180.0));
+        assertThat("averages", averages, contains(10.0, 100.0, 10.0));
+        assertThat("peaks", peaks, contains(10.0, 100.0, 10.0));
+        assertThat("max average", series.getMaxAverageRate(60), closeTo(100, 0.0000001));
+    }
+
+    @Test
+    public void merge() {
+        RateSeries series = new RateSeries();
+        RateSeries other = new RateSeries();
+        for (int i = 1; i <= 20; i++) {
+            series.add(i, i, 1);
+            other.add(20 + i, 2 * i, 1);
+        }
+        series.merge(other);
+
+        assertThat("size", series.size(), is(40));
+        assertThat("timestamp", series.getTimestamp(39), is(40.0));
+        assertThat("max", series.getMaxRate(), closeTo(40, 0.0000001));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroDuration() {
+        new RateSeries().add(1, 1, 0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void averageOfEmptySeries() {
+        new RateSeries().getAverageRate();
+    }
+
+}
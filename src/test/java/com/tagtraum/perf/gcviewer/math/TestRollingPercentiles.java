@@ -0,0 +1,70 @@
+package com.tagtraum.perf.gcviewer.math;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests the class {@link RollingPercentiles}.
+ */
+public class TestRollingPercentiles {
+
+    @Test
+    public void windowsMergeBuckets() {
+        RollingPercentiles percentiles = new RollingPercentiles(60);
+        // one slow pause per minute during the second hour
+        for (int minute = 0; minute < 120; minute++) {
+            percentiles.add(minute * 60 + 1, 0.01);
+            percentiles.add(minute * 60 + 2, minute < 60 ? 0.01 : 1.0);
+        }
+        // nothing happens during the third hour
+        percentiles.add(3 * 3600 + 1, 0.02);
+
+        List<Double> starts = new ArrayList<>();
+        List<Double> p99 = new ArrayList<>();
+        percentiles.forEachWindow(3600, (pauses, start) -> {
+            starts.add(start);
+            p99.add(pauses.getPercentile(99));
+        });
+
+        assertThat("window starts", starts, contains(0.0, 3600.0, 3.0 * 3600));
+        assertThat("p99 first hour", p99.get(0), closeTo(0.01, 0.01 * QuantileSketch.RELATIVE_ACCURACY));
+        assertThat("p99 second hour", p99.get(1), closeTo(1.0, QuantileSketch.RELATIVE_ACCURACY));
+        assertThat("p50 of both hours", percentiles.get(0, 7200).getPercentile(50), closeTo(0.01, 0.01 * QuantileSketch.RELATIVE_ACCURACY));
+        assertThat("n of both hours", percentiles.get(0, 7200).getN(), is(240L));
+    }
+
+    @Test
+    public void windowSizeIsMultipleOfBucketSize() {
+        RollingPercentiles percentiles = new RollingPercentiles(60);
+
+        assertThat("smaller than a bucket", percentiles.getWindowSize(1), is(60.0));
+        assertThat("rounded", percentiles.getWindowSize(100), is(120.0));
+    }
+
+    @Test
+    public void merge() {
+        RollingPercentiles percentiles = new RollingPercentiles(60);
+        RollingPercentiles other = new RollingPercentiles(60);
+        percentiles.add(10, 0.1);
+        other.add(20, 0.3);
+        other.add(100, 0.2);
+        percentiles.merge(other);
+
+        assertThat("first minute", percentiles.get(0, 60).getN(), is(2L));
+        assertThat("first minute max", percentiles.get(0, 60).getMax(), is(0.3));
+        assertThat("second minute", percentiles.get(60, 120).getN(), is(1L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mergeDifferentBucketSizes() {
+        new RollingPercentiles(60).merge(new RollingPercentiles(1));
+    }
+
+}
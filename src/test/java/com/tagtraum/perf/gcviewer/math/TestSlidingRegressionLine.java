@@ -0,0 +1,78 @@
+package com.tagtraum.perf.gcviewer.math;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+/**
+ * Tests the class {@link SlidingRegressionLine}.
+ */
+public class TestSlidingRegressionLine {
+
+    @Test
+    public void slopeOfPointsInWindow() {
+        SlidingRegressionLine line = new SlidingRegressionLine(10);
+        // falls out of the window
+        line.addPoint(0, 1000);
+        line.addPoint(1, -1000);
+        for (int x = 5; x <= 20; x++) {
+            line.addPoint(x, 2 * x + 1);
+        }
+
+        assertThat("point count", line.getPointCount(), is(11));
+        assertThat("slope", line.slope(), closeTo(2, 0.0000001));
+    }
+
+    @Test
+    public void sameSlopeAsRegressionLineOverWindow() {
+        SlidingRegressionLine line = new SlidingRegressionLine(3600);
+        for (int i = 0; i < 10000; i++) {
+            // large timestamps as in the log of a long running vm
+            line.addPoint(1000000 + i * 1.5, 500000 + Math.sin(i) * 1000 + i);
+        }
+
+        RegressionLine expected = new RegressionLine();
+        for (int i = 0; i < 10000; i++) {
+            double x = 1000000 + i * 1.5;
+            if (x >= 1000000 + 9999 * 1.5 - 3600) {
+                expected.addPoint(x - 1000000, 500000 + Math.sin(i) * 1000 + i);
+            }
+        }
+
+        assertThat("point count", line.getPointCount(), is(expected.getPointCount()));
+        assertThat("slope", line.slope(), closeTo(expected.slope(), 0.000001));
+    }
+
+    @Test
+    public void merge() {
+        SlidingRegressionLine line = new SlidingRegressionLine(10);
+        SlidingRegressionLine other = new SlidingRegressionLine(10);
+        for (int x = 0; x < 10; x++) {
+            line.addPoint(x, 100);
+        }
+        for (int x = 10; x < 15; x++) {
+            other.addPoint(x, 3 * x);
+        }
+        line.merge(other);
+
+        assertThat("point count", line.getPointCount(), is(11));
+        assertThat("is line", line.isLine(), is(true));
+    }
+
+    @Test
+    public void reset() {
+        SlidingRegressionLine line = new SlidingRegressionLine(10);
+        line.addPoint(1, 1);
+        line.addPoint(2, 2);
+        line.reset();
+
+        assertThat("has points", line.hasPoints(), is(false));
+
+        line.addPoint(100, 5);
+        line.addPoint(101, 8);
+        assertThat("slope", line.slope(), closeTo(3, 0.0000001));
+    }
+
+}
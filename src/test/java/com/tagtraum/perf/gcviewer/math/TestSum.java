@@ -0,0 +1,49 @@
+package com.tagtraum.perf.gcviewer.math;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests the unrolled loops of {@link Sum} against plain loops; the lengths include every possible
+ * remainder of the unrolled loops.
+ */
+public class TestSum {
+    private static final double DELTA = 0.000000001;
+
+    @Test
+    public void sumsMatchPlainLoops() {
+        Random random = new Random(42);
+        for (int length = 0; length < 12; length++) {
+            double[] x = new double[length];
+            double[] y = new double[length];
+            int[] weight = new int[length];
+            double sumX = 0, sumY = 0, sumXY = 0, sumXSquare = 0, sumWeighted = 0;
+            for (int i = 0; i < length; i++) {
+                x[i] = random.nextDouble();
+                y[i] = random.nextDouble() * 1000;
+                weight[i] = random.nextInt(10);
+                sumX += x[i];
+                sumY += y[i];
+                sumXY += x[i] * y[i];
+                sumXSquare += x[i] * x[i];
+                sumWeighted += x[i] * weight[i];
+            }
+
+            assertThat("sum, length " + length, Sum.sum(x), closeTo(sumX, DELTA));
+            assertThat("sumOfSquares, length " + length, Sum.sumOfSquares(x), closeTo(sumXSquare, DELTA));
+            assertThat("sumOfProducts, length " + length, Sum.sumOfProducts(x, y), closeTo(sumXY, DELTA));
+            assertThat("sumOfWeighted, length " + length, Sum.sumOfWeighted(x, weight), closeTo(sumWeighted, DELTA));
+
+            double[] regressionSums = Sum.regressionSums(x, y);
+            assertThat("regression sumX, length " + length, regressionSums[0], closeTo(sumX, DELTA));
+            assertThat("regression sumY, length " + length, regressionSums[1], closeTo(sumY, DELTA));
+            assertThat("regression sumXY, length " + length, regressionSums[2], closeTo(sumXY, DELTA));
+            assertThat("regression sumXSquare, length " + length, regressionSums[3], closeTo(sumXSquare, DELTA));
+        }
+    }
+
+}
@@ -4,6 +4,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertThat;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
 import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.ExtendedType;
 import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.Generation;
 import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.Type;
@@ -137,6 +140,39 @@ public class TestAbstractGCEvent {
         assertEquals("get phase event", phaseEvent, event.getPhases().get(0));
     }
 
+    @Test
+    public void datestamp() {
+        ZonedDateTime datestamp = ZonedDateTime.of(2012, 4, 7, 1, 14, 29, 222_000_000, ZoneOffset.ofHours(2));
+        GCEvent event = new GCEvent();
+        event.setDateStamp(datestamp);
+        GCEvent otherEvent = new GCEvent();
+        otherEvent.setDateStamp(ZonedDateTime.of(2012, 4, 7, 1, 14, 29, 222_000_000, ZoneOffset.ofHours(2)));
+
+        assertThat("datestamp", event.getDatestamp(), Matchers.is(datestamp));
+        assertThat("millis", event.getDatestampMillis(), Matchers.is(datestamp.toInstant().toEpochMilli()));
+        assertTrue("zone is shared", event.getDatestampZone() == otherEvent.getDatestampZone());
+        assertEquals("equal events", event, otherEvent);
+
+        event.setDateStamp(null);
+        assertThat("no datestamp", event.getDatestamp(), Matchers.nullValue());
+        assertThat("hasDatestamp", event.hasDatestamp(), Matchers.is(false));
+    }
+
+    @Test
+    public void typeNameIsShared() {
+        GCEvent event = new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC);
+        event.add(new GCEvent(1.0, 8, 4, 50, 0.1, Type.DEF_NEW));
+        GCEvent otherEvent = new GCEvent();
+        otherEvent.add(new GCEvent(2.0, 16, 4, 50, 0.2, Type.DEF_NEW));
+        otherEvent.setType(Type.GC);
+
+        assertEquals("type as string", Type.GC.getName() + "; " + Type.DEF_NEW.getName(), event.getTypeAsString());
+        assertTrue("same type name", event.getTypeName() == otherEvent.getTypeName());
+        assertTrue("same string", event.getTypeAsString() == otherEvent.getTypeAsString());
+        assertTrue("different id without details",
+                event.getTypeName().getId() != event.getExtendedType().getTypeName().getId());
+    }
+
     private AbstractGCEvent getNewAbstractEvent() {
         AbstractGCEvent event = new AbstractGCEvent() {
             @Override
@@ -1,7 +1,10 @@
 package com.tagtraum.perf.gcviewer.model;
 
 import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 import java.io.IOException;
@@ -10,6 +13,9 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import com.tagtraum.perf.gcviewer.UnittestHelper;
@@ -17,6 +23,8 @@ import com.tagtraum.perf.gcviewer.UnittestHelper.FOLDER;
 import com.tagtraum.perf.gcviewer.imp.DataReaderException;
 import com.tagtraum.perf.gcviewer.imp.DataReaderFacade;
 import com.tagtraum.perf.gcviewer.math.DoubleData;
+import com.tagtraum.perf.gcviewer.math.DoubleDataPercentile;
+import com.tagtraum.perf.gcviewer.math.MutatorUtilization;
 import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.Type;
 import org.junit.Test;
 
@@ -41,6 +49,261 @@ public class TestGCModel {
         assertThat("min interval", fullGcInterval.getMin(), closeTo(1, 0.001));
     }
 
+    @Test
+    public void eventsFromTimestamp() {
+        GCModel gcModel = new GCModel();
+        gcModel.add(new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC));
+        gcModel.add(new GCEvent(2.0, 10, 5, 100, 0.1, Type.FULL_GC));
+        gcModel.add(new GCEvent(3.0, 10, 5, 100, 0.1, Type.GC));
+        gcModel.add(new GCEvent(4.0, 10, 5, 100, 0.1, Type.FULL_GC));
+
+        Iterator<AbstractGCEvent<?>> allEvents = gcModel.getEvents(GCModel.EventCategory.ALL, 2.0);
+        assertThat("first event at 2.0", allEvents.next().getTimestamp(), closeTo(2.0, 0.0001));
+
+        Iterator<AbstractGCEvent<?>> gcEvents = gcModel.getEvents(GCModel.EventCategory.GC, 1.5);
+        assertThat("first gc event after 1.5", gcEvents.next().getTimestamp(), closeTo(3.0, 0.0001));
+        assertThat("gc events after 1.5", gcEvents.hasNext(), is(false));
+
+        assertThat("full gc events after 4.5", gcModel.getEvents(GCModel.EventCategory.FULL_GC, 4.5).hasNext(), is(false));
+    }
+
+    @Test
+    public void eventsFromTimestampWithTimestampReset() {
+        GCModel gcModel = new GCModel();
+        gcModel.add(new GCEvent(10.0, 10, 5, 100, 0.1, Type.GC));
+        gcModel.add(new GCEvent(20.0, 10, 5, 100, 0.1, Type.GC));
+        assertThat("ascending before restart", gcModel.hasAscendingTimestamps(), is(true));
+        GCModel snapshotBeforeRestart = gcModel.snapshot();
+
+        // jvm restarted in the same file
+        gcModel.add(new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC));
+        gcModel.add(new GCEvent(2.0, 10, 5, 100, 0.1, Type.GC));
+        assertThat("ascending after restart", gcModel.hasAscendingTimestamps(), is(false));
+        assertThat("snapshot before restart", snapshotBeforeRestart.hasAscendingTimestamps(), is(true));
+        assertThat("snapshot after restart", gcModel.snapshot().hasAscendingTimestamps(), is(false));
+
+        Iterator<AbstractGCEvent<?>> gcEvents = gcModel.getEvents(GCModel.EventCategory.GC, 15.0);
+        assertThat("starts with first event", gcEvents.next().getTimestamp(), closeTo(10.0, 0.0001));
+        int count = 1;
+        while (gcEvents.hasNext()) {
+            gcEvents.next();
+            ++count;
+        }
+        assertThat("all events", count, is(4));
+    }
+
+    @Test
+    public void eventAt() {
+        GCModel gcModel = new GCModel();
+        gcModel.add(new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC));
+        gcModel.add(new GCEvent(2.0, 20, 5, 100, 0.1, Type.GC));
+        ConcurrentGCEvent concurrentEvent = new ConcurrentGCEvent();
+        concurrentEvent.setType(Type.CMS_CONCURRENT_MARK);
+        concurrentEvent.setTimestamp(3.0);
+        concurrentEvent.setPause(2.0);
+        gcModel.add(concurrentEvent);
+
+        assertThat("pause within concurrent phase", gcModel.getEventAt(1.95, 0.01).getTimestamp(), closeTo(2.0, 0.0001));
+        assertThat("concurrent phase", gcModel.getEventAt(2.5, 0.01).getExtendedType().getType(), is(Type.CMS_CONCURRENT_MARK));
+        assertThat("within tolerance", gcModel.getEventAt(0.85, 0.1).getTimestamp(), closeTo(1.0, 0.0001));
+        assertThat("outside tolerance", gcModel.getEventAt(0.5, 0.1), nullValue());
+
+        gcModel.add(new GCEvent(4.0, 10, 5, 100, 0.1, Type.GC));
+        assertThat("event added later", gcModel.getEventAt(3.95, 0.01).getTimestamp(), closeTo(4.0, 0.0001));
+    }
+
+    @Test
+    public void indexedEventAt() throws Exception {
+        GCModel gcModel = new GCModel();
+        gcModel.add(new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC));
+
+        assertThat("index not built yet", gcModel.getIndexedEventAt(0.95, 0.01), nullValue());
+        gcModel.eventIntervalsUpdate.get();
+        assertThat("index built in background", gcModel.getIndexedEventAt(0.95, 0.01).getTimestamp(), closeTo(1.0, 0.0001));
+
+        gcModel.add(new GCEvent(2.0, 20, 5, 100, 0.1, Type.GC));
+        assertThat("event added later, previous index", gcModel.getIndexedEventAt(1.95, 0.01), nullValue());
+        assertThat("previous index still used", gcModel.getIndexedEventAt(0.95, 0.01).getTimestamp(), closeTo(1.0, 0.0001));
+        gcModel.eventIntervalsUpdate.get();
+        assertThat("event added later, index rebuilt", gcModel.getIndexedEventAt(1.95, 0.01).getTimestamp(), closeTo(2.0, 0.0001));
+    }
+
+    @Test
+    public void startsWith() {
+        GCModel prefix = new GCModel();
+        prefix.add(new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC));
+        prefix.add(new GCEvent(2.0, 20, 5, 100, 0.2, Type.GC));
+
+        GCModel continued = new GCModel();
+        continued.add(new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC));
+        continued.add(new GCEvent(2.0, 20, 5, 100, 0.2, Type.GC));
+        continued.add(new GCEvent(3.0, 30, 5, 100, 0.3, Type.GC));
+
+        GCModel other = new GCModel();
+        other.add(new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC));
+        other.add(new GCEvent(2.5, 20, 5, 100, 0.2, Type.GC));
+        other.add(new GCEvent(3.0, 30, 5, 100, 0.3, Type.GC));
+
+        assertThat("continued", continued.startsWith(prefix), is(true));
+        assertThat("snapshot", continued.startsWith(continued.snapshot()), is(true));
+        assertThat("empty", continued.startsWith(new GCModel()), is(true));
+        assertThat("shorter", prefix.startsWith(continued), is(false));
+        assertThat("other", other.startsWith(prefix), is(false));
+    }
+
+    @Test
+    public void statisticsIncludeEventsAddedAfterFirstAccess() {
+        GCModel gcModel = new GCModel();
+        gcModel.add(new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC));
+        gcModel.add(new GCEvent(2.0, 20, 5, 100, 0.2, Type.GC));
+
+        assertThat("pause count", gcModel.getPause().getN(), is(2));
+        assertThat("footprint", gcModel.getFootprint(), is(100L));
+
+        gcModel.add(new GCEvent(3.0, 30, 10, 200, 0.3, Type.FULL_GC));
+
+        assertThat("pause count after add", gcModel.getPause().getN(), is(3));
+        assertThat("max pause after add", gcModel.getPause().getMax(), closeTo(0.3, 0.0001));
+        assertThat("full gc pause count", gcModel.getFullGCPause().getN(), is(1));
+        assertThat("gc pause count", gcModel.getGcEventPauses().get(Type.GC.getName()).getN(), is(2));
+        assertThat("footprint after add", gcModel.getFootprint(), is(200L));
+        assertThat("freed memory", gcModel.getFreedMemory(), is(40L));
+        assertThat("post gc slope", gcModel.getPostGCSlope(), closeTo(0, 0.0001));
+    }
+
+    @Test
+    public void snapshotIsNotChangedByLaterEvents() {
+        GCModel gcModel = new GCModel();
+        gcModel.add(new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC));
+        gcModel.add(new GCEvent(2.0, 20, 5, 100, 0.2, Type.FULL_GC));
+
+        GCModel snapshot = gcModel.snapshot();
+        gcModel.add(new GCEvent(3.0, 30, 10, 200, 0.3, Type.GC));
+
+        assertThat("snapshot", snapshot.isSnapshot(), is(true));
+        assertThat("snapshot version", snapshot.getVersion(), is(2L));
+        assertThat("model version", gcModel.getVersion(), is(3L));
+        assertThat("snapshot size", snapshot.size(), is(2));
+        assertThat("snapshot pause count", snapshot.getPause().getN(), is(2));
+        assertThat("snapshot footprint", snapshot.getFootprint(), is(100L));
+        assertThat("snapshot running time", snapshot.getRunningTime(), closeTo(1.2, 0.0001));
+        assertThat("model pause count", gcModel.getPause().getN(), is(3));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void snapshotCannotBeModified() {
+        GCModel gcModel = new GCModel();
+        gcModel.snapshot().add(new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC));
+    }
+
+    @Test
+    public void snapshotWhileAdding() throws Exception {
+        GCModel gcModel = new GCModel();
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= 100_000; i++) {
+                gcModel.add(new GCEvent(i, 10, 5, 100, 0.1, i % 10 == 0 ? Type.FULL_GC : Type.GC));
+            }
+        });
+        writer.start();
+
+        while (writer.isAlive()) {
+            GCModel snapshot = gcModel.snapshot();
+            int fullGcCount = 0;
+            for (Iterator<GCEvent> i = snapshot.getFullGCEvents(); i.hasNext(); i.next()) {
+                ++fullGcCount;
+            }
+            assertThat("full gcs in snapshot of size " + snapshot.size(), fullGcCount, is(snapshot.size() / 10));
+            assertThat("last timestamp", snapshot.getLastPauseTimeStamp(), closeTo(snapshot.size(), 0.0001));
+        }
+        writer.join();
+
+        assertThat("size", gcModel.snapshot().size(), is(100_000));
+    }
+
+    @Test
+    public void freeze() {
+        GCModel gcModel = new GCModel();
+        GCEvent event = new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC);
+        event.add(new GCEvent(1.0, 8, 4, 50, 0.1, Type.DEF_NEW));
+        gcModel.add(event);
+        GCEvent otherEvent = new GCEvent(2.0, 20, 5, 100, 0.2, Type.GC);
+        otherEvent.add(new GCEvent(2.0, 16, 4, 50, 0.2, Type.DEF_NEW));
+        gcModel.add(otherEvent);
+
+        gcModel.freeze();
+
+        assertThat("frozen", gcModel.isFrozen(), is(true));
+        assertThat("snapshot of frozen model", gcModel.snapshot() == gcModel, is(true));
+        assertThat("shared type name", event.getTypeAsString() == otherEvent.getTypeAsString(), is(true));
+        assertThat("pause count", gcModel.getPause().getN(), is(2));
+        assertThat("events", gcModel.size(), is(2));
+        assertThat("second event", gcModel.get(1), is(otherEvent));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void frozenModelCannotBeModified() {
+        GCModel gcModel = new GCModel();
+        gcModel.freeze();
+        gcModel.add(new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC));
+    }
+
+    @Test
+    public void columnStreams() {
+        GCModel gcModel = new GCModel();
+        for (int i = 1; i <= 10_000; i++) {
+            gcModel.add(new GCEvent(i, 2 * i, i, 4 * i, 0.001, i % 10 == 0 ? Type.FULL_GC : Type.GC));
+        }
+        GCModel snapshot = gcModel.snapshot();
+        gcModel.add(new GCEvent(10_001, 10, 5, 100, 1.0, Type.FULL_GC));
+
+        assertThat("pause sum", gcModel.getPauseStream(GCModel.EventCategory.ALL).parallel().sum(),
+                closeTo(gcModel.getPause().getSum(), 0.000001));
+        assertThat("full gc count", gcModel.getPauseStream(GCModel.EventCategory.FULL_GC).count(), is(1001L));
+        assertThat("max total", gcModel.getTotalStream(GCModel.EventCategory.GC).parallel().max().getAsInt(), is(4 * 9_999));
+        assertThat("pre used", gcModel.getPreUsedStream(GCModel.EventCategory.ALL).limit(2).toArray(), is(new int[] {2, 4}));
+        assertThat("post used sum", gcModel.getPostUsedStream(GCModel.EventCategory.STOP_THE_WORLD).asLongStream().sum(), is(50_005_005L));
+        assertThat("snapshot timestamps", snapshot.getTimestampStream(GCModel.EventCategory.ALL).parallel().max().getAsDouble(),
+                closeTo(10_000, 0.0001));
+    }
+
+    private GCEventUJL createEventWithPhases(double timestamp) {
+        GCEventUJL event = new GCEventUJL();
+        event.setType(Type.UJL_ZGC_GARBAGE_COLLECTION);
+        event.setTimestamp(timestamp);
+        event.addPhase(new GCEvent(timestamp, 0, 0, 0, 0.005, Type.UJL_ZGC_PAUSE_MARK_START));
+        event.addPhase(new GCEvent(timestamp + 0.1, 0, 0, 0, 0.003, Type.UJL_ZGC_PAUSE_MARK_END));
+        return event;
+    }
+
+    @Test
+    public void gcPhaseTable() {
+        GCModel gcModel = new GCModel();
+        gcModel.add(new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC));
+        GCEventUJL event = createEventWithPhases(2.0);
+        gcModel.add(event);
+        GCModel snapshot = gcModel.snapshot();
+        gcModel.add(new GCEvent(3.0, 10, 5, 100, 0.1, Type.GC));
+        gcModel.add(createEventWithPhases(4.0));
+
+        GCPhaseTable phases = gcModel.getGcPhaseTable();
+        assertThat("phases of event", event.getPhases().size(), is(2));
+        assertThat("size", phases.size(), is(4));
+        assertThat("parent", phases.getParentIndex(1), is(1));
+        assertThat("type", phases.getTypeName(1), is(Type.UJL_ZGC_PAUSE_MARK_END.getName()));
+        assertThat("extended type", phases.getExtendedType(1).getType(), is(Type.UJL_ZGC_PAUSE_MARK_END));
+        assertThat("timestamp", phases.getTimestamp(1), closeTo(2.1, 0.0000001));
+        assertThat("pause", phases.getPause(1), closeTo(0.003, 0.0000001));
+        assertThat("parent of second event", phases.getParentIndex(2), is(3));
+        assertThat("first phase of event", phases.getFirstIndexOf(1), is(0));
+        assertThat("first phase of event without phases", phases.getFirstIndexOf(2), is(2));
+        assertThat("first phase of second event", phases.getFirstIndexOf(3), is(2));
+        assertThat("first phase after last event", phases.getFirstIndexOf(4), is(4));
+        assertThat("type count", phases.getTypeCount(), is(2));
+        assertThat("statistics", gcModel.getGcEventPhases().get(Type.UJL_ZGC_PAUSE_MARK_START.getName()).getN(), is(2));
+        assertThat("snapshot size", snapshot.getGcPhaseTable().size(), is(2));
+        assertThat("snapshot statistics", snapshot.getGcEventPhases().get(Type.UJL_ZGC_PAUSE_MARK_START.getName()).getN(), is(1));
+    }
+
     @Test
     public void testEquals_ForIdenticalModels() throws IOException, ExecutionException, InterruptedException, DataReaderException {
         // load model twice, should be identical
@@ -84,4 +347,144 @@ public class TestGCModel {
         expectedTime = expectedTime.minus(1381, ChronoUnit.MILLIS);// 1,381s (diff between last and first timestamp
         assertThat(model.getStartDate(), is(expectedTime));
     }
+
+    @Test
+    public void recentPostGCSlope() {
+        GCModel gcModel = new GCModel();
+        // footprint shrinks during the first hour...
+        gcModel.add(new GCEvent(1.0, 100, 90, 1000, 0.1, Type.GC));
+        gcModel.add(new GCEvent(1000.0, 100, 50, 1000, 0.1, Type.GC));
+        // ... and grows by 1 per second during the last hour
+        for (int i = 0; i <= 10; i++) {
+            gcModel.add(new GCEvent(5000.0 + i * 360, 200, 10 + i * 360, 1000, 0.1, Type.GC));
+        }
+
+        assertThat("point count", gcModel.getRecentPostGCSlope().getPointCount(), is(11));
+        assertThat("slope", gcModel.getRecentPostGCSlope().slope(), closeTo(1, 0.0000001));
+        assertThat("full gc", gcModel.getRecentPostFullGCSlope().hasPoints(), is(false));
+    }
+
+    @Test
+    public void mutatorUtilization() {
+        GCModel gcModel = new GCModel();
+        gcModel.add(new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC));
+        gcModel.add(new GCEvent(2.0, 10, 5, 100, 0.5, Type.GC));
+        gcModel.add(new GCEvent(10.0, 10, 5, 100, 0.1, Type.GC));
+
+        MutatorUtilization utilization = gcModel.getMutatorUtilization(new double[] {0.1, 1});
+
+        assertThat("mmu 0.1", utilization.getMinimumUtilization(0), closeTo(0, 0.0000001));
+        assertThat("mmu 1", utilization.getMinimumUtilization(1), closeTo(0.5, 0.0000001));
+        assertThat("default windows", gcModel.getMutatorUtilization().getWindowCount() > 30, is(true));
+        assertThat("not cached for mutable model", gcModel.getMutatorUtilization() == gcModel.getMutatorUtilization(), is(false));
+        assertThat("cached for snapshot", gcModel.snapshot().getMutatorUtilization(), notNullValue());
+    }
+
+    @Test
+    public void pausePercentiles() {
+        GCModel gcModel = new GCModel();
+        gcModel.add(new GCEvent(1.0, 10, 5, 100, 0.1, Type.GC));
+        gcModel.add(new GCEvent(2.0, 10, 5, 100, 0.5, Type.GC));
+        gcModel.add(new GCEvent(70.0, 10, 5, 100, 0.2, Type.GC));
+
+        List<Double> maxPauses = new ArrayList<>();
+        gcModel.getPausePercentiles().forEachWindow(60, (pauses, start) -> maxPauses.add(pauses.getMax()));
+
+        assertThat("max per minute", maxPauses, contains(0.5, 0.2));
+        assertThat("whole run", gcModel.getPausePercentiles().get(0, 120).getN(), is(3L));
+    }
+
+    @Test
+    public void allocationAndPromotionRate() {
+        GCModel gcModel = new GCModel();
+        gcModel.add(createYoungCollection(10.0, 300, 100, 200, 50));
+        // remark without heap information doesn't start a new interval
+        gcModel.add(new GCEvent(15.0, 0, 0, 0, 0.1, Type.G1_REMARK));
+        // 400K allocated and 30K promoted within 10 seconds
+        gcModel.add(createYoungCollection(20.0, 500, 230, 380, 80));
+
+        assertThat("allocation rate samples", gcModel.getAllocationRate().size(), is(1));
+        assertThat("allocation rate", gcModel.getAllocationRate().getRate(0), closeTo(40, 0.0000001));
+        assertThat("promotion rate samples", gcModel.getPromotionRate().size(), is(1));
+        assertThat("promotion rate", gcModel.getPromotionRate().getRate(0), closeTo(3, 0.0000001));
+    }
+
+    /**
+     * Creates a young collection with details of the young generation (needed for promotion).
+     */
+    private GCEvent createYoungCollection(double timestamp, int preUsed, int postUsed, int youngPreUsed, int youngPostUsed) {
+        GCEvent event = new GCEvent(timestamp, preUsed, postUsed, 1000, 0.1, Type.GC);
+        event.add(new GCEvent(timestamp, youngPreUsed, youngPostUsed, 500, 0.1, Type.DEF_NEW));
+        return event;
+    }
+
+    @Test
+    public void statisticsComputedInParallel() throws Exception {
+        assertSameStatisticsInParallel(FOLDER.OPENJDK, "SampleSun1_5_0ConcurrentModeFailure.txt");
+        assertSameStatisticsInParallel(FOLDER.OPENJDK, "SampleSun1_6_0CMS.txt");
+        assertSameStatisticsInParallel(FOLDER.OPENJDK_UJL, "sample-ujl-jdk17-full-concurrent-cycle-g1-gc-all-safepont,os-cpu.txt");
+    }
+
+    private void assertSameStatisticsInParallel(FOLDER folder, String fileName) throws Exception {
+        DataReaderFacade dataReader = new DataReaderFacade();
+        GCResource gcResource = new GcResourceFile(UnittestHelper.getResourceAsString(folder, fileName));
+        GCModel expected = dataReader.loadMutableModel(gcResource);
+        GCModel actual = dataReader.loadMutableModel(gcResource);
+        // tiny partitions to make sure, every kind of event ends up at the edge of a partition
+        actual.updateStatisticsInParallel(3);
+
+        assertSameDoubleData(fileName + " pause", expected.getPause(), actual.getPause());
+        assertSameDoubleData(fileName + " gc pause", expected.getGCPause(), actual.getGCPause());
+        assertSameDoubleData(fileName + " full gc pause", expected.getFullGCPause(), actual.getFullGCPause());
+        assertSameDoubleData(fileName + " vm operation pause", expected.getVmOperationPause(), actual.getVmOperationPause());
+        assertSameDoubleData(fileName + " pause interval", expected.getPauseInterval(), actual.getPauseInterval());
+        assertSameDoubleData(fileName + " full gc pause interval", expected.getFullGCPauseInterval(), actual.getFullGCPauseInterval());
+        assertSameDoubleData(fileName + " relative post gc increase", expected.getRelativePostGCIncrease(), actual.getRelativePostGCIncrease());
+        assertThat(fileName + " allocation rate", actual.getAllocationRate().size(), is(expected.getAllocationRate().size()));
+        if (expected.getAllocationRate().size() > 0) {
+            assertThat(fileName + " average allocation rate", actual.getAllocationRate().getAverageRate(), is(expected.getAllocationRate().getAverageRate()));
+        }
+        assertThat(fileName + " promotion rate", actual.getPromotionRate().size(), is(expected.getPromotionRate().size()));
+        assertThat(fileName + " pause percentiles",
+                actual.getPausePercentiles().get(0, Double.MAX_VALUE).getPercentile(99),
+                is(expected.getPausePercentiles().get(0, Double.MAX_VALUE).getPercentile(99)));
+        assertThat(fileName + " gc pause percentile",
+                ((DoubleDataPercentile) actual.getGCPause()).getPercentile(90),
+                is(((DoubleDataPercentile) expected.getGCPause()).getPercentile(90)));
+        for (String type : expected.getGcEventPauses().keySet()) {
+            assertSameDoubleData(fileName + " " + type, expected.getGcEventPauses().get(type), actual.getGcEventPauses().get(type));
+        }
+        for (String type : expected.getGcEventPhases().keySet()) {
+            assertSameDoubleData(fileName + " " + type, expected.getGcEventPhases().get(type), actual.getGcEventPhases().get(type));
+        }
+        assertThat(fileName + " gc event pause types", actual.getGcEventPauses().keySet(), is(expected.getGcEventPauses().keySet()));
+        assertThat(fileName + " concurrent event types", actual.getConcurrentEventPauses().keySet(), is(expected.getConcurrentEventPauses().keySet()));
+
+        if (expected.getRelativePostGCIncrease().getN() > 0) {
+            assertThat(fileName + " post gc slope", actual.getPostGCSlope(), closeTo(expected.getPostGCSlope(), 0.0001));
+        }
+        assertThat(fileName + " current post gc slope points", actual.getCurrentPostGCSlope().getPointCount(), is(expected.getCurrentPostGCSlope().getPointCount()));
+        assertThat(fileName + " post full gc slope points", actual.getPostFullGCSlope().getPointCount(), is(expected.getPostFullGCSlope().getPointCount()));
+        if (expected.getRelativePostFullGCIncrease().isLine()) {
+            assertThat(fileName + " relative post full gc increase",
+                    actual.getRelativePostFullGCIncrease().slope(),
+                    closeTo(expected.getRelativePostFullGCIncrease().slope(), 0.0001));
+        }
+
+        assertThat(fileName + " freed memory", actual.getFreedMemory(), is(expected.getFreedMemory()));
+        assertThat(fileName + " footprint", actual.getFootprint(), is(expected.getFootprint()));
+        assertThat(fileName + " footprint after gc", actual.getFootprintAfterGC(), is(expected.getFootprintAfterGC()));
+        assertThat(fileName + " footprint after full gc", actual.getFootprintAfterFullGC(), is(expected.getFootprintAfterFullGC()));
+        assertThat(fileName + " promotion", actual.getPromotion(), is(expected.getPromotion()));
+        assertThat(fileName + " tenured used", actual.getTenuredUsedSizes(), is(expected.getTenuredUsedSizes()));
+        assertThat(fileName + " recent post gc slope points", actual.getRecentPostGCSlope().getPointCount(), is(expected.getRecentPostGCSlope().getPointCount()));
+        assertThat(fileName + " post concurrent cycle used", actual.getPostConcurrentCycleHeapUsedSizes(), is(expected.getPostConcurrentCycleHeapUsedSizes()));
+    }
+
+    private void assertSameDoubleData(String name, DoubleData expected, DoubleData actual) {
+        assertThat(name + " n", actual.getN(), is(expected.getN()));
+        assertThat(name + " sum", actual.getSum(), closeTo(expected.getSum(), 0.0000001));
+        assertThat(name + " min", actual.getMin(), is(expected.getMin()));
+        assertThat(name + " max", actual.getMax(), is(expected.getMax()));
+    }
 }
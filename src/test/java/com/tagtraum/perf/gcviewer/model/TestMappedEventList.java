@@ -0,0 +1,118 @@
+package com.tagtraum.perf.gcviewer.model;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Iterator;
+
+import com.tagtraum.perf.gcviewer.UnittestHelper;
+import com.tagtraum.perf.gcviewer.UnittestHelper.FOLDER;
+import com.tagtraum.perf.gcviewer.imp.DataReaderFacade;
+import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.Type;
+import org.junit.Test;
+
+/**
+ * Tests the class {@link MappedEventList} and a {@link GCModel} using {@link GCModel.Storage#MAPPED}.
+ */
+public class TestMappedEventList {
+
+    @Test
+    public void gcEventWithDetails() {
+        GCEvent event = new GCEvent(1.5, 1000, 400, 2000, 0.25, Type.GC);
+        event.setDateStamp(ZonedDateTime.of(2018, 1, 2, 3, 4, 5, 678_000_000, ZoneOffset.ofHours(2)));
+        event.setNumber(42);
+        event.add(new GCEvent(1.5, 600, 0, 700, 0.2, Type.DEF_NEW));
+        event.add(new GCEvent(1.5, 400, 400, 1300, 0.05, Type.TENURED));
+
+        MappedEventList list = new MappedEventList();
+        list.add(event);
+
+        GCEvent decodedEvent = (GCEvent) list.get(0);
+        assertThat("event", decodedEvent, is(event));
+        assertThat("number", decodedEvent.getNumber(), is(42));
+        assertThat("typeAsString", decodedEvent.getTypeAsString(), is(event.getTypeAsString()));
+        assertThat("young", decodedEvent.getYoung().getPreUsed(), is(600));
+        assertThat("tenured", decodedEvent.getTenured().getTotal(), is(1300));
+    }
+
+    @Test
+    public void ujlEventWithPhases() {
+        GCEventUJL event = new GCEventUJL();
+        event.setType(Type.UJL_ZGC_GARBAGE_COLLECTION);
+        event.setTimestamp(87.11);
+        event.addPhase(new GCEvent(87.12, 0, 0, 0, 0.005, Type.UJL_ZGC_PAUSE_MARK_START));
+        ConcurrentGCEvent concurrentPhase = new ConcurrentGCEvent();
+        concurrentPhase.setType(Type.UJL_ZGC_CONCURRENT_MARK);
+        concurrentPhase.setPause(0.7);
+        concurrentPhase.setDuration(0.8);
+        event.addPhase(concurrentPhase);
+
+        MappedEventList list = new MappedEventList();
+        list.add(event);
+
+        AbstractGCEvent<?> decodedEvent = list.get(0);
+        assertThat("class", decodedEvent.getClass().getName(), is(GCEventUJL.class.getName()));
+        assertThat("pause", decodedEvent.getPause(), closeTo(0.005, 0.0000001));
+        assertThat("phases", decodedEvent.getPhases(), is(event.getPhases()));
+        assertThat("duration", ((ConcurrentGCEvent) decodedEvent.getPhases().get(1)).getDuration(), closeTo(0.8, 0.0000001));
+    }
+
+    @Test
+    public void severalChunks() {
+        MappedEventList list = new MappedEventList(1024);
+        for (int i = 0; i < 1000; i++) {
+            list.add(new GCEvent(i, i, i / 2, 2 * i, i / 1000.0, Type.GC));
+        }
+
+        assertThat("size", list.size(), is(1000));
+        Iterator<AbstractGCEvent<?>> iterator = list.iterator();
+        for (int i = 0; i < 1000; i++) {
+            assertThat("event " + i, iterator.next(), is(new GCEvent(i, i, i / 2, 2 * i, i / 1000.0, Type.GC)));
+        }
+    }
+
+    @Test
+    public void mappedModelEqualsHeapModel() throws Exception {
+        assertSameModel(FOLDER.OPENJDK, "SampleSun1_6_0CMSAdaptiveSizePolicy.txt");
+        assertSameModel(FOLDER.OPENJDK_UJL, "sample-ujl-g1-gc-all,safepoint,os+cpu.txt");
+        assertSameModel(FOLDER.OPENJDK_UJL, "sample-ujl-zgc-gc-all.txt");
+    }
+
+    private void assertSameModel(FOLDER folder, String fileName) throws Exception {
+        GCModel heapModel = loadModel(folder, fileName, GCModel.Storage.HEAP);
+        GCModel mappedModel = loadModel(folder, fileName, GCModel.Storage.MAPPED);
+
+        assertThat(fileName + " events", mappedModel, is(heapModel));
+        assertThat(fileName + " stop the world events", mappedModel.getPause().getN(), is(heapModel.getPause().getN()));
+        assertThat(fileName + " total pause", mappedModel.getPause().getSum(), closeTo(heapModel.getPause().getSum(), 0.0000001));
+        assertThat(fileName + " vm operation pause", mappedModel.getVmOperationPause().getN(), is(heapModel.getVmOperationPause().getN()));
+        assertThat(fileName + " footprint", mappedModel.getFootprint(), is(heapModel.getFootprint()));
+        assertThat(fileName + " phases", mappedModel.getGcEventPhases().keySet(), is(heapModel.getGcEventPhases().keySet()));
+        for (GCModel.EventCategory category : GCModel.EventCategory.values()) {
+            assertThat(fileName + " " + category + " pauses",
+                    mappedModel.getPauseStream(category).toArray(), is(heapModel.getPauseStream(category).toArray()));
+            assertThat(fileName + " " + category + " timestamps",
+                    mappedModel.getTimestampStream(category).toArray(), is(heapModel.getTimestampStream(category).toArray()));
+            assertThat(fileName + " " + category + " post used",
+                    mappedModel.getPostUsedStream(category).toArray(), is(heapModel.getPostUsedStream(category).toArray()));
+        }
+    }
+
+    private GCModel loadModel(FOLDER folder, String fileName, GCModel.Storage storage) throws Exception {
+        String previousStorage = System.setProperty(GCModel.Storage.PROPERTY_NAME, storage.name());
+        try {
+            return new DataReaderFacade().loadModel(new GcResourceFile(UnittestHelper.getResourceAsString(folder, fileName)));
+        }
+        finally {
+            if (previousStorage == null) {
+                System.clearProperty(GCModel.Storage.PROPERTY_NAME);
+            }
+            else {
+                System.setProperty(GCModel.Storage.PROPERTY_NAME, previousStorage);
+            }
+        }
+    }
+}
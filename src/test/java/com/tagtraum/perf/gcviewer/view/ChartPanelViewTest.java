@@ -0,0 +1,66 @@
+package com.tagtraum.perf.gcviewer.view;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.Type;
+import com.tagtraum.perf.gcviewer.model.GCEvent;
+import com.tagtraum.perf.gcviewer.model.GCModel;
+import com.tagtraum.perf.gcviewer.model.GCResource;
+import com.tagtraum.perf.gcviewer.model.GcResourceFile;
+import com.tagtraum.perf.gcviewer.view.model.GCPreferences;
+
+/**
+ * Tests the selection of tabs in {@link ChartPanelView}.
+ */
+public class ChartPanelViewTest {
+
+    private GCResource gcResource;
+    private ChartPanelView chartPanelView;
+    private GCModel model;
+
+    @Before
+    public void setUp() {
+        gcResource = new GcResourceFile("SampleSun1_6_0CMS.txt");
+        chartPanelView = new ChartPanelView(new GCPreferences(), gcResource);
+    }
+
+    /**
+     * @return snapshot of a model growing with every call (like the snapshots while loading)
+     */
+    private GCModel nextSnapshot() {
+        if (model == null) {
+            model = new GCModel();
+        }
+        model.add(new GCEvent(model.size() + 1.0, 10, 5, 100, 0.1, Type.GC));
+        return model.snapshot();
+    }
+
+    @Test
+    public void parserTabWithoutData() {
+        assertThat("selected tab", chartPanelView.getModelChartAndDetails().getSelectedIndex(),
+                is(chartPanelView.getModelChartAndDetails().getTabCount() - 1));
+    }
+
+    @Test
+    public void chartTabWithFirstData() {
+        gcResource.setModel(nextSnapshot());
+
+        assertThat("selected tab", chartPanelView.getModelChartAndDetails().getSelectedIndex(), is(0));
+    }
+
+    @Test
+    public void selectedTabKeptWhileLoading() {
+        gcResource.setModel(nextSnapshot());
+        chartPanelView.getModelChartAndDetails().setSelectedIndex(1);
+
+        // further snapshot and final model
+        gcResource.setModel(nextSnapshot());
+        gcResource.setModel(nextSnapshot());
+
+        assertThat("selected tab", chartPanelView.getModelChartAndDetails().getSelectedIndex(), is(1));
+    }
+}
@@ -0,0 +1,179 @@
+package com.tagtraum.perf.gcviewer.view;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.tagtraum.perf.gcviewer.UnittestHelper;
+import com.tagtraum.perf.gcviewer.UnittestHelper.FOLDER;
+import com.tagtraum.perf.gcviewer.imp.DataReaderSun1_6_0;
+import com.tagtraum.perf.gcviewer.model.GCModel;
+import com.tagtraum.perf.gcviewer.view.model.GCPreferences;
+import com.tagtraum.perf.gcviewer.view.renderer.AllocationRateRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.ChartScale;
+import com.tagtraum.perf.gcviewer.view.renderer.ConcurrentGcBegionEndRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.FullGCLineRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.GCRectanglesRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.GCTimesRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.IncLineRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.InitialMarkLevelRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.PausePercentileRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.TotalHeapRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.TotalTenuredRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.TotalYoungRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.UsedHeapRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.UsedTenuredRenderer;
+import com.tagtraum.perf.gcviewer.view.renderer.UsedYoungRenderer;
+
+/**
+ * Tests {@link HeadlessChartRenderer}.
+ */
+public class HeadlessChartRendererTest {
+
+    private GCModel model;
+
+    @Before
+    public void setUp() throws IOException {
+        model = UnittestHelper.getGCModelFromLogFile("SampleSun1_6_0CMS.txt", FOLDER.OPENJDK, DataReaderSun1_6_0.class);
+    }
+
+    @Test
+    public void render() {
+        BufferedImage image = new HeadlessChartRenderer(new GCPreferences()).render(model, 400, 300);
+
+        assertThat("width", image.getWidth(), is(400));
+        assertThat("height", image.getHeight(), is(300));
+        assertThat("gc times painted", countPixels(image, (Color) GCTimesRenderer.DEFAULT_LINEPAINT), greaterThan(0));
+    }
+
+    @Test
+    public void renderHiddenLine() {
+        GCPreferences preferences = new GCPreferences();
+        preferences.setGcLineProperty(GCPreferences.GC_TIMES_LINE, false);
+        preferences.setGcLineProperty(GCPreferences.ANTI_ALIAS, false);
+        BufferedImage image = new HeadlessChartRenderer(preferences).render(model, 400, 300);
+
+        assertThat("gc times not painted", countPixels(image, (Color) GCTimesRenderer.DEFAULT_LINEPAINT), is(0));
+    }
+
+    @Test
+    public void renderInParallel() throws Exception {
+        HeadlessChartRenderer renderer = new HeadlessChartRenderer(new GCPreferences());
+        BufferedImage expected = renderer.render(model, 400, 300);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<BufferedImage>> images = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                images.add(executor.submit(() -> renderer.render(model, 400, 300)));
+            }
+            for (Future<BufferedImage> image : images) {
+                assertThat("same image", isEqual(image.get(), expected), is(true));
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void paintsLikeChartRenderers() {
+        Map<String, Function<ModelChartImpl, ChartRenderer>> renderers = new LinkedHashMap<>();
+        renderers.put(GCPreferences.TOTAL_MEMORY, TotalHeapRenderer::new);
+        renderers.put(GCPreferences.TENURED_MEMORY, TotalTenuredRenderer::new);
+        renderers.put(GCPreferences.YOUNG_MEMORY, TotalYoungRenderer::new);
+        renderers.put(GCPreferences.USED_MEMORY, UsedHeapRenderer::new);
+        renderers.put(GCPreferences.USED_TENURED_MEMORY, UsedTenuredRenderer::new);
+        renderers.put(GCPreferences.USED_YOUNG_MEMORY, UsedYoungRenderer::new);
+        renderers.put(GCPreferences.INITIAL_MARK_LEVEL, InitialMarkLevelRenderer::new);
+        renderers.put(GCPreferences.GC_TIMES_LINE, GCTimesRenderer::new);
+        renderers.put(GCPreferences.PAUSE_PERCENTILE_LINE, PausePercentileRenderer::new);
+        renderers.put(GCPreferences.ALLOCATION_RATE_LINE, AllocationRateRenderer::new);
+        renderers.put(GCPreferences.CONCURRENT_COLLECTION_BEGIN_END, ConcurrentGcBegionEndRenderer::new);
+        renderers.put(GCPreferences.INC_GC_LINES, IncLineRenderer::new);
+        renderers.put(GCPreferences.GC_TIMES_RECTANGLES, GCRectanglesRenderer::new);
+        renderers.put(GCPreferences.FULL_GC_LINES, FullGCLineRenderer::new);
+
+        int width = 600;
+        int height = 300;
+        double scaleFactor = width / model.getRunningTime();
+        for (Map.Entry<String, Function<ModelChartImpl, ChartRenderer>> entry : renderers.entrySet()) {
+            GCPreferences preferences = new GCPreferences();
+            for (String line : renderers.keySet()) {
+                preferences.setGcLineProperty(line, line.equals(entry.getKey()));
+            }
+            preferences.setGcLineProperty(GCPreferences.ANTI_ALIAS, false);
+
+            ModelChartImpl modelChart = new ModelChartImpl();
+            modelChart.setModel(model, preferences);
+            modelChart.setScaleFactor(scaleFactor);
+            ChartRenderer renderer = entry.getValue().apply(modelChart);
+            renderer.setSize(width, height);
+            BufferedImage expected = createImage(width, height);
+            Graphics2D g2d = expected.createGraphics();
+            g2d.setClip(0, 0, width, height);
+            g2d.setPaint(renderer.getLinePaint());
+            renderer.paintComponent(g2d);
+            g2d.dispose();
+
+            BufferedImage image = createImage(width, height);
+            g2d = image.createGraphics();
+            g2d.setClip(0, 0, width, height);
+            new HeadlessChartRenderer(preferences).paintChart(g2d, model,
+                    new ChartScale(scaleFactor, height, model.getPause().getMax(), model.getFootprint()));
+            g2d.dispose();
+
+            assertThat(entry.getKey() + " same image", isEqual(image, expected), is(true));
+        }
+    }
+
+    private BufferedImage createImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setBackground(Color.WHITE);
+        g2d.clearRect(0, 0, width, height);
+        g2d.dispose();
+        return image;
+    }
+
+    private int countPixels(BufferedImage image, Color color) {
+        int count = 0;
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                if (image.getRGB(x, y) == color.getRGB()) {
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    private boolean isEqual(BufferedImage image, BufferedImage expected) {
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                if (image.getRGB(x, y) != expected.getRGB(x, y)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+}
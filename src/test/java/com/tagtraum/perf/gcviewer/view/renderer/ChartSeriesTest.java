@@ -0,0 +1,127 @@
+package com.tagtraum.perf.gcviewer.view.renderer;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Iterator;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.tagtraum.perf.gcviewer.UnittestHelper;
+import com.tagtraum.perf.gcviewer.UnittestHelper.FOLDER;
+import com.tagtraum.perf.gcviewer.imp.DataReaderSun1_6_0;
+import com.tagtraum.perf.gcviewer.model.AbstractGCEvent;
+import com.tagtraum.perf.gcviewer.model.GCEvent;
+import com.tagtraum.perf.gcviewer.model.GCModel;
+
+/**
+ * Tests {@link ChartSeries} against the events returned by the iterators of {@link GCModel}.
+ */
+public class ChartSeriesTest {
+
+    private GCModel model;
+
+    @Before
+    public void setUp() throws IOException {
+        model = UnittestHelper.getGCModelFromLogFile("SampleSun1_6_0CMS.txt", FOLDER.OPENJDK, DataReaderSun1_6_0.class);
+    }
+
+    @Test
+    public void gcTimes() {
+        ChartSeries.Points points = ChartSeries.extract(model, EnumSet.allOf(ChartSeries.Type.class), true)
+                .get(ChartSeries.Type.GC_TIMES);
+
+        int index = 0;
+        for (Iterator<AbstractGCEvent<?>> i = model.getStopTheWorldEvents(); i.hasNext(); index++) {
+            AbstractGCEvent<?> event = i.next();
+            assertThat("x " + index, points.getX(index), closeTo(event.getTimestamp() - model.getFirstPauseTimeStamp(), 0.0000001));
+            assertThat("y " + index, points.getY(index), closeTo(event.getPause(), 0.0000001));
+        }
+        assertThat("size", points.size(), is(index));
+    }
+
+    @Test
+    public void initialMarkLevel() {
+        ChartSeries.Points points = ChartSeries.extract(model, EnumSet.of(ChartSeries.Type.INITIAL_MARK_LEVEL), true)
+                .get(ChartSeries.Type.INITIAL_MARK_LEVEL);
+
+        int index = 0;
+        for (Iterator<GCEvent> i = model.getGCEvents(); i.hasNext();) {
+            GCEvent event = i.next();
+            if (event.isInitialMark()) {
+                assertThat("x " + index, points.getX(index), closeTo(event.getTimestamp() - model.getFirstPauseTimeStamp(), 0.0000001));
+                assertThat("y " + index, points.getY(index), closeTo(event.getPreUsed(), 0.0000001));
+                index++;
+            }
+        }
+        assertThat("number of initial marks", index, greaterThan(0));
+        assertThat("size", points.size(), is(index));
+    }
+
+    @Test
+    public void usedTenured() {
+        ChartSeries.Points points = ChartSeries.extract(model, EnumSet.of(ChartSeries.Type.USED_TENURED), true)
+                .get(ChartSeries.Type.USED_TENURED);
+
+        int index = 0;
+        for (Iterator<AbstractGCEvent<?>> i = model.getStopTheWorldEvents(); i.hasNext();) {
+            AbstractGCEvent<?> event = i.next();
+            if (event instanceof GCEvent && ((GCEvent) event).getTenured() != null && ((GCEvent) event).getTenured().getTotal() > 0) {
+                GCEvent tenured = ((GCEvent) event).getTenured();
+                assertThat("pre used " + index, points.getY(index), closeTo(tenured.getPreUsed(), 0.0000001));
+                assertThat("post used " + index, points.getY(index + 1), closeTo(tenured.getPostUsed(), 0.0000001));
+                assertThat("pause " + index, points.getX(index + 1) - points.getX(index), closeTo(event.getPause(), 0.0000001));
+                index += 2;
+            }
+        }
+        assertThat("number of points", index, greaterThan(0));
+        assertThat("size", points.size(), is(index));
+    }
+
+    @Test
+    public void isExtracted() {
+        ChartSeries chartSeries = ChartSeries.extract(model, EnumSet.of(ChartSeries.Type.USED_HEAP, ChartSeries.Type.GC_TIMES), true);
+
+        assertThat("subset", chartSeries.isExtracted(EnumSet.of(ChartSeries.Type.USED_HEAP), model, true), is(true));
+        assertThat("other series", chartSeries.isExtracted(EnumSet.of(ChartSeries.Type.TOTAL_HEAP), model, true), is(false));
+        assertThat("tenured hidden", chartSeries.isExtracted(EnumSet.of(ChartSeries.Type.USED_HEAP), model, false), is(false));
+    }
+
+    @Test
+    public void extend() {
+        GCModel growingModel = new GCModel();
+        for (int i = 0; i < model.size() / 2; i++) {
+            growingModel.add(model.get(i));
+        }
+        ChartSeries chartSeries = ChartSeries.extract(growingModel, EnumSet.allOf(ChartSeries.Type.class), true);
+        int prefixSize = chartSeries.get(ChartSeries.Type.USED_YOUNG).size();
+        for (int i = model.size() / 2; i < model.size(); i++) {
+            growingModel.add(model.get(i));
+        }
+
+        assertThat("extendable", chartSeries.isExtendableTo(EnumSet.allOf(ChartSeries.Type.class), growingModel, true), is(true));
+        ChartSeries extendedSeries = chartSeries.extend(growingModel);
+        ChartSeries expectedSeries = ChartSeries.extract(model, EnumSet.allOf(ChartSeries.Type.class), true);
+        for (ChartSeries.Type type : ChartSeries.Type.values()) {
+            ChartSeries.Points expected = expectedSeries.get(type);
+            ChartSeries.Points actual = extendedSeries.get(type);
+            assertThat(type + " size", actual.size(), is(expected.size()));
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(type + " x " + i, actual.getX(i), closeTo(expected.getX(i), 0.0000001));
+                assertThat(type + " y " + i, actual.getY(i), closeTo(expected.getY(i), 0.0000001));
+            }
+        }
+        assertThat("original series unchanged", chartSeries.get(ChartSeries.Type.USED_YOUNG).size(), is(prefixSize));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getNotExtracted() {
+        ChartSeries.extract(model, EnumSet.of(ChartSeries.Type.USED_HEAP), true).get(ChartSeries.Type.TOTAL_HEAP);
+    }
+
+}
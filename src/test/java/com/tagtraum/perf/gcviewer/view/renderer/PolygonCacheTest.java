@@ -0,0 +1,139 @@
+package com.tagtraum.perf.gcviewer.view.renderer;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+import com.tagtraum.perf.gcviewer.model.AbstractGCEvent.Type;
+import com.tagtraum.perf.gcviewer.model.GCEvent;
+import com.tagtraum.perf.gcviewer.model.GCModel;
+import com.tagtraum.perf.gcviewer.view.ModelChart;
+import com.tagtraum.perf.gcviewer.view.ModelChartImpl;
+import com.tagtraum.perf.gcviewer.view.model.GCPreferences;
+
+/**
+ * Tests the eviction of {@link PolygonCache} and its use by {@link PolygonChartRenderer}.
+ */
+public class PolygonCacheTest {
+
+    @Test
+    public void evictsLeastRecentlyUsedByCount() {
+        PolygonCache<String> cache = new PolygonCache<>(2, 1000);
+        cache.put("a", createPolygon(1));
+        cache.put("b", createPolygon(1));
+        cache.get("a");
+        cache.put("c", createPolygon(1));
+
+        assertThat("size", cache.size(), is(2));
+        assertThat("recently used", cache.get("a"), notNullValue());
+        assertThat("least recently used", cache.get("b"), nullValue());
+        assertThat("added", cache.get("c"), notNullValue());
+    }
+
+    @Test
+    public void evictsByPointBudget() {
+        PolygonCache<String> cache = new PolygonCache<>(10, 100);
+        cache.put("a", createPolygon(40));
+        cache.put("b", createPolygon(40));
+        cache.put("c", createPolygon(40));
+
+        assertThat("evicted", cache.get("a"), nullValue());
+        assertThat("kept", cache.get("b"), notNullValue());
+        assertThat("point count", cache.getPointCount(), is(80));
+    }
+
+    @Test
+    public void neverEvictsPolygonJustAdded() {
+        PolygonCache<String> cache = new PolygonCache<>(10, 100);
+        cache.put("a", createPolygon(40));
+        Polygon large = createPolygon(500);
+        cache.put("b", large);
+
+        assertThat("size", cache.size(), is(1));
+        assertThat("added", cache.get("b"), sameInstance(large));
+        assertThat("point count", cache.getPointCount(), is(500));
+    }
+
+    @Test
+    public void replaceAndRemove() {
+        PolygonCache<String> cache = new PolygonCache<>(10, 100);
+        cache.put("a", createPolygon(40));
+        cache.put("a", createPolygon(30));
+        cache.put("b", createPolygon(20));
+        assertThat("point count after replace", cache.getPointCount(), is(50));
+
+        cache.removeIf("a"::equals);
+        assertThat("removed", cache.get("a"), nullValue());
+        assertThat("point count after remove", cache.getPointCount(), is(20));
+    }
+
+    @Test
+    public void zoomBackUsesCachedPolygon() {
+        GCModel model = new GCModel();
+        model.add(new GCEvent(1.0, 100, 50, 1000, 0.1, Type.GC));
+        model.add(new GCEvent(2.0, 200, 50, 1000, 0.1, Type.GC));
+        ModelChartImpl modelChart = new ModelChartImpl();
+        modelChart.setModel(model, new GCPreferences());
+        CountingRenderer renderer = new CountingRenderer(modelChart);
+        renderer.setSize(200, 100);
+
+        paint(renderer);
+        modelChart.setScaleFactor(modelChart.getScaleFactor() * 2);
+        renderer.resetPolygon();
+        paint(renderer);
+        assertThat("computed after zooming in", renderer.computations, is(2));
+
+        modelChart.setScaleFactor(modelChart.getScaleFactor() / 2);
+        renderer.resetPolygon();
+        paint(renderer);
+        assertThat("computed after zooming back", renderer.computations, is(2));
+
+        renderer.clearPolygonCache();
+        renderer.resetPolygon();
+        paint(renderer);
+        assertThat("computed after clearing the cache", renderer.computations, is(3));
+    }
+
+    private static void paint(PolygonChartRenderer renderer) {
+        BufferedImage image = new BufferedImage(renderer.getWidth(), renderer.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setClip(0, 0, image.getWidth(), image.getHeight());
+        renderer.paintComponent(g2d);
+        g2d.dispose();
+    }
+
+    private static Polygon createPolygon(int points) {
+        Polygon polygon = new Polygon();
+        for (int i = 0; i < points; i++) {
+            polygon.addPoint(i, i);
+        }
+
+        return polygon;
+    }
+
+    private static class CountingRenderer extends PolygonChartRenderer {
+        private int computations;
+
+        CountingRenderer(ModelChartImpl modelChart) {
+            super(modelChart);
+            setDrawPolygon(true);
+        }
+
+        @Override
+        public Polygon computePolygon(ModelChart modelChart, GCModel model) {
+            computations++;
+            ScaledPolygon polygon = createMemoryScaledPolygon();
+            polygon.addPoint(0, 0);
+            polygon.addPoint(model.getRunningTime(), 0);
+            return polygon;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.tagtraum.perf.gcviewer.view.renderer;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.tagtraum.perf.gcviewer.view.renderer.PolygonChartRenderer.ScaledPolygon;
+
+/**
+ * Tests appending points to a reopened {@link ScaledPolygon}.
+ */
+public class ScaledPolygonTest {
+
+    private static final double RUNNING_TIME = 1000;
+
+    @Test
+    public void reopenWithoutMark() {
+        assertThat(new ScaledPolygon(1, 1, 100).reopen(), nullValue());
+    }
+
+    @Test
+    public void appendEqualsComputeAtOnce() {
+        // many points on the same pixels to trigger the optimisation of the polygon
+        Random random = new Random(42);
+        double[] xValues = new double[1000];
+        double[] yValues = new double[1000];
+        for (int i = 0; i < xValues.length; i++) {
+            xValues[i] = i * 0.5 + random.nextDouble() * 0.1;
+            yValues[i] = random.nextInt(4) * 10;
+        }
+
+        for (int split = 0; split < xValues.length; split += 37) {
+            ScaledPolygon expected = createClosedPolygon(new ScaledPolygon(0.3, 0.5, 100), xValues, yValues, 0, xValues.length);
+
+            ScaledPolygon prefix = createClosedPolygon(new ScaledPolygon(0.3, 0.5, 100), xValues, yValues, 0, split);
+            ScaledPolygon actual = createClosedPolygon(prefix.reopen(), xValues, yValues, split, xValues.length);
+
+            assertThat("npoints (split at " + split + ")", actual.npoints, is(expected.npoints));
+            assertThat("xpoints (split at " + split + ")",
+                    Arrays.copyOf(actual.xpoints, actual.npoints), is(Arrays.copyOf(expected.xpoints, expected.npoints)));
+            assertThat("ypoints (split at " + split + ")",
+                    Arrays.copyOf(actual.ypoints, actual.npoints), is(Arrays.copyOf(expected.ypoints, expected.npoints)));
+        }
+    }
+
+    private ScaledPolygon createClosedPolygon(ScaledPolygon polygon, double[] xValues, double[] yValues, int from, int to) {
+        for (int i = from; i < to; i++) {
+            polygon.addPoint(xValues[i], yValues[i]);
+        }
+        polygon.markEnd();
+        polygon.addPoint(RUNNING_TIME, 0.0d);
+        return polygon;
+    }
+
+}